@@ -3,7 +3,31 @@ package com.hasandag.exchange.common.client;
 import com.hasandag.exchange.common.dto.ExchangeRateResponse;
 import com.hasandag.exchange.common.enums.Currency;
 
+import java.util.List;
+
 public interface ExternalExchangeRateClient {
     
     ExchangeRateResponse getExchangeRate(Currency sourceCurrency, Currency targetCurrency);
+
+    /**
+     * Rates from {@code sourceCurrency} to every target, in target order. Implementations backed by a
+     * single upstream quote should take all of them from that one response.
+     */
+    default List<ExchangeRateResponse> getExchangeRateSnapshot(Currency sourceCurrency, List<Currency> targetCurrencies) {
+        return targetCurrencies.stream()
+                .map(targetCurrency -> getExchangeRate(sourceCurrency, targetCurrency))
+                .toList();
+    }
+
+    /**
+     * Rates between every ordered pair of distinct {@code currencies}. Implementations whose upstream
+     * quotes every currency against one base should derive all of them from a single response.
+     */
+    default List<ExchangeRateResponse> getExchangeRateMatrix(List<Currency> currencies) {
+        return currencies.stream()
+                .flatMap(sourceCurrency -> getExchangeRateSnapshot(sourceCurrency, currencies.stream()
+                        .filter(targetCurrency -> targetCurrency != sourceCurrency)
+                        .toList()).stream())
+                .toList();
+    }
 } 
\ No newline at end of file
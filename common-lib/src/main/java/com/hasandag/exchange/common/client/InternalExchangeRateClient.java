@@ -1,10 +1,28 @@
 package com.hasandag.exchange.common.client;
 
+import com.hasandag.exchange.common.dto.ExchangeRateRequest;
 import com.hasandag.exchange.common.dto.ExchangeRateResponse;
 import com.hasandag.exchange.common.enums.Currency;
 
+import java.util.List;
+
 public interface InternalExchangeRateClient {
 
     ExchangeRateResponse getExchangeRate(Currency sourceCurrency, Currency targetCurrency);
 
-} 
\ No newline at end of file
+    default List<ExchangeRateResponse> getExchangeRates(List<ExchangeRateRequest> requests) {
+        return requests.stream()
+                .map(request -> getExchangeRate(request.getSourceCurrency(), request.getTargetCurrency()))
+                .toList();
+    }
+
+    /**
+     * Rates from {@code sourceCurrency} to every target taken from one snapshot, in target order.
+     */
+    default List<ExchangeRateResponse> getExchangeRateSnapshot(Currency sourceCurrency, List<Currency> targetCurrencies) {
+        return getExchangeRates(targetCurrencies.stream()
+                .map(targetCurrency -> ExchangeRateRequest.of(sourceCurrency, targetCurrency))
+                .toList());
+    }
+
+} 
@@ -0,0 +1,330 @@
+package com.hasandag.exchange.common.codec;
+
+import com.hasandag.exchange.common.dto.cqrs.ConversionEvent;
+import com.hasandag.exchange.common.enums.Currency;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.UUID;
+
+/**
+ * Versioned binary encoding of {@link ConversionEvent}, several times smaller than its JSON form.
+ * <p>
+ * A message is one version byte followed by the fields in declaration order. Integers are
+ * variable-length (zig-zag for signed values); every nullable field starts with a tag byte, where
+ * {@code 0} means null. Identifiers in canonical UUID form take 16 bytes, other strings are UTF-8 with a
+ * length prefix. Amounts keep their exact scale and unscaled value, so decoded {@link BigDecimal}s
+ * compare equal to the originals including {@code scale()}. Currencies are their three-letter codes and
+ * timestamps are epoch seconds plus nanoseconds of the {@link LocalDateTime} read as UTC.
+ * <p>
+ * A new field or a changed layout needs a new version; {@link #decode} keeps reading every version it
+ * has ever written so consumers can be upgraded before producers. {@link ConversionEvent.EventType}
+ * constants are stored by position and may only be appended.
+ */
+public final class ConversionEventCodec {
+
+    public static final byte VERSION_1 = 1;
+    public static final byte CURRENT_VERSION = VERSION_1;
+
+    private static final byte NULL = 0;
+    private static final byte UUID_TAG = 1;
+    private static final byte TEXT_TAG = 2;
+    private static final byte COMPACT_DECIMAL = 1;
+    private static final byte BIG_DECIMAL = 2;
+    private static final byte PRESENT = 1;
+
+    private static final ConversionEvent.EventType[] EVENT_TYPES = ConversionEvent.EventType.values();
+
+    private ConversionEventCodec() {
+    }
+
+    public static byte[] encode(ConversionEvent event) {
+        Writer out = new Writer(96);
+        out.writeByte(CURRENT_VERSION);
+        out.writeString(event.getEventId());
+        out.writeString(event.getCommandId());
+        out.writeString(event.getTransactionId());
+        out.writeCurrency(event.getSourceCurrency());
+        out.writeCurrency(event.getTargetCurrency());
+        out.writeDecimal(event.getSourceAmount());
+        out.writeDecimal(event.getTargetAmount());
+        out.writeDecimal(event.getExchangeRate());
+        out.writeTimestamp(event.getTimestamp());
+        out.writeByte(event.getEventType() == null ? NULL : (byte) (event.getEventType().ordinal() + 1));
+        out.writeString(event.getUserId());
+        out.writeString(event.getCorrelationId());
+        out.writeString(event.getErrorMessage());
+        return out.toByteArray();
+    }
+
+    /**
+     * @throws IllegalArgumentException if the message is truncated, malformed or of an unknown version
+     */
+    public static ConversionEvent decode(byte[] message) {
+        Reader in = new Reader(message);
+        byte version = in.readByte();
+        if (version != VERSION_1) {
+            throw new IllegalArgumentException("Unsupported ConversionEvent encoding version: " + version);
+        }
+        ConversionEvent event = new ConversionEvent();
+        event.setEventId(in.readString());
+        event.setCommandId(in.readString());
+        event.setTransactionId(in.readString());
+        event.setSourceCurrency(in.readCurrency());
+        event.setTargetCurrency(in.readCurrency());
+        event.setSourceAmount(in.readDecimal());
+        event.setTargetAmount(in.readDecimal());
+        event.setExchangeRate(in.readDecimal());
+        event.setTimestamp(in.readTimestamp());
+        int eventType = in.readByte();
+        if (eventType < 0 || eventType > EVENT_TYPES.length) {
+            throw new IllegalArgumentException("Unknown event type tag: " + eventType);
+        }
+        event.setEventType(eventType == NULL ? null : EVENT_TYPES[eventType - 1]);
+        event.setUserId(in.readString());
+        event.setCorrelationId(in.readString());
+        event.setErrorMessage(in.readString());
+        if (in.remaining() != 0) {
+            throw new IllegalArgumentException(in.remaining() + " trailing bytes after ConversionEvent");
+        }
+        return event;
+    }
+
+    private static final class Writer {
+        private byte[] buffer;
+        private int position;
+
+        Writer(int capacity) {
+            buffer = new byte[capacity];
+        }
+
+        void writeByte(int value) {
+            ensure(1);
+            buffer[position++] = (byte) value;
+        }
+
+        void writeBytes(byte[] bytes) {
+            ensure(bytes.length);
+            System.arraycopy(bytes, 0, buffer, position, bytes.length);
+            position += bytes.length;
+        }
+
+        void writeLong(long value) {
+            ensure(8);
+            for (int shift = 56; shift >= 0; shift -= 8) {
+                buffer[position++] = (byte) (value >>> shift);
+            }
+        }
+
+        void writeVarLong(long value) {
+            ensure(10);
+            while ((value & ~0x7FL) != 0) {
+                buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            buffer[position++] = (byte) value;
+        }
+
+        void writeSignedVarLong(long value) {
+            writeVarLong((value << 1) ^ (value >> 63));
+        }
+
+        void writeString(String value) {
+            if (value == null) {
+                writeByte(NULL);
+                return;
+            }
+            UUID uuid = canonicalUuid(value);
+            if (uuid != null) {
+                writeByte(UUID_TAG);
+                writeLong(uuid.getMostSignificantBits());
+                writeLong(uuid.getLeastSignificantBits());
+            } else {
+                byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+                writeByte(TEXT_TAG);
+                writeVarLong(utf8.length);
+                writeBytes(utf8);
+            }
+        }
+
+        void writeCurrency(Currency currency) {
+            if (currency == null) {
+                writeByte(NULL);
+                return;
+            }
+            String code = currency.getCode();
+            writeByte(code.charAt(0));
+            writeByte(code.charAt(1));
+            writeByte(code.charAt(2));
+        }
+
+        void writeDecimal(BigDecimal value) {
+            if (value == null) {
+                writeByte(NULL);
+                return;
+            }
+            BigInteger unscaled = value.unscaledValue();
+            if (unscaled.bitLength() < 64) {
+                writeByte(COMPACT_DECIMAL);
+                writeSignedVarLong(value.scale());
+                writeSignedVarLong(unscaled.longValue());
+            } else {
+                byte[] bytes = unscaled.toByteArray();
+                writeByte(BIG_DECIMAL);
+                writeSignedVarLong(value.scale());
+                writeVarLong(bytes.length);
+                writeBytes(bytes);
+            }
+        }
+
+        void writeTimestamp(LocalDateTime timestamp) {
+            if (timestamp == null) {
+                writeByte(NULL);
+                return;
+            }
+            writeByte(PRESENT);
+            writeSignedVarLong(timestamp.toEpochSecond(ZoneOffset.UTC));
+            writeVarLong(timestamp.getNano());
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(buffer, position);
+        }
+
+        private void ensure(int bytes) {
+            if (position + bytes > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, position + bytes));
+            }
+        }
+
+        private static UUID canonicalUuid(String value) {
+            if (value.length() != 36 || value.charAt(8) != '-' || value.charAt(13) != '-'
+                    || value.charAt(18) != '-' || value.charAt(23) != '-') {
+                return null;
+            }
+            try {
+                UUID uuid = UUID.fromString(value);
+                return uuid.toString().equals(value) ? uuid : null;
+            } catch (IllegalArgumentException e) {
+                return null;
+            }
+        }
+    }
+
+    private static final class Reader {
+        private final byte[] buffer;
+        private int position;
+
+        Reader(byte[] buffer) {
+            this.buffer = buffer;
+        }
+
+        int remaining() {
+            return buffer.length - position;
+        }
+
+        byte readByte() {
+            require(1);
+            return buffer[position++];
+        }
+
+        byte[] readBytes(int length) {
+            require(length);
+            byte[] bytes = Arrays.copyOfRange(buffer, position, position + length);
+            position += length;
+            return bytes;
+        }
+
+        long readLong() {
+            require(8);
+            long value = 0;
+            for (int i = 0; i < 8; i++) {
+                value = (value << 8) | (buffer[position++] & 0xFF);
+            }
+            return value;
+        }
+
+        long readVarLong() {
+            long value = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                byte b = readByte();
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new IllegalArgumentException("Malformed variable-length integer");
+        }
+
+        long readSignedVarLong() {
+            long value = readVarLong();
+            return (value >>> 1) ^ -(value & 1);
+        }
+
+        int readLength() {
+            long length = readVarLong();
+            if (length < 0 || length > remaining()) {
+                throw new IllegalArgumentException("Length " + length + " exceeds the remaining " + remaining() + " bytes");
+            }
+            return (int) length;
+        }
+
+        String readString() {
+            byte tag = readByte();
+            return switch (tag) {
+                case NULL -> null;
+                case UUID_TAG -> new UUID(readLong(), readLong()).toString();
+                case TEXT_TAG -> new String(readBytes(readLength()), StandardCharsets.UTF_8);
+                default -> throw new IllegalArgumentException("Unknown string tag: " + tag);
+            };
+        }
+
+        Currency readCurrency() {
+            byte first = readByte();
+            if (first == NULL) {
+                return null;
+            }
+            require(2);
+            String code = new String(new byte[]{first, buffer[position++], buffer[position++]}, StandardCharsets.US_ASCII);
+            return Currency.fromCode(code);
+        }
+
+        BigDecimal readDecimal() {
+            byte tag = readByte();
+            return switch (tag) {
+                case NULL -> null;
+                case COMPACT_DECIMAL -> {
+                    int scale = Math.toIntExact(readSignedVarLong());
+                    yield BigDecimal.valueOf(readSignedVarLong(), scale);
+                }
+                case BIG_DECIMAL -> {
+                    int scale = Math.toIntExact(readSignedVarLong());
+                    yield new BigDecimal(new BigInteger(readBytes(readLength())), scale);
+                }
+                default -> throw new IllegalArgumentException("Unknown decimal tag: " + tag);
+            };
+        }
+
+        LocalDateTime readTimestamp() {
+            byte tag = readByte();
+            if (tag == NULL) {
+                return null;
+            }
+            if (tag != PRESENT) {
+                throw new IllegalArgumentException("Unknown timestamp tag: " + tag);
+            }
+            long epochSecond = readSignedVarLong();
+            return LocalDateTime.ofEpochSecond(epochSecond, Math.toIntExact(readVarLong()), ZoneOffset.UTC);
+        }
+
+        private void require(int bytes) {
+            if (bytes > remaining()) {
+                throw new IllegalArgumentException("ConversionEvent message truncated at byte " + position);
+            }
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.hasandag.exchange.common.codec;
+
+import com.hasandag.exchange.common.dto.cqrs.ConversionEvent;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+/**
+ * Kafka value deserializer for topics carrying {@link ConversionEvent}s in either encoding. Records marked
+ * by {@link ConversionEventSerializer#ENCODING_HEADER} are decoded with {@link ConversionEventCodec}; all
+ * others are handed to a {@link JsonDeserializer} configured from the same properties, so JSON records
+ * written before the switch stay readable.
+ */
+public class ConversionEventDeserializer implements Deserializer<Object> {
+
+    private final JsonDeserializer<Object> json = new JsonDeserializer<>();
+
+    @Override
+    public void configure(Map<String, ?> configs, boolean isKey) {
+        json.configure(configs, isKey);
+    }
+
+    @Override
+    public Object deserialize(String topic, byte[] data) {
+        return json.deserialize(topic, data);
+    }
+
+    @Override
+    public Object deserialize(String topic, Headers headers, byte[] data) {
+        Header encoding = headers.lastHeader(ConversionEventSerializer.ENCODING_HEADER);
+        if (encoding == null) {
+            return json.deserialize(topic, headers, data);
+        }
+        String value = new String(encoding.value(), StandardCharsets.US_ASCII);
+        if (!ConversionEventSerializer.BINARY_ENCODING.equals(value)) {
+            throw new SerializationException("Unsupported encoding '" + value + "' on " + topic);
+        }
+        if (data == null) {
+            return null;
+        }
+        try {
+            return ConversionEventCodec.decode(data);
+        } catch (RuntimeException e) {
+            throw new SerializationException("Cannot decode ConversionEvent from " + topic, e);
+        }
+    }
+
+    @Override
+    public void close() {
+        json.close();
+    }
+}
@@ -0,0 +1,56 @@
+package com.hasandag.exchange.common.codec;
+
+import com.hasandag.exchange.common.dto.cqrs.ConversionEvent;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Serializer;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Kafka value serializer that writes {@link ConversionEvent}s with {@link ConversionEventCodec} when
+ * {@link #ENCODING_CONFIG} is {@code binary} and marks them with the {@link #ENCODING_HEADER} header.
+ * Everything else, and every value while the setting is {@code json} (the default), goes through
+ * {@link JsonSerializer} as before. Pair it with {@link ConversionEventDeserializer}, which reads both.
+ */
+public class ConversionEventSerializer implements Serializer<Object> {
+
+    public static final String ENCODING_CONFIG = "conversion.event.encoding";
+    public static final String ENCODING_HEADER = "fx-encoding";
+    public static final String BINARY_ENCODING = "conversion-event-binary";
+
+    private final JsonSerializer<Object> json = new JsonSerializer<>();
+    private boolean binary;
+
+    @Override
+    public void configure(Map<String, ?> configs, boolean isKey) {
+        json.configure(configs, isKey);
+        Object encoding = configs.get(ENCODING_CONFIG);
+        binary = encoding != null && "binary".equals(encoding.toString().trim().toLowerCase(Locale.ROOT));
+    }
+
+    @Override
+    public byte[] serialize(String topic, Object data) {
+        if (binary && data instanceof ConversionEvent event) {
+            return ConversionEventCodec.encode(event);
+        }
+        return json.serialize(topic, data);
+    }
+
+    @Override
+    public byte[] serialize(String topic, Headers headers, Object data) {
+        headers.remove(ENCODING_HEADER);
+        if (binary && data instanceof ConversionEvent event) {
+            headers.add(ENCODING_HEADER, BINARY_ENCODING.getBytes(StandardCharsets.US_ASCII));
+            return ConversionEventCodec.encode(event);
+        }
+        return json.serialize(topic, headers, data);
+    }
+
+    @Override
+    public void close() {
+        json.close();
+    }
+}
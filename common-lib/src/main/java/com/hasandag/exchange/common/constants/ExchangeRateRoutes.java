@@ -0,0 +1,12 @@
+package com.hasandag.exchange.common.constants;
+
+public class ExchangeRateRoutes {
+
+    public static final String RATES_PREFIX = "rates.";
+
+    public static final String RATE = RATES_PREFIX + "get";
+
+    public static final String RATE_BATCH = RATES_PREFIX + "batch";
+
+    public static final String RATE_STREAM = RATES_PREFIX + "stream";
+}
@@ -6,5 +6,15 @@ public class KafkaConstants {
     
     public static final String CONVERSION_EVENT_TOPIC = FX_TOPIC_PREFIX + "event.conversion";
 
+    public static final String CONVERSION_PROJECTION_RETRY_TOPIC = CONVERSION_EVENT_TOPIC + ".projection";
+
+    public static final String CONVERSION_PROJECTION_DLT_TOPIC = CONVERSION_PROJECTION_RETRY_TOPIC + "-dlt";
+
+    public static final String EXCHANGE_RATE_SNAPSHOT_TOPIC = FX_TOPIC_PREFIX + "rate.snapshot";
+
     public static final String EVENT_HANDLER_GROUP = "event-handler-group";
+
+    public static final String PROJECTION_RETRY_GROUP = "projection-retry-group";
+
+    public static final String PROJECTION_DLT_REPLAY_GROUP = "projection-dlt-replay-group";
 } 
\ No newline at end of file
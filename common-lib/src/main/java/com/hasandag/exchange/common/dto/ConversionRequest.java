@@ -3,6 +3,7 @@ package com.hasandag.exchange.common.dto;
 import com.hasandag.exchange.common.enums.Currency;
 import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -25,4 +26,7 @@ public class ConversionRequest {
     
     @NotNull(message = "Target currency is required")
     private Currency targetCurrency;
+
+    @Size(max = 64, message = "Quote ID must be at most 64 characters")
+    private String quoteId;
 } 
\ No newline at end of file
@@ -0,0 +1,21 @@
+package com.hasandag.exchange.common.dto;
+
+import com.hasandag.exchange.common.enums.Currency;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExchangeRateRequest {
+
+    private Currency sourceCurrency;
+    private Currency targetCurrency;
+
+    public static ExchangeRateRequest of(Currency sourceCurrency, Currency targetCurrency) {
+        return new ExchangeRateRequest(sourceCurrency, targetCurrency);
+    }
+}
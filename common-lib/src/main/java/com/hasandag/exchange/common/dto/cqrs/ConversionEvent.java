@@ -1,6 +1,7 @@
 package com.hasandag.exchange.common.dto.cqrs;
 
 import com.hasandag.exchange.common.enums.Currency;
+import com.hasandag.exchange.common.id.TimeOrderedIds;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -8,7 +9,6 @@ import lombok.NoArgsConstructor;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
-import java.util.UUID;
 
 @Data
 @Builder
@@ -16,7 +16,7 @@ import java.util.UUID;
 @AllArgsConstructor
 public class ConversionEvent {
     @Builder.Default
-    private String eventId = UUID.randomUUID().toString();
+    private String eventId = TimeOrderedIds.nextString();
     private String commandId;
     private String transactionId;
     private Currency sourceCurrency;
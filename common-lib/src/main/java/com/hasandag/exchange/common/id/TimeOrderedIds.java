@@ -0,0 +1,66 @@
+package com.hasandag.exchange.common.id;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Generates RFC 9562 version 7 UUIDs: a 48-bit Unix millisecond timestamp followed by a 12-bit
+ * counter and 62 random bits.
+ * <p>
+ * IDs are strictly increasing within the JVM, both as {@link UUID}s and as their canonical
+ * strings. The counter starts at a random value below 2048 each millisecond; when it runs out,
+ * the timestamp is advanced by one millisecond instead of waiting, and the same applies if the
+ * wall clock moves backwards. Randomness comes from {@link ThreadLocalRandom}, so generation
+ * never blocks on an entropy source.
+ */
+public final class TimeOrderedIds {
+
+    private static final int COUNTER_BITS = 12;
+    private static final int COUNTER_SEED_BOUND = 1 << (COUNTER_BITS - 1);
+    private static final long VERSION_7 = 0x7000L;
+    private static final long VARIANT_RFC_9562 = 0x8000_0000_0000_0000L;
+    private static final long RANDOM_62_MASK = 0x3FFF_FFFF_FFFF_FFFFL;
+
+    /** Last issued {@code timestamp << 12 | counter}. */
+    private static final AtomicLong LAST = new AtomicLong();
+
+    private TimeOrderedIds() {
+    }
+
+    public static UUID next() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long state = nextState(System.currentTimeMillis(), random);
+
+        long timestamp = state >>> COUNTER_BITS;
+        long counter = state & ((1L << COUNTER_BITS) - 1);
+        long mostSignificant = (timestamp << 16) | VERSION_7 | counter;
+        long leastSignificant = VARIANT_RFC_9562 | (random.nextLong() & RANDOM_62_MASK);
+        return new UUID(mostSignificant, leastSignificant);
+    }
+
+    public static String nextString() {
+        return next().toString();
+    }
+
+    /**
+     * Milliseconds since the epoch encoded in a version 7 UUID.
+     */
+    public static long timestampOf(UUID uuid) {
+        if (uuid.version() != 7) {
+            throw new IllegalArgumentException("Not a version 7 UUID: " + uuid);
+        }
+        return uuid.getMostSignificantBits() >>> 16;
+    }
+
+    private static long nextState(long nowMillis, ThreadLocalRandom random) {
+        long fresh = (nowMillis << COUNTER_BITS) | random.nextInt(COUNTER_SEED_BOUND);
+        while (true) {
+            long last = LAST.get();
+            long candidate = (nowMillis > last >>> COUNTER_BITS) ? fresh : last + 1;
+            if (LAST.compareAndSet(last, candidate)) {
+                return candidate;
+            }
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.hasandag.exchange.common.money;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Converts columns of amounts in one pass: {@code out[i] = amounts[i] * rates[pairs[i]]}, with
+ * amounts and results in minor units and every rate held as an unscaled long at one shared
+ * {@code rateScale}. Results are rounded HALF_UP exactly like {@link ConversionCalculator}.
+ * <p>
+ * When the JVM runs with {@code --add-modules jdk.incubator.vector} the work is done with SIMD lanes
+ * by {@link VectorConversionKernel}; otherwise, or with {@code -Dconversion.kernel.vector=false}, the
+ * scalar loop is used. Both paths give identical results.
+ */
+@Slf4j
+public final class BulkConversionKernel {
+
+    public static final int MAX_RATE_SCALE = 18;
+
+    private static final boolean VECTORIZED = detectVectorSupport();
+
+    private BulkConversionKernel() {
+    }
+
+    public static boolean vectorized() {
+        return VECTORIZED;
+    }
+
+    /**
+     * @throws ArithmeticException      if a product does not fit in a long
+     * @throws IllegalArgumentException if {@code rateScale} is outside {@code [0, 18]}
+     */
+    public static void convert(long[] amounts, int[] pairs, long[] rates, int rateScale, long[] out, int length) {
+        if (rateScale < 0 || rateScale > MAX_RATE_SCALE) {
+            throw new IllegalArgumentException("Rate scale must be between 0 and " + MAX_RATE_SCALE + ": " + rateScale);
+        }
+        if (VECTORIZED) {
+            VectorConversionKernel.convert(amounts, pairs, rates, rateScale, out, length);
+        } else {
+            convertScalar(amounts, pairs, rates, rateScale, out, 0, length);
+        }
+    }
+
+    static void convertScalar(long[] amounts, int[] pairs, long[] rates, int rateScale, long[] out, int from, int to) {
+        for (int i = from; i < to; i++) {
+            out[i] = ConversionCalculator.multiplyAndRescale(
+                    amounts[i], Money.SCALE, rates[pairs[i]], rateScale, Money.SCALE);
+        }
+    }
+
+    private static boolean detectVectorSupport() {
+        if (!Boolean.parseBoolean(System.getProperty("conversion.kernel.vector", "true"))
+                || ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty()) {
+            return false;
+        }
+        try {
+            boolean supported = VectorConversionKernel.lanes() > 1;
+            log.info("Bulk conversion kernel using {} vector lanes", VectorConversionKernel.lanes());
+            return supported;
+        } catch (LinkageError e) {
+            log.warn("Vector API unavailable, using scalar bulk conversion: {}", e.toString());
+            return false;
+        }
+    }
+}
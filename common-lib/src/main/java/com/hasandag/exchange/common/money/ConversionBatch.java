@@ -0,0 +1,111 @@
+package com.hasandag.exchange.common.money;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Collects {@code (amount, rate)} pairs and converts them together through
+ * {@link BulkConversionKernel}. Results equal {@link ConversionCalculator#convert(BigDecimal, BigDecimal)}
+ * item by item; amounts or rates that do not fit the columnar layout (more than two decimal places,
+ * more than 18 digits) are converted through the calculator instead.
+ */
+public final class ConversionBatch {
+
+    private static final int MAX_LONG_DIGITS = 18;
+
+    private final BigDecimal[] amounts;
+    private final BigDecimal[] rates;
+    private final int[] pairs;
+    private final Map<BigDecimal, Integer> rateIndex = new HashMap<>();
+    private final List<BigDecimal> distinctRates = new ArrayList<>();
+    private int size;
+
+    public ConversionBatch(int capacity) {
+        this.amounts = new BigDecimal[capacity];
+        this.rates = new BigDecimal[capacity];
+        this.pairs = new int[capacity];
+    }
+
+    /**
+     * @return the slot of this item in the array returned by {@link #convert()}
+     */
+    public int add(BigDecimal amount, BigDecimal rate) {
+        if (size == amounts.length) {
+            throw new IllegalStateException("Conversion batch is full at " + size + " items");
+        }
+        amounts[size] = amount;
+        rates[size] = rate;
+        pairs[size] = rateIndex.computeIfAbsent(rate, key -> {
+            distinctRates.add(key);
+            return distinctRates.size() - 1;
+        });
+        return size++;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public BigDecimal[] convert() {
+        BigDecimal[] results = new BigDecimal[size];
+        if (size == 0) {
+            return results;
+        }
+
+        int rateScale = 0;
+        for (BigDecimal rate : distinctRates) {
+            rateScale = Math.max(rateScale, rate.scale());
+        }
+        rateScale = Math.min(rateScale, BulkConversionKernel.MAX_RATE_SCALE);
+
+        long[] rateTable = new long[distinctRates.size()];
+        boolean[] columnarRate = new boolean[distinctRates.size()];
+        for (int i = 0; i < rateTable.length; i++) {
+            Long unscaled = unscaledAt(distinctRates.get(i), rateScale);
+            columnarRate[i] = unscaled != null;
+            rateTable[i] = unscaled == null ? 0L : unscaled;
+        }
+
+        long[] minorUnits = new long[size];
+        int[] kernelPairs = Arrays.copyOf(pairs, size);
+        boolean[] columnar = new boolean[size];
+        for (int i = 0; i < size; i++) {
+            Long minor = columnarRate[pairs[i]] ? unscaledAt(amounts[i], Money.SCALE) : null;
+            columnar[i] = minor != null;
+            minorUnits[i] = minor == null ? 0L : minor;
+        }
+
+        long[] out = new long[size];
+        try {
+            BulkConversionKernel.convert(minorUnits, kernelPairs, rateTable, rateScale, out, size);
+        } catch (ArithmeticException overflow) {
+            Arrays.fill(columnar, false);
+        }
+
+        for (int i = 0; i < size; i++) {
+            results[i] = columnar[i]
+                    ? BigDecimal.valueOf(out[i], Money.SCALE)
+                    : ConversionCalculator.convert(amounts[i], rates[i]);
+        }
+        return results;
+    }
+
+    /**
+     * Returns {@code value} as an unscaled long at {@code scale}, or {@code null} when that would lose
+     * digits or not fit.
+     */
+    private static Long unscaledAt(BigDecimal value, int scale) {
+        if (value.scale() > scale) {
+            return null;
+        }
+        BigDecimal rescaled = value.setScale(scale);
+        if (rescaled.precision() > MAX_LONG_DIGITS) {
+            return null;
+        }
+        return rescaled.unscaledValue().longValue();
+    }
+}
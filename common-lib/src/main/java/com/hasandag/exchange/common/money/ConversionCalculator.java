@@ -0,0 +1,91 @@
+package com.hasandag.exchange.common.money;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Computes {@code amount * rate} rounded HALF_UP to {@link Money#SCALE} decimal places.
+ * <p>
+ * Operands are multiplied as unscaled longs with overflow checks and rescaled by an exact
+ * power-of-ten division; the result is identical to
+ * {@code amount.multiply(rate).setScale(2, RoundingMode.HALF_UP)}. Operands or products that do
+ * not fit in a long fall back to {@link BigDecimal}.
+ */
+public final class ConversionCalculator {
+
+    private static final int MAX_LONG_DIGITS = 18;
+
+    private static final long[] POWERS_OF_TEN = new long[MAX_LONG_DIGITS + 1];
+
+    static {
+        POWERS_OF_TEN[0] = 1L;
+        for (int i = 1; i < POWERS_OF_TEN.length; i++) {
+            POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10L;
+        }
+    }
+
+    private ConversionCalculator() {
+    }
+
+    public static BigDecimal convert(BigDecimal amount, BigDecimal rate) {
+        if (amount.precision() <= MAX_LONG_DIGITS && rate.precision() <= MAX_LONG_DIGITS) {
+            try {
+                long minorUnits = multiplyAndRescale(
+                        unscaledLong(amount), amount.scale(), unscaledLong(rate), rate.scale(), Money.SCALE);
+                return BigDecimal.valueOf(minorUnits, Money.SCALE);
+            } catch (ArithmeticException overflow) {
+                // fall through to the exact BigDecimal path
+            }
+        }
+        return amount.multiply(rate).setScale(Money.SCALE, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * @throws ArithmeticException if the product does not fit in a long
+     */
+    public static Money convert(Money amount, ScaledRate rate) {
+        return Money.ofMinor(multiplyAndRescale(
+                amount.minorUnits(), Money.SCALE, rate.unscaled(), rate.scale(), Money.SCALE));
+    }
+
+    /**
+     * Returns {@code (a * 10^-aScale) * (b * 10^-bScale)} as an unscaled long at {@code targetScale},
+     * rounding HALF_UP.
+     *
+     * @throws ArithmeticException if an intermediate or the result does not fit in a long
+     */
+    static long multiplyAndRescale(long a, int aScale, long b, int bScale, int targetScale) {
+        long product = Math.multiplyExact(a, b);
+        long shift = (long) aScale + bScale - targetScale;
+
+        if (shift <= 0) {
+            return Math.multiplyExact(product, powerOfTen(-shift));
+        }
+        if (shift > MAX_LONG_DIGITS) {
+            // |product| < 10^19, so the quotient is 0 or a rounding step away from it
+            throw new ArithmeticException("Rescale by 10^" + shift + " exceeds long range");
+        }
+
+        long divisor = POWERS_OF_TEN[(int) shift];
+        long quotient = product / divisor;
+        long remainder = Math.abs(product % divisor);
+        if (remainder >= divisor - remainder) {
+            quotient += Long.signum(product);
+        }
+        return quotient;
+    }
+
+    static long unscaledLong(BigDecimal value) {
+        if (value.precision() > MAX_LONG_DIGITS) {
+            throw new ArithmeticException("Value has more than " + MAX_LONG_DIGITS + " digits: " + value);
+        }
+        return value.scale() == 0 ? value.longValueExact() : value.scaleByPowerOfTen(value.scale()).longValueExact();
+    }
+
+    static long powerOfTen(long exponent) {
+        if (exponent > MAX_LONG_DIGITS) {
+            throw new ArithmeticException("10^" + exponent + " exceeds long range");
+        }
+        return POWERS_OF_TEN[(int) exponent];
+    }
+}
@@ -0,0 +1,33 @@
+package com.hasandag.exchange.common.money;
+
+import java.math.BigDecimal;
+
+/**
+ * Monetary amount held as a long count of minor units (cents) at {@link #SCALE} decimal places.
+ */
+public record Money(long minorUnits) {
+
+    public static final int SCALE = 2;
+
+    public static Money ofMinor(long minorUnits) {
+        return new Money(minorUnits);
+    }
+
+    /**
+     * Converts an amount with at most {@link #SCALE} decimal places.
+     *
+     * @throws ArithmeticException if the amount has more decimal places or does not fit in a long
+     */
+    public static Money of(BigDecimal amount) {
+        return new Money(amount.setScale(SCALE).unscaledValue().longValueExact());
+    }
+
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(minorUnits, SCALE);
+    }
+
+    @Override
+    public String toString() {
+        return toBigDecimal().toPlainString();
+    }
+}
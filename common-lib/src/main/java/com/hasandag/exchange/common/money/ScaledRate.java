@@ -0,0 +1,20 @@
+package com.hasandag.exchange.common.money;
+
+import java.math.BigDecimal;
+
+/**
+ * Exchange rate held as {@code unscaled * 10^-scale}.
+ */
+public record ScaledRate(long unscaled, int scale) {
+
+    /**
+     * @throws ArithmeticException if the rate has more than 18 significant digits
+     */
+    public static ScaledRate of(BigDecimal rate) {
+        return new ScaledRate(ConversionCalculator.unscaledLong(rate), rate.scale());
+    }
+
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(unscaled, scale);
+    }
+}
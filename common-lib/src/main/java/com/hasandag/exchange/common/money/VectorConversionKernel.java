@@ -0,0 +1,75 @@
+package com.hasandag.exchange.common.money;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * SIMD implementation of {@link BulkConversionKernel}. Only loaded when {@code jdk.incubator.vector}
+ * is in the boot layer.
+ * <p>
+ * There is no packed 64-bit division, so {@code (|amount * rate| + divisor / 2) / divisor} is estimated
+ * in double precision and corrected by one step against the exact remainder. The estimate is within
+ * one of the true quotient while it stays below 2^50; lane blocks holding an amount large enough to
+ * break that bound, or to overflow the product, are handed to the scalar path.
+ */
+final class VectorConversionKernel {
+
+    private static final VectorSpecies<Long> LONGS = LongVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Double> DOUBLES = VectorSpecies.of(double.class, LONGS.vectorShape());
+    private static final int QUOTIENT_BITS = 50;
+
+    private VectorConversionKernel() {
+    }
+
+    static int lanes() {
+        return LONGS.length();
+    }
+
+    static void convert(long[] amounts, int[] pairs, long[] rates, int rateScale, long[] out, int length) {
+        long divisor = ConversionCalculator.powerOfTen(rateScale);
+        long half = divisor / 2;
+        long limit = amountLimit(rates, divisor, half);
+
+        int step = LONGS.length();
+        int upper = LONGS.loopBound(length);
+        int i = 0;
+        for (; i < upper; i += step) {
+            LongVector amount = LongVector.fromArray(LONGS, amounts, i);
+            if (amount.compare(VectorOperators.GT, limit).or(amount.compare(VectorOperators.LT, -limit)).anyTrue()) {
+                BulkConversionKernel.convertScalar(amounts, pairs, rates, rateScale, out, i, i + step);
+                continue;
+            }
+            LongVector product = amount.mul(LongVector.fromArray(LONGS, rates, 0, pairs, i));
+            LongVector numerator = product.abs().add(half);
+
+            DoubleVector estimate = ((DoubleVector) numerator.convertShape(VectorOperators.L2D, DOUBLES, 0)).div((double) divisor);
+            LongVector quotient = (LongVector) estimate.convertShape(VectorOperators.D2L, LONGS, 0);
+            LongVector remainder = numerator.sub(quotient.mul(divisor));
+            quotient = quotient
+                    .sub(1, remainder.compare(VectorOperators.LT, 0))
+                    .add(1, remainder.compare(VectorOperators.GE, divisor));
+
+            VectorMask<Long> negative = product.compare(VectorOperators.LT, 0);
+            quotient.lanewise(VectorOperators.NEG, negative).intoArray(out, i);
+        }
+        BulkConversionKernel.convertScalar(amounts, pairs, rates, rateScale, out, i, length);
+    }
+
+    /**
+     * Largest {@code |amount|} for which {@code |amount * rate| + half} fits in a long and its quotient
+     * by {@code divisor} stays below 2^50 for every rate in the table.
+     */
+    private static long amountLimit(long[] rates, long divisor, long half) {
+        long maxRate = 0;
+        for (long rate : rates) {
+            maxRate = Math.max(maxRate, rate == Long.MIN_VALUE ? Long.MAX_VALUE : Math.abs(rate));
+        }
+        long ceiling = divisor < (1L << (Long.SIZE - 1 - QUOTIENT_BITS))
+                ? (divisor << QUOTIENT_BITS) - 1
+                : Long.MAX_VALUE;
+        return maxRate == 0 ? Long.MAX_VALUE : (ceiling - half) / maxRate;
+    }
+}
@@ -0,0 +1,115 @@
+package com.hasandag.exchange.common.codec;
+
+import com.hasandag.exchange.common.dto.cqrs.ConversionEvent;
+import com.hasandag.exchange.common.enums.Currency;
+import com.hasandag.exchange.common.id.TimeOrderedIds;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link ConversionEventCodec} with the JSON encoding used on the conversion topic, for a
+ * typical event, through the same Kafka serializer and deserializer the services configure. Message
+ * sizes are printed before the run.
+ * <p>
+ * Run with {@code mvn -pl common-lib test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.hasandag.exchange.common.codec.ConversionEventCodecBenchmark}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConversionEventCodecBenchmark {
+
+    private static final String TOPIC = "fx.event.conversion";
+
+    private final ConversionEventSerializer jsonSerializer = new ConversionEventSerializer();
+    private final ConversionEventSerializer binarySerializer = new ConversionEventSerializer();
+    private final ConversionEventDeserializer deserializer = new ConversionEventDeserializer();
+
+    private ConversionEvent event;
+    private byte[] json;
+    private byte[] binary;
+    private RecordHeaders jsonHeaders;
+    private RecordHeaders binaryHeaders;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        jsonSerializer.configure(Map.of(), false);
+        binarySerializer.configure(Map.of(ConversionEventSerializer.ENCODING_CONFIG, "binary"), false);
+        deserializer.configure(Map.of(
+                JsonDeserializer.TRUSTED_PACKAGES, "com.hasandag.exchange.common.dto.cqrs",
+                JsonDeserializer.USE_TYPE_INFO_HEADERS, false,
+                JsonDeserializer.VALUE_DEFAULT_TYPE, ConversionEvent.class.getName()), false);
+
+        event = sampleEvent();
+        jsonHeaders = new RecordHeaders();
+        json = jsonSerializer.serialize(TOPIC, jsonHeaders, event);
+        binaryHeaders = new RecordHeaders();
+        binary = binarySerializer.serialize(TOPIC, binaryHeaders, event);
+    }
+
+    @Benchmark
+    public byte[] serializeJson() {
+        return jsonSerializer.serialize(TOPIC, new RecordHeaders(), event);
+    }
+
+    @Benchmark
+    public byte[] serializeBinary() {
+        return binarySerializer.serialize(TOPIC, new RecordHeaders(), event);
+    }
+
+    @Benchmark
+    public Object deserializeJson() {
+        return deserializer.deserialize(TOPIC, jsonHeaders, json);
+    }
+
+    @Benchmark
+    public Object deserializeBinary() {
+        return deserializer.deserialize(TOPIC, binaryHeaders, binary);
+    }
+
+    private static ConversionEvent sampleEvent() {
+        return ConversionEvent.builder()
+                .commandId(TimeOrderedIds.nextString())
+                .transactionId(TimeOrderedIds.nextString())
+                .sourceCurrency(Currency.USD)
+                .targetCurrency(Currency.EUR)
+                .sourceAmount(new BigDecimal("1250.00"))
+                .targetAmount(new BigDecimal("1062.50"))
+                .exchangeRate(new BigDecimal("0.850000"))
+                .timestamp(LocalDateTime.now())
+                .eventType(ConversionEvent.EventType.CONVERSION_CREATED)
+                .correlationId(TimeOrderedIds.nextString())
+                .build();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        ConversionEventCodecBenchmark sizes = new ConversionEventCodecBenchmark();
+        sizes.setUp();
+        System.out.printf("JSON %d bytes, binary %d bytes%n", sizes.json.length, sizes.binary.length);
+        new Runner(new OptionsBuilder()
+                .include(ConversionEventCodecBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,167 @@
+package com.hasandag.exchange.common.codec;
+
+import com.hasandag.exchange.common.dto.cqrs.ConversionEvent;
+import com.hasandag.exchange.common.enums.Currency;
+import com.hasandag.exchange.common.id.TimeOrderedIds;
+import net.jqwik.api.Arbitraries;
+import net.jqwik.api.Arbitrary;
+import net.jqwik.api.Combinators;
+import net.jqwik.api.Example;
+import net.jqwik.api.ForAll;
+import net.jqwik.api.Property;
+import net.jqwik.api.Provide;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConversionEventCodecPropertyTest {
+
+    private static final Map<String, Object> CONSUMER_CONFIG = Map.of(
+            JsonDeserializer.TRUSTED_PACKAGES, "com.hasandag.exchange.common.dto.cqrs",
+            JsonDeserializer.USE_TYPE_INFO_HEADERS, false,
+            JsonDeserializer.VALUE_DEFAULT_TYPE, ConversionEvent.class.getName());
+
+    @Property(tries = 1000)
+    void decodeRestoresEveryFieldIncludingDecimalScale(@ForAll("events") ConversionEvent event) {
+        ConversionEvent decoded = ConversionEventCodec.decode(ConversionEventCodec.encode(event));
+
+        assertEquals(event, decoded);
+    }
+
+    @Property(tries = 200)
+    void truncatedMessagesAreRejected(@ForAll("events") ConversionEvent event) {
+        byte[] encoded = ConversionEventCodec.encode(event);
+        for (int length = 0; length < encoded.length; length++) {
+            byte[] truncated = Arrays.copyOf(encoded, length);
+            assertThrows(IllegalArgumentException.class, () -> ConversionEventCodec.decode(truncated));
+        }
+    }
+
+    @Example
+    void unknownVersionIsRejected() {
+        byte[] encoded = ConversionEventCodec.encode(typicalEvent());
+        encoded[0] = 2;
+
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> ConversionEventCodec.decode(encoded));
+        assertTrue(e.getMessage().contains("version"));
+    }
+
+    @Example
+    void typicalEventIsAFractionOfItsJsonSize() {
+        ConversionEvent event = typicalEvent();
+        ConversionEventSerializer jsonSerializer = new ConversionEventSerializer();
+        jsonSerializer.configure(Map.of(), false);
+
+        int jsonSize = jsonSerializer.serialize("topic", new RecordHeaders(), event).length;
+        int binarySize = ConversionEventCodec.encode(event).length;
+
+        assertTrue(binarySize * 3 < jsonSize, binarySize + " bytes binary vs " + jsonSize + " bytes JSON");
+    }
+
+    @Example
+    void deserializerReadsBothEncodingsByHeader() {
+        ConversionEvent event = typicalEvent();
+        ConversionEventSerializer binarySerializer = new ConversionEventSerializer();
+        binarySerializer.configure(Map.of(ConversionEventSerializer.ENCODING_CONFIG, "binary"), false);
+        ConversionEventSerializer jsonSerializer = new ConversionEventSerializer();
+        jsonSerializer.configure(Map.of(), false);
+        ConversionEventDeserializer deserializer = new ConversionEventDeserializer();
+        deserializer.configure(CONSUMER_CONFIG, false);
+
+        RecordHeaders binaryHeaders = new RecordHeaders();
+        byte[] binary = binarySerializer.serialize("topic", binaryHeaders, event);
+        assertNotNull(binaryHeaders.lastHeader(ConversionEventSerializer.ENCODING_HEADER));
+        assertEquals(event, deserializer.deserialize("topic", binaryHeaders, binary));
+
+        RecordHeaders jsonHeaders = new RecordHeaders();
+        jsonHeaders.add(ConversionEventSerializer.ENCODING_HEADER, ConversionEventSerializer.BINARY_ENCODING.getBytes());
+        byte[] json = jsonSerializer.serialize("topic", jsonHeaders, event);
+        assertNull(jsonHeaders.lastHeader(ConversionEventSerializer.ENCODING_HEADER));
+        assertEquals(event, deserializer.deserialize("topic", jsonHeaders, json));
+    }
+
+    @Example
+    void corruptBinaryRecordFailsAsSerializationException() {
+        ConversionEventDeserializer deserializer = new ConversionEventDeserializer();
+        deserializer.configure(CONSUMER_CONFIG, false);
+        RecordHeaders headers = new RecordHeaders();
+        headers.add(ConversionEventSerializer.ENCODING_HEADER, ConversionEventSerializer.BINARY_ENCODING.getBytes());
+
+        assertThrows(SerializationException.class, () -> deserializer.deserialize("topic", headers, new byte[]{1, 9}));
+    }
+
+    @Provide
+    Arbitrary<ConversionEvent> events() {
+        Arbitrary<String> ids = Arbitraries.oneOf(
+                Arbitraries.create(TimeOrderedIds::nextString),
+                Arbitraries.strings().ofMaxLength(40),
+                Arbitraries.just(null));
+        Arbitrary<Currency> currencies = Arbitraries.of(Currency.class).injectNull(0.1);
+        Arbitrary<ConversionEvent.EventType> types = Arbitraries.of(ConversionEvent.EventType.class).injectNull(0.1);
+        Arbitrary<LocalDateTime> timestamps = Combinators.combine(
+                        Arbitraries.longs().between(-62_135_596_800L, 253_402_300_799L),
+                        Arbitraries.integers().between(0, 999_999_999))
+                .as((seconds, nanos) -> LocalDateTime.ofEpochSecond(seconds, nanos, ZoneOffset.UTC))
+                .injectNull(0.1);
+
+        Arbitrary<ConversionEvent> head = Combinators.combine(ids, ids, ids, currencies, currencies, decimals(), decimals(), decimals())
+                .as((eventId, commandId, transactionId, source, target, sourceAmount, targetAmount, rate) -> {
+                    ConversionEvent event = new ConversionEvent();
+                    event.setEventId(eventId);
+                    event.setCommandId(commandId);
+                    event.setTransactionId(transactionId);
+                    event.setSourceCurrency(source);
+                    event.setTargetCurrency(target);
+                    event.setSourceAmount(sourceAmount);
+                    event.setTargetAmount(targetAmount);
+                    event.setExchangeRate(rate);
+                    return event;
+                });
+        return Combinators.combine(head, timestamps, types, ids, ids, ids)
+                .as((event, timestamp, type, userId, correlationId, errorMessage) -> {
+                    event.setTimestamp(timestamp);
+                    event.setEventType(type);
+                    event.setUserId(userId);
+                    event.setCorrelationId(correlationId);
+                    event.setErrorMessage(errorMessage);
+                    return event;
+                });
+    }
+
+    private Arbitrary<BigDecimal> decimals() {
+        Arbitrary<BigInteger> unscaled = Arbitraries.oneOf(
+                Arbitraries.longs().map(BigInteger::valueOf),
+                Arbitraries.bigIntegers().between(BigInteger.TEN.pow(30).negate(), BigInteger.TEN.pow(30)));
+        return Combinators.combine(unscaled, Arbitraries.integers().between(-5, 40))
+                .as(BigDecimal::new)
+                .injectNull(0.1);
+    }
+
+    private static ConversionEvent typicalEvent() {
+        return ConversionEvent.builder()
+                .commandId(TimeOrderedIds.nextString())
+                .transactionId(TimeOrderedIds.nextString())
+                .sourceCurrency(Currency.USD)
+                .targetCurrency(Currency.EUR)
+                .sourceAmount(new BigDecimal("1250.00"))
+                .targetAmount(new BigDecimal("1062.50"))
+                .exchangeRate(new BigDecimal("0.850000"))
+                .timestamp(LocalDateTime.of(2025, 3, 14, 9, 26, 53, 589_000_000))
+                .eventType(ConversionEvent.EventType.CONVERSION_CREATED)
+                .correlationId(TimeOrderedIds.nextString())
+                .build();
+    }
+}
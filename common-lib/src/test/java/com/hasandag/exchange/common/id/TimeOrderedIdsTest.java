@@ -0,0 +1,78 @@
+package com.hasandag.exchange.common.id;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TimeOrderedIdsTest {
+
+    @Test
+    void testVersionVariantAndTimestamp() {
+        long before = System.currentTimeMillis();
+        UUID id = TimeOrderedIds.next();
+        long after = System.currentTimeMillis();
+
+        assertEquals(7, id.version());
+        assertEquals(2, id.variant());
+        long timestamp = TimeOrderedIds.timestampOf(id);
+        assertTrue(timestamp >= before && timestamp <= after + 1, "timestamp " + timestamp);
+    }
+
+    @Test
+    void testIdsAreStrictlyIncreasingAsUuidsAndStrings() {
+        UUID previous = TimeOrderedIds.next();
+        for (int i = 0; i < 100_000; i++) {
+            UUID current = TimeOrderedIds.next();
+            assertTrue(current.compareTo(previous) > 0, current + " <= " + previous);
+            assertTrue(current.toString().compareTo(previous.toString()) > 0, current + " <= " + previous);
+            previous = current;
+        }
+    }
+
+    @Test
+    void testConcurrentGenerationIsUniqueAndPerThreadOrdered() throws InterruptedException {
+        int threads = 8;
+        int perThread = 20_000;
+        ConcurrentLinkedQueue<List<UUID>> results = new ConcurrentLinkedQueue<>();
+        CountDownLatch start = new CountDownLatch(1);
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+            for (int t = 0; t < threads; t++) {
+                executor.submit(() -> {
+                    List<UUID> ids = new ArrayList<>(perThread);
+                    start.await();
+                    for (int i = 0; i < perThread; i++) {
+                        ids.add(TimeOrderedIds.next());
+                    }
+                    results.add(ids);
+                    return null;
+                });
+            }
+            start.countDown();
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+        }
+
+        Set<UUID> unique = new HashSet<>();
+        for (List<UUID> ids : results) {
+            List<UUID> sorted = new ArrayList<>(ids);
+            Collections.sort(sorted);
+            assertEquals(sorted, ids);
+            unique.addAll(ids);
+        }
+        assertEquals(threads * perThread, unique.size());
+    }
+}
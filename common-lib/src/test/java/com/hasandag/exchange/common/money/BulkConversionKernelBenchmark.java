@@ -0,0 +1,80 @@
+package com.hasandag.exchange.common.money;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Items per second of the scalar and vector bulk conversion kernels over a column of {@value #ITEMS}
+ * amounts spread across {@code pairs} currency pairs.
+ * <p>
+ * Run with {@code mvn -pl common-lib test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.hasandag.exchange.common.money.BulkConversionKernelBenchmark}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@OperationsPerInvocation(BulkConversionKernelBenchmark.ITEMS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+public class BulkConversionKernelBenchmark {
+
+    static final int ITEMS = 1 << 16;
+    private static final int RATE_SCALE = 6;
+
+    @Param({"4", "32"})
+    private int pairs;
+
+    private final long[] amounts = new long[ITEMS];
+    private final int[] pairIndex = new int[ITEMS];
+    private final long[] out = new long[ITEMS];
+    private long[] rates;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        rates = new long[pairs];
+        for (int i = 0; i < pairs; i++) {
+            rates[i] = random.nextLong(1, 2_000_000L);
+        }
+        for (int i = 0; i < ITEMS; i++) {
+            amounts[i] = random.nextLong(1, 1_000_000_000L);
+            pairIndex[i] = random.nextInt(pairs);
+        }
+    }
+
+    @Benchmark
+    public long[] scalar() {
+        BulkConversionKernel.convertScalar(amounts, pairIndex, rates, RATE_SCALE, out, 0, ITEMS);
+        return out;
+    }
+
+    @Benchmark
+    public long[] vector() {
+        VectorConversionKernel.convert(amounts, pairIndex, rates, RATE_SCALE, out, ITEMS);
+        return out;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(BulkConversionKernelBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,115 @@
+package com.hasandag.exchange.common.money;
+
+import net.jqwik.api.Arbitraries;
+import net.jqwik.api.Arbitrary;
+import net.jqwik.api.Combinators;
+import net.jqwik.api.Example;
+import net.jqwik.api.ForAll;
+import net.jqwik.api.From;
+import net.jqwik.api.Property;
+import net.jqwik.api.Provide;
+import net.jqwik.api.Tuple;
+import net.jqwik.api.constraints.IntRange;
+import net.jqwik.api.constraints.Size;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class BulkConversionKernelPropertyTest {
+
+    @Property(tries = 500)
+    void vectorKernelMatchesScalarKernel(@ForAll("amountColumns") List<Long> amountColumn,
+                                         @ForAll @Size(min = 1, max = 6) List<@IntRange(min = 1, max = 2_000_000_000) Integer> rateColumn,
+                                         @ForAll @IntRange(min = 0, max = 10) int rateScale) {
+        long[] amounts = amountColumn.stream().mapToLong(Long::longValue).toArray();
+        long[] rates = rateColumn.stream().mapToLong(Integer::longValue).toArray();
+        int[] pairs = new int[amounts.length];
+        for (int i = 0; i < pairs.length; i++) {
+            pairs[i] = (int) Math.floorMod(amounts[i] * 31 + i, (long) rates.length);
+        }
+
+        long[] expected = new long[amounts.length];
+        boolean overflow = false;
+        try {
+            BulkConversionKernel.convertScalar(amounts, pairs, rates, rateScale, expected, 0, amounts.length);
+        } catch (ArithmeticException e) {
+            overflow = true;
+        }
+
+        long[] actual = new long[amounts.length];
+        if (overflow) {
+            assertThrows(ArithmeticException.class,
+                    () -> VectorConversionKernel.convert(amounts, pairs, rates, rateScale, actual, amounts.length));
+        } else {
+            VectorConversionKernel.convert(amounts, pairs, rates, rateScale, actual, amounts.length);
+            assertArrayEquals(expected, actual);
+        }
+    }
+
+    @Property(tries = 500)
+    void batchMatchesCalculator(@ForAll @Size(max = 40) List<@From("amounts") BigDecimal> amounts,
+                                @ForAll @Size(min = 1, max = 5) List<@From("rates") BigDecimal> rates) {
+        ConversionBatch batch = new ConversionBatch(amounts.size());
+        for (int i = 0; i < amounts.size(); i++) {
+            batch.add(amounts.get(i), rates.get(i % rates.size()));
+        }
+
+        BigDecimal[] results = batch.convert();
+
+        for (int i = 0; i < amounts.size(); i++) {
+            assertEquals(ConversionCalculator.convert(amounts.get(i), rates.get(i % rates.size())), results[i]);
+        }
+    }
+
+    @Example
+    void roundsHalfUpAwayFromZeroInEveryLane() {
+        long[] amounts = new long[37];
+        int[] pairs = new int[amounts.length];
+        for (int i = 0; i < amounts.length; i++) {
+            amounts[i] = (i / 2) % 2 == 0 ? 1 : -1;
+            pairs[i] = i % 2;
+        }
+        long[] rates = {5000, 4999};
+        long[] out = new long[amounts.length];
+
+        VectorConversionKernel.convert(amounts, pairs, rates, 4, out, amounts.length);
+
+        for (int i = 0; i < amounts.length; i++) {
+            assertEquals(pairs[i] == 0 ? amounts[i] : 0, out[i], "lane " + i);
+        }
+    }
+
+    @Example
+    void rejectsUnsupportedRateScale() {
+        assertThrows(IllegalArgumentException.class,
+                () -> BulkConversionKernel.convert(new long[1], new int[1], new long[]{1}, 19, new long[1], 1));
+    }
+
+    @Provide
+    Arbitrary<List<Long>> amountColumns() {
+        Arbitrary<Long> amount = Arbitraries.frequencyOf(
+                Tuple.of(20, Arbitraries.longs().between(-100_000_000_000L, 100_000_000_000L)),
+                Tuple.of(1, Arbitraries.longs()));
+        return amount.list().ofMaxSize(70);
+    }
+
+    @Provide
+    Arbitrary<BigDecimal> amounts() {
+        return Combinators.combine(
+                Arbitraries.longs().between(1, 100_000_000_000L),
+                Arbitraries.integers().between(0, 3)
+        ).as(BigDecimal::valueOf);
+    }
+
+    @Provide
+    Arbitrary<BigDecimal> rates() {
+        return Combinators.combine(
+                Arbitraries.longs().between(1, 10_000_000_000L),
+                Arbitraries.integers().between(0, 10)
+        ).as(BigDecimal::valueOf);
+    }
+}
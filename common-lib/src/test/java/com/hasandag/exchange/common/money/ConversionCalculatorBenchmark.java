@@ -0,0 +1,82 @@
+package com.hasandag.exchange.common.money;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the fixed-point conversion path with plain {@link BigDecimal} arithmetic.
+ * <p>
+ * Run with {@code mvn -pl common-lib test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.hasandag.exchange.common.money.ConversionCalculatorBenchmark}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConversionCalculatorBenchmark {
+
+    private static final int SAMPLES = 1024;
+
+    private final BigDecimal[] amounts = new BigDecimal[SAMPLES];
+    private final BigDecimal[] rates = new BigDecimal[SAMPLES];
+    private final Money[] monies = new Money[SAMPLES];
+    private final ScaledRate[] scaledRates = new ScaledRate[SAMPLES];
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        for (int i = 0; i < SAMPLES; i++) {
+            amounts[i] = BigDecimal.valueOf(random.nextLong(1, 10_000_000L), 2);
+            rates[i] = BigDecimal.valueOf(random.nextLong(1, 2_000_000L), 6);
+            monies[i] = Money.of(amounts[i]);
+            scaledRates[i] = ScaledRate.of(rates[i]);
+        }
+    }
+
+    @Benchmark
+    public void bigDecimal(Blackhole blackhole) {
+        for (int i = 0; i < SAMPLES; i++) {
+            blackhole.consume(amounts[i].multiply(rates[i]).setScale(Money.SCALE, RoundingMode.HALF_UP));
+        }
+    }
+
+    @Benchmark
+    public void calculatorBigDecimal(Blackhole blackhole) {
+        for (int i = 0; i < SAMPLES; i++) {
+            blackhole.consume(ConversionCalculator.convert(amounts[i], rates[i]));
+        }
+    }
+
+    @Benchmark
+    public void calculatorMoney(Blackhole blackhole) {
+        for (int i = 0; i < SAMPLES; i++) {
+            blackhole.consume(ConversionCalculator.convert(monies[i], scaledRates[i]).minorUnits());
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(ConversionCalculatorBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,89 @@
+package com.hasandag.exchange.common.money;
+
+import net.jqwik.api.Arbitraries;
+import net.jqwik.api.Arbitrary;
+import net.jqwik.api.Combinators;
+import net.jqwik.api.Example;
+import net.jqwik.api.ForAll;
+import net.jqwik.api.Property;
+import net.jqwik.api.Provide;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ConversionCalculatorPropertyTest {
+
+    @Property(tries = 5000)
+    void convertMatchesBigDecimalForRequestAmounts(@ForAll("amounts") BigDecimal amount, @ForAll("rates") BigDecimal rate) {
+        assertEquals(reference(amount, rate), ConversionCalculator.convert(amount, rate));
+    }
+
+    @Property(tries = 5000)
+    void convertMatchesBigDecimalForArbitraryOperands(@ForAll("anyDecimals") BigDecimal amount, @ForAll("anyDecimals") BigDecimal rate) {
+        assertEquals(reference(amount, rate), ConversionCalculator.convert(amount, rate));
+    }
+
+    @Property(tries = 2000)
+    void moneyConversionMatchesBigDecimal(@ForAll("amounts") BigDecimal amount, @ForAll("rates") BigDecimal rate) {
+        Money money = Money.of(amount.setScale(Money.SCALE, RoundingMode.DOWN));
+        ScaledRate scaledRate = ScaledRate.of(rate);
+
+        BigInteger product = BigInteger.valueOf(money.minorUnits()).multiply(BigInteger.valueOf(scaledRate.unscaled()));
+        if (product.bitLength() > Long.SIZE - 1) {
+            assertThrows(ArithmeticException.class, () -> ConversionCalculator.convert(money, scaledRate));
+            return;
+        }
+
+        assertEquals(reference(money.toBigDecimal(), rate), ConversionCalculator.convert(money, scaledRate).toBigDecimal());
+    }
+
+    @Example
+    void roundsHalfUpAwayFromZero() {
+        assertEquals(new BigDecimal("0.01"), ConversionCalculator.convert(new BigDecimal("0.01"), new BigDecimal("0.5")));
+        assertEquals(new BigDecimal("-0.01"), ConversionCalculator.convert(new BigDecimal("-0.01"), new BigDecimal("0.5")));
+        assertEquals(new BigDecimal("0.00"), ConversionCalculator.convert(new BigDecimal("0.01"), new BigDecimal("0.4999")));
+    }
+
+    @Example
+    void fallsBackToBigDecimalOnOverflow() {
+        BigDecimal amount = new BigDecimal("92233720368547758.07");
+        BigDecimal rate = new BigDecimal("1234.5678");
+
+        assertEquals(reference(amount, rate), ConversionCalculator.convert(amount, rate));
+        assertThrows(ArithmeticException.class,
+                () -> ConversionCalculator.convert(Money.of(amount), ScaledRate.of(rate)));
+    }
+
+    @Provide
+    Arbitrary<BigDecimal> amounts() {
+        return Combinators.combine(
+                Arbitraries.longs().between(1, 100_000_000_000L),
+                Arbitraries.integers().between(0, 4)
+        ).as(BigDecimal::valueOf);
+    }
+
+    @Provide
+    Arbitrary<BigDecimal> rates() {
+        return Combinators.combine(
+                Arbitraries.longs().between(1, 10_000_000_000L),
+                Arbitraries.integers().between(0, 10)
+        ).as(BigDecimal::valueOf);
+    }
+
+    @Provide
+    Arbitrary<BigDecimal> anyDecimals() {
+        Arbitrary<BigInteger> unscaled = Arbitraries.oneOf(
+                Arbitraries.longs().map(BigInteger::valueOf),
+                Arbitraries.bigIntegers().between(BigInteger.TEN.pow(25).negate(), BigInteger.TEN.pow(25)));
+        return Combinators.combine(unscaled, Arbitraries.integers().between(-6, 24))
+                .as(BigDecimal::new);
+    }
+
+    private static BigDecimal reference(BigDecimal amount, BigDecimal rate) {
+        return amount.multiply(rate).setScale(Money.SCALE, RoundingMode.HALF_UP);
+    }
+}
@@ -4,16 +4,18 @@ import com.hasandag.exchange.common.client.InternalExchangeRateClient;
 import com.hasandag.exchange.common.dto.ConversionRequest;
 import com.hasandag.exchange.common.dto.ConversionResponse;
 import com.hasandag.exchange.common.dto.ExchangeRateResponse;
+import com.hasandag.exchange.common.id.TimeOrderedIds;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.item.ItemProcessor;
 import org.springframework.lang.NonNull;
 
-import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.time.LocalDateTime;
-import java.util.UUID;
 
+/**
+ * Resolves the rate for each item. Target amounts are left unset and computed for the whole chunk by
+ * {@link ConversionItemWriter}.
+ */
 @RequiredArgsConstructor
 @Slf4j
 public class ConversionItemProcessor implements ItemProcessor<ConversionRequest, ConversionResponse> {
@@ -28,16 +30,11 @@ public class ConversionItemProcessor implements ItemProcessor<ConversionRequest,
                     request.getTargetCurrency()
             );
 
-            BigDecimal targetAmount = request.getSourceAmount()
-                    .multiply(rateResponse.getRate())
-                    .setScale(2, RoundingMode.HALF_UP);
-
             return ConversionResponse.builder()
-                    .transactionId(UUID.randomUUID().toString())
+                    .transactionId(TimeOrderedIds.nextString())
                     .sourceCurrency(request.getSourceCurrency())
                     .targetCurrency(request.getTargetCurrency())
                     .sourceAmount(request.getSourceAmount())
-                    .targetAmount(targetAmount)
                     .exchangeRate(rateResponse.getRate())
                     .timestamp(LocalDateTime.now())
                     .build();
@@ -1,12 +1,14 @@
 package com.hasandag.exchange.conversion.batch;
 
 import com.hasandag.exchange.common.dto.ConversionResponse;
+import com.hasandag.exchange.common.money.ConversionBatch;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.item.Chunk;
 import org.springframework.batch.item.ItemWriter;
 import org.springframework.batch.item.support.CompositeItemWriter;
 import org.springframework.lang.NonNull;
 
+import java.math.BigDecimal;
 import java.util.List;
 
 @Slf4j
@@ -27,7 +29,20 @@ public class ConversionItemWriter implements ItemWriter<ConversionResponse> {
     @Override
     public void write(@NonNull Chunk<? extends ConversionResponse> chunk) throws Exception {
         log.debug("Writing chunk of {} conversion responses", chunk.size());
+        priceChunk(chunk);
         compositeWriter.write(chunk);
         log.debug("Successfully completed writing chunk of {} items", chunk.size());
     }
+
+    private void priceChunk(Chunk<? extends ConversionResponse> chunk) {
+        ConversionBatch batch = new ConversionBatch(chunk.size());
+        for (ConversionResponse response : chunk) {
+            batch.add(response.getSourceAmount(), response.getExchangeRate());
+        }
+        BigDecimal[] targetAmounts = batch.convert();
+        int i = 0;
+        for (ConversionResponse response : chunk) {
+            response.setTargetAmount(targetAmounts[i++]);
+        }
+    }
 } 
\ No newline at end of file
@@ -2,7 +2,7 @@ package com.hasandag.exchange.conversion.batch;
 
 import com.hasandag.exchange.common.dto.ConversionResponse;
 import com.hasandag.exchange.conversion.model.CurrencyConversionEntity;
-import com.hasandag.exchange.conversion.repository.query.CurrencyConversionPostgresRepository;
+import com.hasandag.exchange.conversion.repository.query.CurrencyConversionProjectionWriter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.item.Chunk;
@@ -16,7 +16,7 @@ import java.util.List;
 @RequiredArgsConstructor
 public class CurrencyConversionPostgresItemWriter implements ItemWriter<ConversionResponse> {
 
-    private final CurrencyConversionPostgresRepository postgresRepository;
+    private final CurrencyConversionProjectionWriter projectionWriter;
 
     @Override
     public void write(@NonNull Chunk<? extends ConversionResponse> chunk) throws Exception {
@@ -32,8 +32,8 @@ public class CurrencyConversionPostgresItemWriter implements ItemWriter<Conversi
 
         if (!entities.isEmpty()) {
             try {
-                postgresRepository.saveAll(entities);
-                log.debug("Successfully saved {} items to PostgreSQL", entities.size());
+                int inserted = projectionWriter.insertIgnoringDuplicates(entities);
+                log.debug("Saved {} of {} items to PostgreSQL", inserted, entities.size());
             } catch (Exception e) {
                 log.error("Error saving to PostgreSQL: {}", e.getMessage(), e);
                 throw new RuntimeException("Failed to save batch to PostgreSQL", e);
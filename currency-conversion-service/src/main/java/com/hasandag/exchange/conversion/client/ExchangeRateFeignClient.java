@@ -6,10 +6,16 @@ import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 
+import java.util.List;
+
 @FeignClient(name = "exchange-rate-service", url = "${conversion.exchange-rate-service.url:http://localhost:8083}/api/v1/exchange-rates")
 public interface ExchangeRateFeignClient {
 
     @GetMapping
     ExchangeRateResponse getExchangeRate(@RequestParam("sourceCurrency") Currency sourceCurrency,
                                        @RequestParam("targetCurrency") Currency targetCurrency);
+
+    @GetMapping("/snapshot")
+    List<ExchangeRateResponse> getExchangeRateSnapshot(@RequestParam("sourceCurrency") Currency sourceCurrency,
+                                                       @RequestParam("targetCurrencies") List<Currency> targetCurrencies);
 } 
\ No newline at end of file
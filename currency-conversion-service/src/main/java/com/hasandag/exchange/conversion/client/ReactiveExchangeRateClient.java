@@ -0,0 +1,13 @@
+package com.hasandag.exchange.conversion.client;
+
+import com.hasandag.exchange.common.dto.ExchangeRateResponse;
+import com.hasandag.exchange.common.enums.Currency;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveExchangeRateClient {
+
+    /**
+     * Non-blocking rate lookup; errors are signalled as {@code RateServiceException}.
+     */
+    Mono<ExchangeRateResponse> fetchExchangeRate(Currency sourceCurrency, Currency targetCurrency);
+}
@@ -7,9 +7,13 @@ import com.hasandag.exchange.common.exception.RateServiceException;
 import com.hasandag.exchange.conversion.client.ExchangeRateFeignClient;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 @Component
+@ConditionalOnProperty(name = "conversion.rates.client", havingValue = "feign", matchIfMissing = true)
 @Slf4j
 @RequiredArgsConstructor
 public class FeignInternalExchangeRateClient implements InternalExchangeRateClient {
@@ -33,4 +37,19 @@ public class FeignInternalExchangeRateClient implements InternalExchangeRateClie
                              sourceCurrency, targetCurrency, ex.getMessage()), ex);
         }
     }
-} 
\ No newline at end of file
+
+    @Override
+    public List<ExchangeRateResponse> getExchangeRateSnapshot(Currency sourceCurrency, List<Currency> targetCurrencies) {
+        log.debug("Getting exchange rate snapshot from {} to {} using Feign client", sourceCurrency, targetCurrencies);
+
+        try {
+            return feignClient.getExchangeRateSnapshot(sourceCurrency, targetCurrencies);
+        } catch (Exception ex) {
+            log.error("Failed to get exchange rate snapshot from {} to {}: {}",
+                     sourceCurrency, targetCurrencies, ex.getMessage());
+            throw new RateServiceException(
+                String.format("Unable to get exchange rate snapshot from %s to %s: %s",
+                             sourceCurrency, targetCurrencies, ex.getMessage()), ex);
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.hasandag.exchange.conversion.client.impl;
+
+import com.hasandag.exchange.common.client.InternalExchangeRateClient;
+import com.hasandag.exchange.common.constants.ExchangeRateRoutes;
+import com.hasandag.exchange.common.dto.ExchangeRateRequest;
+import com.hasandag.exchange.common.dto.ExchangeRateResponse;
+import com.hasandag.exchange.common.enums.Currency;
+import com.hasandag.exchange.common.exception.RateServiceException;
+import com.hasandag.exchange.conversion.client.ReactiveExchangeRateClient;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.messaging.rsocket.RSocketRequester;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.List;
+
+@Component
+@Slf4j
+@ConditionalOnProperty(name = "conversion.rates.client", havingValue = "rsocket")
+public class RSocketInternalExchangeRateClient implements InternalExchangeRateClient, ReactiveExchangeRateClient, DisposableBean {
+
+    private static final ParameterizedTypeReference<List<ExchangeRateResponse>> RATE_LIST =
+            new ParameterizedTypeReference<>() {};
+
+    private final RSocketRequester requester;
+    private final Duration requestTimeout;
+
+    public RSocketInternalExchangeRateClient(
+            RSocketRequester.Builder requesterBuilder,
+            @Value("${conversion.exchange-rate-service.rsocket.host:localhost}") String host,
+            @Value("${conversion.exchange-rate-service.rsocket.port:7083}") int port,
+            @Value("${conversion.exchange-rate-service.rsocket.request-timeout:2s}") Duration requestTimeout) {
+        this.requestTimeout = requestTimeout;
+        this.requester = requesterBuilder
+                .rsocketConnector(connector -> connector
+                        .keepAlive(Duration.ofSeconds(20), Duration.ofSeconds(90))
+                        .reconnect(Retry.backoff(Long.MAX_VALUE, Duration.ofMillis(200)).maxBackoff(Duration.ofSeconds(5))))
+                .tcp(host, port);
+        log.info("RSocket exchange rate client configured for {}:{}", host, port);
+    }
+
+    @Override
+    public ExchangeRateResponse getExchangeRate(Currency sourceCurrency, Currency targetCurrency) {
+        log.debug("Getting exchange rate from {} to {} over RSocket", sourceCurrency, targetCurrency);
+        return fetchExchangeRate(sourceCurrency, targetCurrency).block();
+    }
+
+    @Override
+    public Mono<ExchangeRateResponse> fetchExchangeRate(Currency sourceCurrency, Currency targetCurrency) {
+        return requester.route(ExchangeRateRoutes.RATE)
+                .data(ExchangeRateRequest.of(sourceCurrency, targetCurrency))
+                .retrieveMono(ExchangeRateResponse.class)
+                .timeout(requestTimeout)
+                .onErrorMap(ex -> new RateServiceException(
+                        String.format("Unable to get exchange rate from %s to %s: %s",
+                                sourceCurrency, targetCurrency, ex.getMessage()), ex))
+                .switchIfEmpty(Mono.error(new RateServiceException("Empty exchange rate response")));
+    }
+
+    @Override
+    public List<ExchangeRateResponse> getExchangeRates(List<ExchangeRateRequest> requests) {
+        log.debug("Getting {} exchange rates over RSocket", requests.size());
+        return requester.route(ExchangeRateRoutes.RATE_BATCH)
+                .data(requests)
+                .retrieveMono(RATE_LIST)
+                .timeout(requestTimeout)
+                .onErrorMap(ex -> new RateServiceException("Unable to get exchange rates: " + ex.getMessage(), ex))
+                .switchIfEmpty(Mono.error(new RateServiceException("Empty exchange rate response")))
+                .block();
+    }
+
+    public Flux<ExchangeRateResponse> streamExchangeRates(List<ExchangeRateRequest> requests) {
+        return requester.route(ExchangeRateRoutes.RATE_STREAM)
+                .data(requests)
+                .retrieveFlux(ExchangeRateResponse.class);
+    }
+
+    @Override
+    public void destroy() {
+        requester.dispose();
+    }
+}
@@ -0,0 +1,81 @@
+package com.hasandag.exchange.conversion.client.impl;
+
+import com.hasandag.exchange.common.client.InternalExchangeRateClient;
+import com.hasandag.exchange.common.dto.ExchangeRateResponse;
+import com.hasandag.exchange.common.enums.Currency;
+import com.hasandag.exchange.common.exception.RateServiceException;
+import com.hasandag.exchange.conversion.client.ReactiveExchangeRateClient;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+@Component
+@Slf4j
+@ConditionalOnProperty(name = "conversion.rates.client", havingValue = "webclient")
+public class WebClientInternalExchangeRateClient implements InternalExchangeRateClient, ReactiveExchangeRateClient {
+
+    private static final String EXCHANGE_RATES_PATH = "/api/v1/exchange-rates";
+    private static final ParameterizedTypeReference<List<ExchangeRateResponse>> RATE_LIST =
+            new ParameterizedTypeReference<>() {};
+
+    private final WebClient webClient;
+
+    public WebClientInternalExchangeRateClient(@Qualifier("exchangeRateServiceWebClient") WebClient webClient) {
+        this.webClient = webClient;
+    }
+
+    @Override
+    public ExchangeRateResponse getExchangeRate(Currency sourceCurrency, Currency targetCurrency) {
+        log.debug("Getting exchange rate from {} to {} using WebClient", sourceCurrency, targetCurrency);
+        return fetchExchangeRate(sourceCurrency, targetCurrency).block();
+    }
+
+    @Override
+    public Mono<ExchangeRateResponse> fetchExchangeRate(Currency sourceCurrency, Currency targetCurrency) {
+        return webClient.get()
+                .uri(uriBuilder -> uriBuilder.path(EXCHANGE_RATES_PATH)
+                        .queryParam("sourceCurrency", sourceCurrency.getCode())
+                        .queryParam("targetCurrency", targetCurrency.getCode())
+                        .build())
+                .retrieve()
+                .onStatus(HttpStatusCode::isError, clientResponse -> clientResponse.bodyToMono(String.class)
+                        .defaultIfEmpty("")
+                        .flatMap(body -> Mono.error(new RateServiceException(
+                                "Exchange rate service returned " + clientResponse.statusCode() + ": " + body))))
+                .bodyToMono(ExchangeRateResponse.class)
+                .switchIfEmpty(Mono.error(new RateServiceException("Empty exchange rate response")))
+                .onErrorMap(ex -> !(ex instanceof RateServiceException), ex -> new RateServiceException(
+                        String.format("Unable to get exchange rate from %s to %s: %s",
+                                sourceCurrency, targetCurrency, ex.getMessage()), ex))
+                .doOnError(ex -> log.error("Failed to get exchange rate from {} to {}: {}",
+                        sourceCurrency, targetCurrency, ex.getMessage()));
+    }
+
+    @Override
+    public List<ExchangeRateResponse> getExchangeRateSnapshot(Currency sourceCurrency, List<Currency> targetCurrencies) {
+        log.debug("Getting exchange rate snapshot from {} to {} using WebClient", sourceCurrency, targetCurrencies);
+        return webClient.get()
+                .uri(uriBuilder -> uriBuilder.path(EXCHANGE_RATES_PATH + "/snapshot")
+                        .queryParam("sourceCurrency", sourceCurrency.getCode())
+                        .queryParam("targetCurrencies", targetCurrencies.stream().map(Currency::getCode).toArray())
+                        .build())
+                .retrieve()
+                .onStatus(HttpStatusCode::isError, clientResponse -> clientResponse.bodyToMono(String.class)
+                        .defaultIfEmpty("")
+                        .flatMap(body -> Mono.error(new RateServiceException(
+                                "Exchange rate service returned " + clientResponse.statusCode() + ": " + body))))
+                .bodyToMono(RATE_LIST)
+                .switchIfEmpty(Mono.error(new RateServiceException("Empty exchange rate response")))
+                .onErrorMap(ex -> !(ex instanceof RateServiceException), ex -> new RateServiceException(
+                        String.format("Unable to get exchange rate snapshot from %s to %s: %s",
+                                sourceCurrency, targetCurrencies, ex.getMessage()), ex))
+                .block();
+    }
+}
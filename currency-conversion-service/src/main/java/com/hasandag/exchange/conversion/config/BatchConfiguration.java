@@ -9,7 +9,7 @@ import com.hasandag.exchange.conversion.batch.CsvConversionItemReader;
 import com.hasandag.exchange.conversion.batch.CurrencyConversionMongoItemWriter;
 import com.hasandag.exchange.conversion.batch.CurrencyConversionPostgresItemWriter;
 import com.hasandag.exchange.conversion.repository.command.CurrencyConversionMongoRepository;
-import com.hasandag.exchange.conversion.repository.query.CurrencyConversionPostgresRepository;
+import com.hasandag.exchange.conversion.repository.query.CurrencyConversionProjectionWriter;
 import feign.FeignException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -48,7 +48,7 @@ public class BatchConfiguration {
     private final JobRepository jobRepository;
     private final PlatformTransactionManager transactionManager;
     private final InternalExchangeRateClient internalExchangeRateClient;
-    private final CurrencyConversionPostgresRepository postgresRepository;
+    private final CurrencyConversionProjectionWriter projectionWriter;
     private final CurrencyConversionMongoRepository mongoRepository;
 
     @Bean
@@ -68,7 +68,7 @@ public class BatchConfiguration {
         log.info("Creating composite conversion item writer");
         
         List<ItemWriter<? super ConversionResponse>> delegates = new ArrayList<>();
-        delegates.add(new CurrencyConversionPostgresItemWriter(postgresRepository));
+        delegates.add(new CurrencyConversionPostgresItemWriter(projectionWriter));
         delegates.add(new CurrencyConversionMongoItemWriter(mongoRepository));
         
         return new ConversionItemWriter(delegates);
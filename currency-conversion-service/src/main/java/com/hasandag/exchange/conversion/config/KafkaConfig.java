@@ -1,6 +1,11 @@
 package com.hasandag.exchange.conversion.config;
 
+import com.hasandag.exchange.common.codec.ConversionEventDeserializer;
+import com.hasandag.exchange.common.codec.ConversionEventSerializer;
 import com.hasandag.exchange.common.constants.KafkaConstants;
+import com.hasandag.exchange.common.dto.ExchangeRateResponse;
+import com.hasandag.exchange.conversion.kafka.consumer.ProjectionCatchUpPolicy;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.apache.kafka.clients.admin.AdminClientConfig;
 import org.apache.kafka.clients.admin.NewTopic;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
@@ -8,15 +13,16 @@ import org.apache.kafka.clients.producer.ProducerConfig;
 import org.apache.kafka.common.serialization.StringDeserializer;
 import org.apache.kafka.common.serialization.StringSerializer;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.config.TopicBuilder;
 import org.springframework.kafka.core.*;
+import org.springframework.kafka.listener.ContainerProperties;
 import org.springframework.kafka.support.serializer.ErrorHandlingDeserializer;
 import org.springframework.kafka.support.serializer.JsonDeserializer;
-import org.springframework.kafka.support.serializer.JsonSerializer;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -24,10 +30,35 @@ import java.util.Map;
 @Configuration
 public class KafkaConfig {
 
+    private static final String LOCAL_RATES_FROM_KAFKA =
+            "'${conversion.rates.provider:feign}' == 'local' and '${conversion.rates.client:feign}' != 'rsocket'";
+
     private final String bootstrapServers;
+    private final String compressionType;
+    private final int lingerMs;
+    private final int batchSize;
+    private final String eventEncoding;
+    private final long bufferMemory;
+    private final int maxBlockMs;
+    private final int maxInFlightRequests;
 
-    public KafkaConfig(@Value("${spring.kafka.bootstrap-servers}") String bootstrapServers) {
+    public KafkaConfig(
+            @Value("${spring.kafka.bootstrap-servers}") String bootstrapServers,
+            @Value("${kafka.producer.compression-type:lz4}") String compressionType,
+            @Value("${kafka.producer.linger-ms:5}") int lingerMs,
+            @Value("${kafka.producer.batch-size:65536}") int batchSize,
+            @Value("${kafka.conversion-event.encoding:json}") String eventEncoding,
+            @Value("${kafka.producer.buffer-memory:33554432}") long bufferMemory,
+            @Value("${kafka.producer.max-block-ms:5000}") int maxBlockMs,
+            @Value("${kafka.producer.max-in-flight-requests-per-connection:5}") int maxInFlightRequests) {
         this.bootstrapServers = bootstrapServers;
+        this.compressionType = compressionType;
+        this.lingerMs = lingerMs;
+        this.batchSize = batchSize;
+        this.eventEncoding = eventEncoding;
+        this.bufferMemory = bufferMemory;
+        this.maxBlockMs = maxBlockMs;
+        this.maxInFlightRequests = maxInFlightRequests;
     }
 
     @Bean
@@ -57,38 +88,52 @@ public class KafkaConfig {
     }
 
     @Bean
-    public ProducerFactory<String, Object> producerFactory() {
+    public ProducerFactory<String, Object> producerFactory(MeterRegistry meterRegistry) {
         Map<String, Object> configProps = new HashMap<>();
         configProps.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
         configProps.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
-        configProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class);
+        configProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, ConversionEventSerializer.class);
+        configProps.put(ConversionEventSerializer.ENCODING_CONFIG, eventEncoding);
         configProps.put(ProducerConfig.REQUEST_TIMEOUT_MS_CONFIG, 5000);
         configProps.put(ProducerConfig.DELIVERY_TIMEOUT_MS_CONFIG, 10000);
         configProps.put(ProducerConfig.CONNECTIONS_MAX_IDLE_MS_CONFIG, 10000);
         configProps.put(ProducerConfig.RECONNECT_BACKOFF_MS_CONFIG, 1000);
         configProps.put(ProducerConfig.RETRY_BACKOFF_MS_CONFIG, 1000);
-        return new DefaultKafkaProducerFactory<>(configProps);
+        configProps.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+        configProps.put(ProducerConfig.ACKS_CONFIG, "all");
+        configProps.put(ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION, maxInFlightRequests);
+        configProps.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, compressionType);
+        configProps.put(ProducerConfig.LINGER_MS_CONFIG, lingerMs);
+        configProps.put(ProducerConfig.BATCH_SIZE_CONFIG, batchSize);
+        configProps.put(ProducerConfig.BUFFER_MEMORY_CONFIG, bufferMemory);
+        configProps.put(ProducerConfig.MAX_BLOCK_MS_CONFIG, maxBlockMs);
+        DefaultKafkaProducerFactory<String, Object> factory = new DefaultKafkaProducerFactory<>(configProps);
+        factory.addListener(new MicrometerProducerListener<>(meterRegistry));
+        return factory;
     }
 
     @Bean
-    public KafkaTemplate<String, Object> kafkaTemplate() {
-        return new KafkaTemplate<>(producerFactory());
+    public KafkaTemplate<String, Object> kafkaTemplate(ProducerFactory<String, Object> producerFactory) {
+        return new KafkaTemplate<>(producerFactory);
     }
 
 
     @Bean
-    public ConsumerFactory<String, Object> conversionEventConsumerFactory() {
+    public ConsumerFactory<String, Object> conversionEventConsumerFactory(
+            @Value("${kafka.consumer.conversion-event.max-poll-records:5000}") int maxPollRecords) {
         Map<String, Object> configProps = new HashMap<>();
         configProps.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
         configProps.put(ConsumerConfig.GROUP_ID_CONFIG, KafkaConstants.EVENT_HANDLER_GROUP);
         configProps.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, ErrorHandlingDeserializer.class);
         configProps.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ErrorHandlingDeserializer.class);
         configProps.put(ErrorHandlingDeserializer.KEY_DESERIALIZER_CLASS, StringDeserializer.class);
-        configProps.put(ErrorHandlingDeserializer.VALUE_DESERIALIZER_CLASS, JsonDeserializer.class);
+        configProps.put(ErrorHandlingDeserializer.VALUE_DESERIALIZER_CLASS, ConversionEventDeserializer.class);
         configProps.put(JsonDeserializer.TRUSTED_PACKAGES, "com.hasandag.exchange.common.dto.cqrs.*, com.hasandag.exchange.common.dto.*");
         configProps.put(JsonDeserializer.USE_TYPE_INFO_HEADERS, false);
         configProps.put(JsonDeserializer.VALUE_DEFAULT_TYPE, "com.hasandag.exchange.common.dto.cqrs.ConversionEvent");
         configProps.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+        configProps.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        configProps.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, maxPollRecords);
         configProps.put(ConsumerConfig.REQUEST_TIMEOUT_MS_CONFIG, 5000);
         configProps.put(ConsumerConfig.SESSION_TIMEOUT_MS_CONFIG, 10000);
         configProps.put(ConsumerConfig.CONNECTIONS_MAX_IDLE_MS_CONFIG, 10000);
@@ -98,9 +143,55 @@ public class KafkaConfig {
     }
 
     @Bean
-    public ConcurrentKafkaListenerContainerFactory<String, Object> eventListenerContainerFactory() {
+    public ConcurrentKafkaListenerContainerFactory<String, Object> eventListenerContainerFactory(
+            ConsumerFactory<String, Object> conversionEventConsumerFactory,
+            ProjectionCatchUpPolicy catchUpPolicy,
+            @Value("${kafka.consumer.conversion-event.concurrency:${kafka.topics.conversion-event.partitions:3}}") int concurrency) {
+        ConcurrentKafkaListenerContainerFactory<String, Object> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(conversionEventConsumerFactory);
+        factory.setConcurrency(concurrency);
+        factory.setBatchListener(true);
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.BATCH);
+        factory.getContainerProperties().setConsumerRebalanceListener(catchUpPolicy);
+        return factory;
+    }
+
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, Object> projectionRetryListenerContainerFactory(
+            ConsumerFactory<String, Object> conversionEventConsumerFactory) {
         ConcurrentKafkaListenerContainerFactory<String, Object> factory = new ConcurrentKafkaListenerContainerFactory<>();
-        factory.setConsumerFactory(conversionEventConsumerFactory());
+        factory.setConsumerFactory(conversionEventConsumerFactory);
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.RECORD);
+        return factory;
+    }
+
+    @Bean
+    @ConditionalOnExpression(LOCAL_RATES_FROM_KAFKA)
+    public ConsumerFactory<String, ExchangeRateResponse> rateSnapshotConsumerFactory() {
+        Map<String, Object> configProps = new HashMap<>();
+        configProps.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        configProps.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, ErrorHandlingDeserializer.class);
+        configProps.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ErrorHandlingDeserializer.class);
+        configProps.put(ErrorHandlingDeserializer.KEY_DESERIALIZER_CLASS, StringDeserializer.class);
+        configProps.put(ErrorHandlingDeserializer.VALUE_DESERIALIZER_CLASS, JsonDeserializer.class);
+        configProps.put(JsonDeserializer.TRUSTED_PACKAGES, "com.hasandag.exchange.common.dto.*");
+        configProps.put(JsonDeserializer.USE_TYPE_INFO_HEADERS, false);
+        configProps.put(JsonDeserializer.VALUE_DEFAULT_TYPE, ExchangeRateResponse.class.getName());
+        configProps.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+        configProps.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        configProps.put(ConsumerConfig.REQUEST_TIMEOUT_MS_CONFIG, 5000);
+        configProps.put(ConsumerConfig.SESSION_TIMEOUT_MS_CONFIG, 10000);
+        configProps.put(ConsumerConfig.CONNECTIONS_MAX_IDLE_MS_CONFIG, 10000);
+        configProps.put(ConsumerConfig.RECONNECT_BACKOFF_MS_CONFIG, 1000);
+        configProps.put(ConsumerConfig.RETRY_BACKOFF_MS_CONFIG, 1000);
+        return new DefaultKafkaConsumerFactory<>(configProps);
+    }
+
+    @Bean
+    @ConditionalOnExpression(LOCAL_RATES_FROM_KAFKA)
+    public ConcurrentKafkaListenerContainerFactory<String, ExchangeRateResponse> rateSnapshotListenerContainerFactory() {
+        ConcurrentKafkaListenerContainerFactory<String, ExchangeRateResponse> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(rateSnapshotConsumerFactory());
         return factory;
     }
-} 
\ No newline at end of file
+}
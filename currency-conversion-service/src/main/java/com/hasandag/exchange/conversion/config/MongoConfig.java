@@ -22,11 +22,19 @@ public class MongoConfig extends AbstractMongoClientConfiguration {
     @Value("${spring.data.mongodb.database:fxcommanddb}")
     private String databaseName;
 
+    @Value("${spring.data.mongodb.auto-index-creation:true}")
+    private boolean autoIndexCreation;
+
     @Override
     protected String getDatabaseName() {
         return databaseName;
     }
 
+    @Override
+    protected boolean autoIndexCreation() {
+        return autoIndexCreation;
+    }
+
     @Bean
     @Override
     public MongoClient mongoClient() {
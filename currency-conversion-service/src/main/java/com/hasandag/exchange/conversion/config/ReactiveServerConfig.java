@@ -0,0 +1,83 @@
+package com.hasandag.exchange.conversion.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hasandag.exchange.conversion.controller.ReactiveConversionHandler;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.http.server.reactive.HttpHandler;
+import org.springframework.http.server.reactive.ReactorHttpHandlerAdapter;
+import org.springframework.web.reactive.function.server.HandlerStrategies;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+
+import static org.springframework.http.MediaType.APPLICATION_JSON;
+import static org.springframework.web.reactive.function.server.RequestPredicates.contentType;
+
+/**
+ * Serves the reactive conversion endpoint from a WebFlux router on its own Reactor Netty port, next
+ * to the servlet connector, so both paths can be driven side by side in the same process.
+ * Enabled by the {@code reactive} profile ({@code conversion.reactive.enabled=true}).
+ */
+@Configuration
+@Slf4j
+@ConditionalOnProperty(name = "conversion.reactive.enabled", havingValue = "true")
+public class ReactiveServerConfig {
+
+    @Bean
+    public RouterFunction<ServerResponse> reactiveConversionRoutes(ReactiveConversionHandler handler) {
+        return RouterFunctions.route()
+                .POST("/api/v1/conversions", contentType(APPLICATION_JSON), handler::convert)
+                .build();
+    }
+
+    @Bean
+    public SmartLifecycle reactiveConversionServer(
+            RouterFunction<ServerResponse> reactiveConversionRoutes,
+            ObjectMapper objectMapper,
+            @Value("${conversion.reactive.server.host:0.0.0.0}") String host,
+            @Value("${conversion.reactive.server.port:8093}") int port) {
+        HandlerStrategies strategies = HandlerStrategies.builder()
+                .codecs(configurer -> {
+                    configurer.defaultCodecs().jackson2JsonDecoder(new Jackson2JsonDecoder(objectMapper));
+                    configurer.defaultCodecs().jackson2JsonEncoder(new Jackson2JsonEncoder(objectMapper));
+                })
+                .build();
+        HttpHandler httpHandler = RouterFunctions.toHttpHandler(reactiveConversionRoutes, strategies);
+
+        return new SmartLifecycle() {
+            private volatile DisposableServer server;
+
+            @Override
+            public void start() {
+                server = HttpServer.create()
+                        .host(host)
+                        .port(port)
+                        .handle(new ReactorHttpHandlerAdapter(httpHandler))
+                        .bindNow();
+                log.info("Reactive conversion endpoint listening on {}:{}", host, server.port());
+            }
+
+            @Override
+            public void stop() {
+                if (server != null) {
+                    server.disposeNow();
+                    server = null;
+                }
+            }
+
+            @Override
+            public boolean isRunning() {
+                return server != null;
+            }
+        };
+    }
+}
@@ -0,0 +1,93 @@
+package com.hasandag.exchange.conversion.config;
+
+import io.netty.channel.ChannelOption;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+
+@Configuration
+@Slf4j
+@ConditionalOnProperty(name = "conversion.rates.client", havingValue = "webclient")
+public class WebClientConfig {
+
+    private static final String RATE_CLIENT_POOL = "exchange-rate-service";
+
+    private final String exchangeRateServiceUrl;
+    private final int maxConnections;
+    private final int pendingAcquireMaxCount;
+    private final Duration pendingAcquireTimeout;
+    private final Duration maxIdleTime;
+    private final Duration maxLifeTime;
+    private final Duration connectTimeout;
+    private final Duration responseTimeout;
+    private final boolean http2;
+
+    public WebClientConfig(
+            @Value("${conversion.exchange-rate-service.url:http://localhost:8083}") String exchangeRateServiceUrl,
+            @Value("${conversion.exchange-rate-service.client.max-connections:200}") int maxConnections,
+            @Value("${conversion.exchange-rate-service.client.pending-acquire-max-count:1000}") int pendingAcquireMaxCount,
+            @Value("${conversion.exchange-rate-service.client.pending-acquire-timeout:2s}") Duration pendingAcquireTimeout,
+            @Value("${conversion.exchange-rate-service.client.max-idle-time:30s}") Duration maxIdleTime,
+            @Value("${conversion.exchange-rate-service.client.max-life-time:5m}") Duration maxLifeTime,
+            @Value("${conversion.exchange-rate-service.client.connect-timeout:1s}") Duration connectTimeout,
+            @Value("${conversion.exchange-rate-service.client.response-timeout:2s}") Duration responseTimeout,
+            @Value("${conversion.exchange-rate-service.client.http2:false}") boolean http2) {
+        this.exchangeRateServiceUrl = exchangeRateServiceUrl;
+        this.maxConnections = maxConnections;
+        this.pendingAcquireMaxCount = pendingAcquireMaxCount;
+        this.pendingAcquireTimeout = pendingAcquireTimeout;
+        this.maxIdleTime = maxIdleTime;
+        this.maxLifeTime = maxLifeTime;
+        this.connectTimeout = connectTimeout;
+        this.responseTimeout = responseTimeout;
+        this.http2 = http2;
+    }
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider exchangeRateConnectionProvider() {
+        return ConnectionProvider.builder(RATE_CLIENT_POOL)
+                .maxConnections(maxConnections)
+                .pendingAcquireMaxCount(pendingAcquireMaxCount)
+                .pendingAcquireTimeout(pendingAcquireTimeout)
+                .maxIdleTime(maxIdleTime)
+                .maxLifeTime(maxLifeTime)
+                .evictInBackground(Duration.ofSeconds(30))
+                .lifo()
+                .metrics(true)
+                .build();
+    }
+
+    @Bean("exchangeRateServiceWebClient")
+    public WebClient exchangeRateServiceWebClient(WebClient.Builder webClientBuilder,
+                                                  ConnectionProvider exchangeRateConnectionProvider) {
+        log.info("Creating exchange-rate-service WebClient: url={}, maxConnections={}, pendingAcquireMaxCount={}, http2={}",
+                exchangeRateServiceUrl, maxConnections, pendingAcquireMaxCount, http2);
+
+        HttpClient httpClient = HttpClient.create(exchangeRateConnectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) connectTimeout.toMillis())
+                .option(ChannelOption.SO_KEEPALIVE, true)
+                .option(ChannelOption.TCP_NODELAY, true)
+                .keepAlive(true)
+                .responseTimeout(responseTimeout)
+                .metrics(true, uri -> "/api/v1/exchange-rates");
+
+        if (http2) {
+            httpClient = httpClient.protocol(HttpProtocol.H2C, HttpProtocol.HTTP11);
+        }
+
+        return webClientBuilder
+                .baseUrl(exchangeRateServiceUrl)
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .codecs(configurer -> configurer.defaultCodecs().maxInMemorySize(64 * 1024))
+                .build();
+    }
+}
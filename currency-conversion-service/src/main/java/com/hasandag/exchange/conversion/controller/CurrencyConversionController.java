@@ -2,39 +2,115 @@ package com.hasandag.exchange.conversion.controller;
 
 import com.hasandag.exchange.common.dto.ConversionRequest;
 import com.hasandag.exchange.common.dto.ConversionResponse;
+import com.hasandag.exchange.common.enums.Currency;
+import com.hasandag.exchange.conversion.dto.ConversionHistorySlice;
+import com.hasandag.exchange.conversion.dto.ConversionSearchRequest;
+import com.hasandag.exchange.conversion.dto.ConversionVolumeStats;
+import com.hasandag.exchange.conversion.dto.MultiConversionRequest;
+import com.hasandag.exchange.conversion.dto.MultiConversionResponse;
+import com.hasandag.exchange.conversion.dto.QuoteRequest;
+import com.hasandag.exchange.conversion.dto.QuoteResponse;
 import com.hasandag.exchange.conversion.model.CurrencyConversionEntity;
+import com.hasandag.exchange.conversion.model.ExportFormat;
+import com.hasandag.exchange.conversion.model.HistoryCountMode;
+import com.hasandag.exchange.conversion.model.RollupGranularity;
+import com.hasandag.exchange.conversion.service.BulkConversionService;
 import com.hasandag.exchange.conversion.service.ConversionCommandService;
+import com.hasandag.exchange.conversion.service.ConversionExportService;
 import com.hasandag.exchange.conversion.service.ConversionQueryService;
+import com.hasandag.exchange.conversion.service.ConversionStatsService;
+import com.hasandag.exchange.conversion.service.IdempotencyService;
+import com.hasandag.exchange.conversion.service.MultiConversionService;
+import com.hasandag.exchange.conversion.service.QuoteService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import org.springdoc.core.annotations.ParameterObject;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.zip.GZIPOutputStream;
 
 @RestController
 @RequestMapping("/api/v1/conversions")
 public class CurrencyConversionController {
 
+    private static final String EXPORT_PERMIT_INTERCEPTOR = CurrencyConversionController.class.getName() + ".exportPermit";
+
     private final ConversionCommandService commandService;
     private final ConversionQueryService queryService;
+    private final BulkConversionService bulkConversionService;
+    private final IdempotencyService idempotencyService;
+    private final MultiConversionService multiConversionService;
+    private final QuoteService quoteService;
+    private final ConversionStatsService statsService;
+    private final ConversionExportService exportService;
 
     public CurrencyConversionController(ConversionCommandService commandService, 
-                                        ConversionQueryService queryService) {
+                                        ConversionQueryService queryService,
+                                        BulkConversionService bulkConversionService,
+                                        IdempotencyService idempotencyService,
+                                        MultiConversionService multiConversionService,
+                                        QuoteService quoteService,
+                                        ConversionStatsService statsService,
+                                        ConversionExportService exportService) {
         this.commandService = commandService;
         this.queryService = queryService;
+        this.bulkConversionService = bulkConversionService;
+        this.idempotencyService = idempotencyService;
+        this.multiConversionService = multiConversionService;
+        this.quoteService = quoteService;
+        this.statsService = statsService;
+        this.exportService = exportService;
     }
 
     @PostMapping
-    public ResponseEntity<ConversionResponse> convertCurrency(@RequestBody @Valid ConversionRequest request) {
-        ConversionResponse response = commandService.processConversionWithEvents(request);
+    public ResponseEntity<ConversionResponse> convertCurrency(
+            @Parameter(description = "Client-chosen key; retries with the same key return the original conversion")
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+            @RequestBody @Valid ConversionRequest request) {
+        ConversionResponse response = idempotencyKey == null
+                ? commandService.processConversionWithEvents(request)
+                : idempotencyService.execute(idempotencyKey, request, () -> commandService.processConversionWithEvents(request));
         return ResponseEntity.ok(response);
     }
 
+    @PostMapping("/quotes")
+    @Operation(summary = "Lock the current rate for a currency pair; execute it by passing the quoteId to POST /api/v1/conversions")
+    public ResponseEntity<QuoteResponse> createQuote(@RequestBody @Valid QuoteRequest request) {
+        return ResponseEntity.ok(quoteService.createQuote(request));
+    }
+
+    @PostMapping("/multi")
+    @Operation(summary = "Convert one amount into several target currencies from a single rate snapshot")
+    public ResponseEntity<MultiConversionResponse> convertCurrencyMulti(@RequestBody @Valid MultiConversionRequest request) {
+        return ResponseEntity.ok(multiConversionService.convert(request));
+    }
+
+    @PostMapping(value = "/bulk",
+            consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE},
+            produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Convert a JSON array or NDJSON stream of requests, streaming one NDJSON result per item")
+    public ResponseEntity<StreamingResponseBody> convertCurrencyBulk(HttpServletRequest request) {
+        StreamingResponseBody body = output -> bulkConversionService.convert(request.getInputStream(), output);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
     @GetMapping("/history")
     @Operation(summary = "Get conversion history with date-time precision")
     public ResponseEntity<Page<CurrencyConversionEntity>> getConversionHistory(
@@ -51,5 +127,79 @@ public class CurrencyConversionController {
 
         return ResponseEntity.ok(history);
     }
+
+    @GetMapping("/history/cursor")
+    @Operation(summary = "Get conversion history newest first with cursor pagination; deep pages cost the same as the first")
+    public ResponseEntity<ConversionHistorySlice> getConversionHistoryByCursor(
+            @ParameterObject ConversionSearchRequest searchRequest,
+            @Parameter(description = "nextCursor of the previous page; omit for the first page")
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @Parameter(description = "NONE skips the total, ESTIMATED uses planner statistics, EXACT counts every match")
+            @RequestParam(defaultValue = "NONE") HistoryCountMode count) {
+        return ResponseEntity.ok(queryService.findConversions(searchRequest, cursor, size, count));
+    }
+
+    @GetMapping("/export")
+    @Operation(summary = "Stream every conversion matching the filter, newest first, as NDJSON or CSV; gzip-compressed when accepted")
+    public ResponseEntity<StreamingResponseBody> exportConversions(
+            @ParameterObject ConversionSearchRequest searchRequest,
+            @RequestParam(defaultValue = "NDJSON") ExportFormat format,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            HttpServletRequest request) {
+        boolean gzip = acceptEncoding != null && acceptEncoding.contains("gzip");
+        ConversionExportService.Permit permit = exportService.acquirePermit();
+        // The body may never run (executor rejection, async timeout); the async request always completes.
+        WebAsyncUtils.getAsyncManager(request).registerCallableInterceptor(EXPORT_PERMIT_INTERCEPTOR,
+                new CallableProcessingInterceptor() {
+                    @Override
+                    public <T> void afterCompletion(NativeWebRequest webRequest, Callable<T> task) {
+                        permit.close();
+                    }
+                });
+        StreamingResponseBody body = output -> {
+            try (permit) {
+                if (!gzip) {
+                    exportService.export(searchRequest, format, output);
+                    return;
+                }
+                try (GZIPOutputStream compressed = new GZIPOutputStream(output, 64 * 1024)) {
+                    exportService.export(searchRequest, format, compressed);
+                }
+            }
+        };
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(format.mediaType())
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"conversions." + format.fileExtension() + "\"");
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(body);
+    }
+
+    @GetMapping("/stats")
+    @Operation(summary = "Get conversion volume per time bucket, for one currency pair or for all pairs")
+    public ResponseEntity<List<ConversionVolumeStats>> getVolumeStats(
+            @RequestParam(defaultValue = "HOUR") RollupGranularity granularity,
+            @RequestParam(required = false) Currency sourceCurrency,
+            @RequestParam(required = false) Currency targetCurrency,
+            @Parameter(description = "Inclusive start date-time (ISO format), on a granularity boundary", example = "2025-05-29T00:00:00")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @Parameter(description = "Exclusive end date-time (ISO format), on a granularity boundary", example = "2025-05-30T00:00:00")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        return ResponseEntity.ok(statsService.getVolumeSeries(granularity, sourceCurrency, targetCurrency, from, to));
+    }
+
+    @GetMapping("/stats/summary")
+    @Operation(summary = "Get total conversion volume per currency pair over a time range")
+    public ResponseEntity<List<ConversionVolumeStats>> getVolumeSummary(
+            @RequestParam(defaultValue = "DAY") RollupGranularity granularity,
+            @Parameter(description = "Inclusive start date-time (ISO format), on a granularity boundary", example = "2025-05-29T00:00:00")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @Parameter(description = "Exclusive end date-time (ISO format), on a granularity boundary", example = "2025-05-30T00:00:00")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        return ResponseEntity.ok(statsService.getVolumeSummary(granularity, from, to));
+    }
     
 } 
\ No newline at end of file
@@ -0,0 +1,44 @@
+package com.hasandag.exchange.conversion.controller;
+
+import com.hasandag.exchange.common.constants.KafkaConstants;
+import com.hasandag.exchange.conversion.kafka.consumer.DeadLetterReplayer;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/v1/projection/maintenance")
+@RequiredArgsConstructor
+@Validated
+@Tag(name = "Projection Maintenance", description = "Read model projection recovery operations")
+public class ProjectionMaintenanceController {
+
+    private final DeadLetterReplayer deadLetterReplayer;
+
+    @PostMapping("/dead-letters/replay")
+    @Operation(summary = "Put dead-lettered conversion events back on the conversion topic")
+    public ResponseEntity<Map<String, Object>> replayDeadLetters(
+            @RequestParam(defaultValue = "10000") @Min(1) @Max(1_000_000) int maxEvents) {
+        int replayed = deadLetterReplayer.replay(maxEvents);
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("replayedCount", replayed);
+        response.put("sourceTopic", KafkaConstants.CONVERSION_PROJECTION_DLT_TOPIC);
+        response.put("targetTopic", KafkaConstants.CONVERSION_EVENT_TOPIC);
+        response.put("timestamp", Instant.now());
+
+        return ResponseEntity.ok(response);
+    }
+}
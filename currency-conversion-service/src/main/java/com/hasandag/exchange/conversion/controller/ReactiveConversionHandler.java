@@ -0,0 +1,94 @@
+package com.hasandag.exchange.conversion.controller;
+
+import com.hasandag.exchange.common.dto.ConversionRequest;
+import com.hasandag.exchange.common.exception.BusinessException;
+import com.hasandag.exchange.common.exception.ErrorResponse;
+import com.hasandag.exchange.common.exception.RateServiceException;
+import com.hasandag.exchange.conversion.service.ReactiveConversionCommandService;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.codec.CodecException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import org.springframework.web.server.ServerWebInputException;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * WebFlux handler for {@code POST /api/v1/conversions} on the reactive server. Mirrors the status
+ * codes and {@link ErrorResponse} bodies the servlet controller gets from {@code GlobalExceptionHandler}.
+ */
+@Component
+@Slf4j
+@ConditionalOnProperty(name = "conversion.reactive.enabled", havingValue = "true")
+public class ReactiveConversionHandler {
+
+    private final ReactiveConversionCommandService commandService;
+    private final Validator validator;
+
+    public ReactiveConversionHandler(ReactiveConversionCommandService commandService, Validator validator) {
+        this.commandService = commandService;
+        this.validator = validator;
+    }
+
+    public Mono<ServerResponse> convert(ServerRequest request) {
+        return request.bodyToMono(ConversionRequest.class)
+                .switchIfEmpty(Mono.error(new ServerWebInputException("Request body is required")))
+                .flatMap(body -> {
+                    Set<ConstraintViolation<ConversionRequest>> violations = validator.validate(body);
+                    if (!violations.isEmpty()) {
+                        return validationFailed(request, violations);
+                    }
+                    return commandService.processConversion(body)
+                            .flatMap(response -> ServerResponse.ok()
+                                    .contentType(MediaType.APPLICATION_JSON)
+                                    .bodyValue(response));
+                })
+                .onErrorResume(e -> error(request, e));
+    }
+
+    private Mono<ServerResponse> validationFailed(ServerRequest request, Set<ConstraintViolation<ConversionRequest>> violations) {
+        List<String> errors = violations.stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .toList();
+        ErrorResponse response = ErrorResponse.validation("Validation failed", errors);
+        response.setPath(request.path());
+        return respond(HttpStatus.BAD_REQUEST, response);
+    }
+
+    private Mono<ServerResponse> error(ServerRequest request, Throwable e) {
+        if (e instanceof BusinessException be) {
+            log.warn("Business exception: {} - {}", be.getErrorCode(), be.getMessage());
+            return respond(be.getHttpStatus(), ErrorResponse.of(be.getErrorCode(), be.getMessage(),
+                    be.getDetails() != null ? be.getDetails().toString() : null, request.path()));
+        }
+        if (e instanceof RateServiceException) {
+            log.error("RateServiceException: {}", e.getMessage());
+            return respond(HttpStatus.SERVICE_UNAVAILABLE, ErrorResponse.of("RATE_SERVICE_ERROR", e.getMessage(),
+                    e.getCause() != null ? e.getCause().getMessage() : null, request.path()));
+        }
+        if (e instanceof ServerWebInputException || e instanceof CodecException) {
+            log.warn("Invalid conversion request: {}", e.getMessage());
+            return respond(HttpStatus.BAD_REQUEST, ErrorResponse.of("INVALID_REQUEST", "Malformed conversion request",
+                    e.getMessage(), request.path()));
+        }
+        log.error("Unexpected error in reactive conversion", e);
+        return respond(HttpStatus.INTERNAL_SERVER_ERROR, ErrorResponse.of("INTERNAL_SERVER_ERROR", "Internal server error",
+                e.getMessage(), request.path()));
+    }
+
+    private Mono<ServerResponse> respond(HttpStatusCode status, ErrorResponse body) {
+        return ServerResponse.status(status)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(body);
+    }
+}
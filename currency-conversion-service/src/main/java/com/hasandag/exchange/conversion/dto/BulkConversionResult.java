@@ -0,0 +1,40 @@
+package com.hasandag.exchange.conversion.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.hasandag.exchange.common.dto.ConversionResponse;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BulkConversionResult {
+
+    public enum Status {
+        COMPLETED,
+        FAILED
+    }
+
+    private int index;
+    private Status status;
+    private ConversionResponse conversion;
+    private String errorCode;
+    private String errorMessage;
+
+    public static BulkConversionResult completed(int index, ConversionResponse conversion) {
+        return BulkConversionResult.builder()
+                .index(index)
+                .status(Status.COMPLETED)
+                .conversion(conversion)
+                .build();
+    }
+
+    public static BulkConversionResult failed(int index, String errorCode, String errorMessage) {
+        return BulkConversionResult.builder()
+                .index(index)
+                .status(Status.FAILED)
+                .errorCode(errorCode)
+                .errorMessage(errorMessage)
+                .build();
+    }
+}
@@ -0,0 +1,27 @@
+package com.hasandag.exchange.conversion.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.hasandag.exchange.conversion.model.CurrencyConversionEntity;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ConversionHistorySlice {
+
+    private List<CurrencyConversionEntity> content;
+    private int size;
+
+    /** Pass as {@code cursor} to fetch the next page; absent on the last page. */
+    private String nextCursor;
+
+    private Long totalElements;
+    private Boolean totalEstimated;
+}
@@ -0,0 +1,27 @@
+package com.hasandag.exchange.conversion.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ConversionVolumeStats {
+
+    private String sourceCurrency;
+    private String targetCurrency;
+    private LocalDateTime bucketStart;
+    private long conversionCount;
+    private BigDecimal sourceAmountSum;
+    private BigDecimal targetAmountSum;
+    private BigDecimal minRate;
+    private BigDecimal maxRate;
+}
@@ -0,0 +1,30 @@
+package com.hasandag.exchange.conversion.dto;
+
+import com.hasandag.exchange.common.enums.Currency;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MultiConversionRequest {
+
+    @NotNull(message = "Source amount is required")
+    @DecimalMin(value = "0.01", message = "Source amount must be greater than zero")
+    private BigDecimal sourceAmount;
+
+    @NotNull(message = "Source currency is required")
+    private Currency sourceCurrency;
+
+    @NotEmpty(message = "At least one target currency is required")
+    private List<@NotNull(message = "Target currencies must not contain null") Currency> targetCurrencies;
+}
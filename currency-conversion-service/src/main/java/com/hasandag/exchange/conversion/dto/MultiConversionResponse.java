@@ -0,0 +1,25 @@
+package com.hasandag.exchange.conversion.dto;
+
+import com.hasandag.exchange.common.dto.ConversionResponse;
+import com.hasandag.exchange.common.enums.Currency;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MultiConversionResponse {
+
+    private String correlationId;
+    private Currency sourceCurrency;
+    private BigDecimal sourceAmount;
+    private LocalDateTime timestamp;
+    private List<ConversionResponse> conversions;
+}
@@ -0,0 +1,27 @@
+package com.hasandag.exchange.conversion.dto;
+
+import com.hasandag.exchange.common.enums.Currency;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class QuoteRequest {
+
+    @NotNull(message = "Source currency is required")
+    private Currency sourceCurrency;
+
+    @NotNull(message = "Target currency is required")
+    private Currency targetCurrency;
+
+    @DecimalMin(value = "0.01", message = "Source amount must be greater than zero")
+    private BigDecimal sourceAmount;
+}
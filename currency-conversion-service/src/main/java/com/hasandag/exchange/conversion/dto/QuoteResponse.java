@@ -0,0 +1,26 @@
+package com.hasandag.exchange.conversion.dto;
+
+import com.hasandag.exchange.common.enums.Currency;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class QuoteResponse {
+
+    private String quoteId;
+    private Currency sourceCurrency;
+    private Currency targetCurrency;
+    private BigDecimal rate;
+    private BigDecimal sourceAmount;
+    private BigDecimal targetAmount;
+    private LocalDateTime rateTimestamp;
+    private LocalDateTime expiresAt;
+}
@@ -0,0 +1,40 @@
+package com.hasandag.exchange.conversion.kafka;
+
+import com.hasandag.exchange.common.dto.cqrs.ConversionEvent;
+
+import java.util.Locale;
+
+/**
+ * How conversion events are keyed on {@code conversion-event-topic}, selected by
+ * {@code kafka.conversion-event.key-strategy}. The key picks the partition, so it also defines which
+ * events keep their relative order: all events of one transaction ({@code TRANSACTION_ID}) or of one
+ * currency pair ({@code CURRENCY_PAIR}). Pair keys concentrate popular pairs on few partitions;
+ * {@code EVENT_ID} spreads evenly but orders nothing.
+ */
+public enum ConversionEventKeyStrategy {
+
+    TRANSACTION_ID {
+        @Override
+        public String keyOf(ConversionEvent event) {
+            return event.getTransactionId();
+        }
+    },
+    CURRENCY_PAIR {
+        @Override
+        public String keyOf(ConversionEvent event) {
+            return event.getSourceCurrency() + "-" + event.getTargetCurrency();
+        }
+    },
+    EVENT_ID {
+        @Override
+        public String keyOf(ConversionEvent event) {
+            return event.getEventId();
+        }
+    };
+
+    public abstract String keyOf(ConversionEvent event);
+
+    public static ConversionEventKeyStrategy from(String value) {
+        return valueOf(value.trim().replace('-', '_').toUpperCase(Locale.ROOT));
+    }
+}
@@ -2,57 +2,229 @@ package com.hasandag.exchange.conversion.kafka.consumer;
 
 import com.hasandag.exchange.common.constants.KafkaConstants;
 import com.hasandag.exchange.common.dto.cqrs.ConversionEvent;
+import com.hasandag.exchange.conversion.kafka.ConversionEventKeyStrategy;
+import com.hasandag.exchange.conversion.kafka.producer.ConversionEventProducer;
 import com.hasandag.exchange.conversion.model.CurrencyConversionEntity;
-import com.hasandag.exchange.conversion.repository.query.CurrencyConversionPostgresRepository;
-import lombok.RequiredArgsConstructor;
+import com.hasandag.exchange.conversion.repository.query.CurrencyConversionProjectionWriter;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.SendResult;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Projects conversion events into the Postgres read model one poll at a time. The whole batch is written
+ * with a single batched insert that skips transaction IDs already present, or, while
+ * {@link ProjectionCatchUpPolicy} reports the consumer far behind, with COPY into a staging table and one
+ * merge. The container commits the batch's offsets once this method returns; a failed write is retried as
+ * a whole.
+ * <p>
+ * With {@code kafka.consumer.conversion-event.key-lanes} above one, each batch is split by event key into
+ * that many lanes which are written in parallel on virtual threads. A key always maps to the same lane and
+ * keeps its order within it; the method still returns only after every lane has been written.
+ * <p>
+ * Events the store rejects are moved to {@link KafkaConstants#CONVERSION_PROJECTION_RETRY_TOPIC} and
+ * retried there with back-off by {@link ProjectionRetryConsumer}, so one bad event does not hold up its
+ * partition. Events that cannot be mapped to a row at all (a missing currency, say) would fail every
+ * retry the same way and go straight to {@link KafkaConstants#CONVERSION_PROJECTION_DLT_TOPIC}.
+ * Transient store failures still fail the batch for in-place redelivery.
+ */
 @Component
-@RequiredArgsConstructor
 @Slf4j
-public class ConversionEventConsumer {
+public class ConversionEventConsumer implements DisposableBean {
+
+    private final CurrencyConversionProjectionWriter projectionWriter;
+    private final ProjectionCatchUpPolicy catchUpPolicy;
+    private final ConversionEventProducer eventProducer;
+    private final ConversionEventKeyStrategy keyStrategy;
+    private final int keyLanes;
+    private final Duration divertTimeout;
+    private final ExecutorService laneExecutor;
 
-    private final CurrencyConversionPostgresRepository postgresConversionRepository;
+    public ConversionEventConsumer(
+            CurrencyConversionProjectionWriter projectionWriter,
+            ProjectionCatchUpPolicy catchUpPolicy,
+            ConversionEventProducer eventProducer,
+            @Value("${kafka.conversion-event.key-strategy:transaction-id}") String keyStrategy,
+            @Value("${kafka.consumer.conversion-event.key-lanes:1}") int keyLanes,
+            @Value("${kafka.consumer.conversion-event.retry.divert-timeout:10s}") Duration divertTimeout) {
+        this.projectionWriter = projectionWriter;
+        this.catchUpPolicy = catchUpPolicy;
+        this.eventProducer = eventProducer;
+        this.keyStrategy = ConversionEventKeyStrategy.from(keyStrategy);
+        this.keyLanes = Math.max(1, keyLanes);
+        this.divertTimeout = divertTimeout;
+        this.laneExecutor = this.keyLanes > 1
+                ? Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("projection-lane-", 0).factory())
+                : null;
+    }
 
     @KafkaListener(
         topics = KafkaConstants.CONVERSION_EVENT_TOPIC,
         groupId = KafkaConstants.EVENT_HANDLER_GROUP,
         containerFactory = "eventListenerContainerFactory"
     )
-    public void consumeConversionEvent(ConversionEvent event) {
-        log.info("Received ConversionEvent: {}, Type: {}", 
-                event.getTransactionId(), event.getEventType());
-        
-        if (event.getEventType() == ConversionEvent.EventType.CONVERSION_CREATED) {
-            
-            CurrencyConversionEntity conversionEntity = CurrencyConversionEntity.builder()
-                    .transactionId(event.getTransactionId())
-                    .sourceCurrency(event.getSourceCurrency().getCode())
-                    .targetCurrency(event.getTargetCurrency().getCode())
-                    .sourceAmount(event.getSourceAmount())
-                    .targetAmount(event.getTargetAmount())
-                    .exchangeRate(event.getExchangeRate())
-                    .timestamp(event.getTimestamp())
-                    .build();
-            
+    public void consumeConversionEvents(List<ConversionEvent> events, Consumer<?, ?> consumer) {
+        List<List<Projection>> lanes = new ArrayList<>(keyLanes);
+        for (int i = 0; i < keyLanes; i++) {
+            lanes.add(new ArrayList<>());
+        }
+        List<ConversionEvent> unmappable = new ArrayList<>();
+        int projected = 0;
+        for (ConversionEvent event : events) {
+            if (event == null) {
+                continue;
+            }
+            if (event.getEventType() != ConversionEvent.EventType.CONVERSION_CREATED) {
+                log.warn("Ignoring event type: {} for: {}", event.getEventType(), event.getTransactionId());
+                continue;
+            }
+            CurrencyConversionEntity conversion;
+            try {
+                conversion = toEntity(event);
+            } catch (RuntimeException e) {
+                log.warn("Conversion {} cannot be projected: {}", event.getTransactionId(), e.toString());
+                unmappable.add(event);
+                continue;
+            }
+            lanes.get(laneOf(event)).add(new Projection(event, conversion));
+            projected++;
+        }
+
+        ProjectionCatchUpPolicy.Mode mode = catchUpPolicy.select(consumer, projected);
+        long start = System.nanoTime();
+        List<ConversionEvent> rejected;
+        try {
+            rejected = keyLanes == 1 ? write(lanes.get(0), mode) : writeInParallel(lanes, mode);
+            if (!rejected.isEmpty()) {
+                divert(KafkaConstants.CONVERSION_PROJECTION_RETRY_TOPIC, rejected);
+            }
+            if (!unmappable.isEmpty()) {
+                divert(KafkaConstants.CONVERSION_PROJECTION_DLT_TOPIC, unmappable);
+            }
+        } catch (Exception e) {
+            log.error("Failed to project batch of {} conversions to the read model", projected, e);
+            throw new RuntimeException("Failed to update read model for " + projected + " conversions", e);
+        }
+        catchUpPolicy.record(mode, projected - rejected.size(), System.nanoTime() - start);
+        log.debug("Projected {} of {} received events to the read model in {} mode", projected - rejected.size(), events.size(), mode);
+    }
+
+    private List<ConversionEvent> writeInParallel(List<List<Projection>> lanes, ProjectionCatchUpPolicy.Mode mode) throws Exception {
+        List<Future<List<ConversionEvent>>> writes = new ArrayList<>(lanes.size());
+        for (List<Projection> lane : lanes) {
+            if (!lane.isEmpty()) {
+                writes.add(laneExecutor.submit(() -> write(lane, mode)));
+            }
+        }
+        List<ConversionEvent> rejected = new ArrayList<>();
+        Exception failure = null;
+        for (Future<List<ConversionEvent>> write : writes) {
+            try {
+                rejected.addAll(write.get());
+            } catch (ExecutionException e) {
+                failure = e.getCause() instanceof Exception cause ? cause : e;
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+        return rejected;
+    }
+
+    /**
+     * Writes the events as one batch. If the batch is refused, the events are written one by one to find
+     * the ones the store rejects; those are returned for the retry topic. Transient failures such as a lost
+     * connection are rethrown instead, since every event would fail the same way.
+     */
+    private List<ConversionEvent> write(List<Projection> projections, ProjectionCatchUpPolicy.Mode mode) {
+        List<CurrencyConversionEntity> conversions = projections.stream().map(Projection::conversion).toList();
+        try {
+            if (mode == ProjectionCatchUpPolicy.Mode.CATCH_UP) {
+                projectionWriter.copyIgnoringDuplicates(conversions);
+            } else {
+                projectionWriter.insertIgnoringDuplicates(conversions);
+            }
+            return List.of();
+        } catch (RuntimeException e) {
+            if (isTransient(e)) {
+                throw e;
+            }
+            log.warn("Batch write of {} conversions failed, isolating rejected events: {}", conversions.size(), e.getMessage());
+        }
+
+        List<ConversionEvent> rejected = new ArrayList<>();
+        for (Projection projection : projections) {
             try {
-                if (!postgresConversionRepository.existsByTransactionId(event.getTransactionId())) {
-                    postgresConversionRepository.save(conversionEntity);
-                    log.debug("Saved conversion to read model: {}", event.getTransactionId());
-                } else {
-                    log.debug("Duplicate conversion skipped: {}", event.getTransactionId());
+                projectionWriter.insertIgnoringDuplicates(List.of(projection.conversion()));
+            } catch (RuntimeException e) {
+                if (isTransient(e)) {
+                    throw e;
                 }
-            } catch (Exception e) {
-                log.error("Failed to save conversion to read model for transaction: {}", event.getTransactionId(), e);
-                throw new RuntimeException("Failed to update read model for transaction: " + event.getTransactionId(), e);
+                log.warn("Conversion {} rejected by the read model: {}", projection.event().getTransactionId(), e.getMessage());
+                rejected.add(projection.event());
             }
-        } else {
-            log.warn("Ignoring event type: {} for: {}", 
-                    event.getEventType(), event.getTransactionId());
+        }
+        return rejected;
+    }
+
+    private void divert(String topic, List<ConversionEvent> diverted) throws Exception {
+        List<CompletableFuture<SendResult<String, Object>>> sends = eventProducer.sendConversionEvents(topic, diverted);
+        long deadline = System.nanoTime() + divertTimeout.toNanos();
+        for (CompletableFuture<SendResult<String, Object>> send : sends) {
+            send.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        }
+        log.warn("Diverted {} conversions to {}", diverted.size(), topic);
+    }
+
+    private int laneOf(ConversionEvent event) {
+        if (keyLanes == 1) {
+            return 0;
+        }
+        String key = keyStrategy.keyOf(event);
+        return key == null ? 0 : Math.floorMod(key.hashCode(), keyLanes);
+    }
+
+    static boolean isTransient(Throwable e) {
+        return e instanceof TransientDataAccessException
+                || e instanceof RecoverableDataAccessException
+                || e instanceof DataAccessResourceFailureException;
+    }
+
+    static CurrencyConversionEntity toEntity(ConversionEvent event) {
+        return CurrencyConversionEntity.builder()
+                .transactionId(event.getTransactionId())
+                .sourceCurrency(event.getSourceCurrency().getCode())
+                .targetCurrency(event.getTargetCurrency().getCode())
+                .sourceAmount(event.getSourceAmount())
+                .targetAmount(event.getTargetAmount())
+                .exchangeRate(event.getExchangeRate())
+                .timestamp(event.getTimestamp())
+                .build();
+    }
+
+    private record Projection(ConversionEvent event, CurrencyConversionEntity conversion) {
+    }
+
+    @Override
+    public void destroy() {
+        if (laneExecutor != null) {
+            laneExecutor.close();
         }
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,118 @@
+package com.hasandag.exchange.conversion.kafka.consumer;
+
+import com.hasandag.exchange.common.constants.KafkaConstants;
+import com.hasandag.exchange.common.dto.cqrs.ConversionEvent;
+import com.hasandag.exchange.conversion.kafka.producer.ConversionEventProducer;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Moves parked conversions from {@link KafkaConstants#CONVERSION_PROJECTION_DLT_TOPIC} back onto the main
+ * conversion topic, in bulk, once whatever rejected them has been fixed. Progress is tracked as committed
+ * offsets of {@link KafkaConstants#PROJECTION_DLT_REPLAY_GROUP}: offsets are committed only after every
+ * replayed event has been acknowledged, so an interrupted replay resends at most one chunk, which the
+ * read model ignores as duplicates.
+ */
+@Component
+@Slf4j
+public class DeadLetterReplayer {
+
+    private final ConsumerFactory<String, Object> consumerFactory;
+    private final ConversionEventProducer eventProducer;
+    private final int chunkSize;
+    private final Duration pollTimeout;
+    private final Duration sendTimeout;
+
+    public DeadLetterReplayer(
+            ConsumerFactory<String, Object> conversionEventConsumerFactory,
+            ConversionEventProducer eventProducer,
+            @Value("${kafka.consumer.conversion-event.dlt-replay.chunk-size:500}") int chunkSize,
+            @Value("${kafka.consumer.conversion-event.dlt-replay.poll-timeout:2s}") Duration pollTimeout,
+            @Value("${kafka.consumer.conversion-event.dlt-replay.send-timeout:30s}") Duration sendTimeout) {
+        this.consumerFactory = conversionEventConsumerFactory;
+        this.eventProducer = eventProducer;
+        this.chunkSize = chunkSize;
+        this.pollTimeout = pollTimeout;
+        this.sendTimeout = sendTimeout;
+    }
+
+    /**
+     * @return the number of events put back on the main topic, at most {@code maxEvents}
+     */
+    public synchronized int replay(int maxEvents) {
+        Properties overrides = new Properties();
+        overrides.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, Math.min(chunkSize, maxEvents));
+        try (Consumer<String, Object> consumer = consumerFactory.createConsumer(
+                KafkaConstants.PROJECTION_DLT_REPLAY_GROUP, null, "-dlt-replay", overrides)) {
+            List<TopicPartition> partitions = new ArrayList<>();
+            for (PartitionInfo partition : consumer.partitionsFor(KafkaConstants.CONVERSION_PROJECTION_DLT_TOPIC)) {
+                partitions.add(new TopicPartition(partition.topic(), partition.partition()));
+            }
+            if (partitions.isEmpty()) {
+                return 0;
+            }
+            consumer.assign(partitions);
+
+            int replayed = 0;
+            while (replayed < maxEvents) {
+                ConsumerRecords<String, Object> records = consumer.poll(pollTimeout);
+                if (records.isEmpty()) {
+                    break;
+                }
+                List<ConversionEvent> events = new ArrayList<>(records.count());
+                Map<TopicPartition, OffsetAndMetadata> next = new HashMap<>();
+                for (ConsumerRecord<String, Object> record : records) {
+                    if (replayed + events.size() == maxEvents) {
+                        break;
+                    }
+                    if (record.value() instanceof ConversionEvent event) {
+                        events.add(event);
+                    } else {
+                        log.warn("Skipping unreadable dead letter at {}-{}@{}", record.topic(), record.partition(), record.offset());
+                    }
+                    next.put(new TopicPartition(record.topic(), record.partition()), new OffsetAndMetadata(record.offset() + 1));
+                }
+                awaitSent(eventProducer.sendConversionEvents(events));
+                consumer.commitSync(next);
+                replayed += events.size();
+            }
+            log.info("Replayed {} dead-lettered conversions onto {}", replayed, KafkaConstants.CONVERSION_EVENT_TOPIC);
+            return replayed;
+        }
+    }
+
+    private void awaitSent(List<CompletableFuture<SendResult<String, Object>>> sends) {
+        long deadline = System.nanoTime() + sendTimeout.toNanos();
+        try {
+            for (CompletableFuture<SendResult<String, Object>> send : sends) {
+                send.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while replaying dead letters", e);
+        } catch (ExecutionException | TimeoutException e) {
+            throw new IllegalStateException("Failed to republish dead-lettered conversions", e);
+        }
+    }
+}
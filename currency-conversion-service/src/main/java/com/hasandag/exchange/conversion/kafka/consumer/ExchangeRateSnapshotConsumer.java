@@ -0,0 +1,33 @@
+package com.hasandag.exchange.conversion.kafka.consumer;
+
+import com.hasandag.exchange.common.constants.KafkaConstants;
+import com.hasandag.exchange.common.dto.ExchangeRateResponse;
+import com.hasandag.exchange.conversion.service.LocalExchangeRateStore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnExpression("'${conversion.rates.provider:feign}' == 'local' and '${conversion.rates.client:feign}' != 'rsocket'")
+public class ExchangeRateSnapshotConsumer {
+
+    private final LocalExchangeRateStore rateStore;
+
+    @KafkaListener(
+        topics = KafkaConstants.EXCHANGE_RATE_SNAPSHOT_TOPIC,
+        groupId = "${spring.application.name}-rates-${random.uuid}",
+        containerFactory = "rateSnapshotListenerContainerFactory"
+    )
+    public void consumeRateSnapshot(ExchangeRateResponse snapshot) {
+        if (snapshot == null) {
+            return;
+        }
+        log.debug("Received rate snapshot: {} -> {} = {}",
+                snapshot.getSourceCurrency(), snapshot.getTargetCurrency(), snapshot.getRate());
+        rateStore.update(snapshot);
+    }
+}
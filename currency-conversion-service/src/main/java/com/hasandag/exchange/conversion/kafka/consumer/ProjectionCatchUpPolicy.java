@@ -0,0 +1,134 @@
+package com.hasandag.exchange.conversion.kafka.consumer;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.listener.ConsumerAwareRebalanceListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.OptionalLong;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decides per poll whether the read model projection writes in normal mode (batched inserts) or catch-up
+ * mode (COPY through a staging table). A consumer switches to catch-up once the lag of its assigned
+ * partitions exceeds {@code enter-lag} and back once it drops below {@code exit-lag}; lag is read from
+ * the consumer's own fetch positions, so checking it costs no broker round trip. State is kept per
+ * assigned partition and dropped when the partition is revoked or lost, so the gauges only cover
+ * partitions this instance still consumes.
+ * <p>
+ * Publishes {@code conversion.projection.lag}, {@code conversion.projection.catch_up} (partitions in
+ * catch-up mode) and {@code conversion.projection.rows} / {@code conversion.projection.write} tagged by
+ * mode, whose rates give projection throughput.
+ */
+@Component
+@Slf4j
+public class ProjectionCatchUpPolicy implements ConsumerAwareRebalanceListener {
+
+    static final String METRIC_PREFIX = "conversion.projection";
+
+    public enum Mode { NORMAL, CATCH_UP }
+
+    private final boolean enabled;
+    private final long enterLag;
+    private final long exitLag;
+    private final int minCopyBatchSize;
+    private final Map<TopicPartition, PartitionState> partitions = new ConcurrentHashMap<>();
+    private final Map<Mode, Counter> rows = new ConcurrentHashMap<>();
+    private final Map<Mode, Timer> writes = new ConcurrentHashMap<>();
+
+    public ProjectionCatchUpPolicy(
+            MeterRegistry meterRegistry,
+            @Value("${conversion.projection.catch-up.enabled:true}") boolean enabled,
+            @Value("${conversion.projection.catch-up.enter-lag:50000}") long enterLag,
+            @Value("${conversion.projection.catch-up.exit-lag:5000}") long exitLag,
+            @Value("${conversion.projection.catch-up.min-batch-size:1000}") int minCopyBatchSize) {
+        this.enabled = enabled;
+        this.enterLag = enterLag;
+        this.exitLag = exitLag;
+        this.minCopyBatchSize = minCopyBatchSize;
+
+        Gauge.builder(METRIC_PREFIX + ".lag", partitions, states -> states.values().stream().mapToLong(state -> state.lag).sum())
+                .description("Records the read model projection is behind conversion-event-topic")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".catch_up", partitions, states -> states.values().stream().filter(state -> state.catchUp).count())
+                .description("Projection partitions currently in catch-up mode")
+                .register(meterRegistry);
+        for (Mode mode : Mode.values()) {
+            String tag = mode.name().toLowerCase();
+            rows.put(mode, Counter.builder(METRIC_PREFIX + ".rows")
+                    .description("Conversion events projected into the read model")
+                    .tag("mode", tag)
+                    .register(meterRegistry));
+            writes.put(mode, Timer.builder(METRIC_PREFIX + ".write")
+                    .description("Latency of read model batch writes")
+                    .tag("mode", tag)
+                    .register(meterRegistry));
+        }
+    }
+
+    /**
+     * Records the lag of the consumer's assigned partitions and returns the mode to write a batch of
+     * {@code batchSize} records in.
+     */
+    public Mode select(Consumer<?, ?> consumer, int batchSize) {
+        Set<TopicPartition> assignment = consumer == null ? Set.of() : consumer.assignment();
+        List<PartitionState> states = new ArrayList<>(assignment.size());
+        long lag = 0;
+        boolean catchUp = false;
+        for (TopicPartition partition : assignment) {
+            PartitionState state = partitions.computeIfAbsent(partition, assigned -> new PartitionState());
+            state.lag = lagOf(consumer, partition);
+            lag += state.lag;
+            catchUp |= state.catchUp;
+            states.add(state);
+        }
+        if (enabled && !catchUp && lag > enterLag) {
+            catchUp = true;
+            log.info("Projection entering catch-up mode: lag {} > {}", lag, enterLag);
+        } else if (catchUp && (!enabled || lag < exitLag)) {
+            catchUp = false;
+            log.info("Projection leaving catch-up mode: lag {} < {}", lag, exitLag);
+        }
+        for (PartitionState state : states) {
+            state.catchUp = catchUp;
+        }
+        return catchUp && batchSize >= minCopyBatchSize ? Mode.CATCH_UP : Mode.NORMAL;
+    }
+
+    public void record(Mode mode, int rowCount, long nanos) {
+        rows.get(mode).increment(rowCount);
+        writes.get(mode).record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void onPartitionsRevokedAfterCommit(Consumer<?, ?> consumer, Collection<TopicPartition> revoked) {
+        revoked.forEach(partitions::remove);
+    }
+
+    @Override
+    public void onPartitionsLost(Consumer<?, ?> consumer, Collection<TopicPartition> lost) {
+        lost.forEach(partitions::remove);
+    }
+
+    private static long lagOf(Consumer<?, ?> consumer, TopicPartition partition) {
+        OptionalLong lag = consumer.currentLag(partition);
+        return lag.isPresent() ? lag.getAsLong() : 0;
+    }
+
+    private static final class PartitionState {
+        private volatile long lag;
+        private volatile boolean catchUp;
+    }
+}
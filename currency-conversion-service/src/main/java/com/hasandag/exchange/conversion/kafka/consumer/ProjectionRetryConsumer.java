@@ -0,0 +1,75 @@
+package com.hasandag.exchange.conversion.kafka.consumer;
+
+import com.hasandag.exchange.common.constants.KafkaConstants;
+import com.hasandag.exchange.common.dto.cqrs.ConversionEvent;
+import com.hasandag.exchange.conversion.repository.query.CurrencyConversionProjectionWriter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.annotation.DltHandler;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.annotation.RetryableTopic;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.messaging.handler.annotation.Header;
+import org.springframework.retry.annotation.Backoff;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Retries conversions that {@link ConversionEventConsumer} could not project, one event at a time and
+ * away from the main topic. Each failed attempt moves the event to the next retry topic
+ * ({@code <topic>-retry-<delay>}), which is only consumed once its delay has passed; after the last
+ * attempt the event lands on {@link KafkaConstants#CONVERSION_PROJECTION_DLT_TOPIC}, where it stays until
+ * {@link DeadLetterReplayer} puts it back on the main topic.
+ */
+@Component
+@Slf4j
+public class ProjectionRetryConsumer {
+
+    private final CurrencyConversionProjectionWriter projectionWriter;
+    private final Counter recovered;
+    private final Counter deadLettered;
+
+    public ProjectionRetryConsumer(CurrencyConversionProjectionWriter projectionWriter, MeterRegistry meterRegistry) {
+        this.projectionWriter = projectionWriter;
+        this.recovered = Counter.builder("conversion.projection.retry")
+                .description("Conversions projected from the retry topics")
+                .tag("outcome", "recovered")
+                .register(meterRegistry);
+        this.deadLettered = Counter.builder("conversion.projection.retry")
+                .description("Conversions moved to the dead-letter topic")
+                .tag("outcome", "dead_lettered")
+                .register(meterRegistry);
+    }
+
+    @RetryableTopic(
+        attempts = "${kafka.consumer.conversion-event.retry.attempts:4}",
+        backoff = @Backoff(
+            delayExpression = "${kafka.consumer.conversion-event.retry.initial-delay:1000}",
+            multiplierExpression = "${kafka.consumer.conversion-event.retry.multiplier:5}",
+            maxDelayExpression = "${kafka.consumer.conversion-event.retry.max-delay:60000}"),
+        kafkaTemplate = "kafkaTemplate",
+        listenerContainerFactory = "projectionRetryListenerContainerFactory"
+    )
+    @KafkaListener(
+        topics = KafkaConstants.CONVERSION_PROJECTION_RETRY_TOPIC,
+        groupId = KafkaConstants.PROJECTION_RETRY_GROUP,
+        containerFactory = "projectionRetryListenerContainerFactory"
+    )
+    public void retry(ConversionEvent event, @Header(KafkaHeaders.RECEIVED_TOPIC) String topic) {
+        if (event == null) {
+            return;
+        }
+        log.debug("Retrying projection of {} from {}", event.getTransactionId(), topic);
+        projectionWriter.insertIgnoringDuplicates(List.of(ConversionEventConsumer.toEntity(event)));
+        recovered.increment();
+    }
+
+    @DltHandler
+    public void deadLetter(ConversionEvent event, @Header(KafkaHeaders.RECEIVED_TOPIC) String topic) {
+        deadLettered.increment();
+        log.error("Conversion {} exhausted projection retries and was parked on {}",
+                event == null ? null : event.getTransactionId(), topic);
+    }
+}
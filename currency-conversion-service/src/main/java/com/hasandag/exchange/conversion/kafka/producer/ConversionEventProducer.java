@@ -2,26 +2,45 @@ package com.hasandag.exchange.conversion.kafka.producer;
 
 import com.hasandag.exchange.common.constants.KafkaConstants;
 import com.hasandag.exchange.common.dto.cqrs.ConversionEvent;
-import lombok.RequiredArgsConstructor;
+import com.hasandag.exchange.conversion.kafka.ConversionEventKeyStrategy;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.support.SendResult;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
 @Component
-@RequiredArgsConstructor
 @Slf4j
 public class ConversionEventProducer {
     
-    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final EventPublisher eventPublisher;
+    private final ConversionEventKeyStrategy keyStrategy;
+
+    public ConversionEventProducer(
+            EventPublisher eventPublisher,
+            @Value("${kafka.conversion-event.key-strategy:transaction-id}") String keyStrategy) {
+        this.eventPublisher = eventPublisher;
+        this.keyStrategy = ConversionEventKeyStrategy.from(keyStrategy);
+    }
     
-    public void sendConversionEvent(ConversionEvent event) {
-        log.debug("Sending conversion event: {}", event.getTransactionId());
-        try {
-            kafkaTemplate.send(KafkaConstants.CONVERSION_EVENT_TOPIC, event.getEventId(), event);
-            log.debug("Successfully sent conversion event: {}", event.getTransactionId());
-        } catch (Exception e) {
-            log.error("Failed to send conversion event for transaction: {}", event.getTransactionId(), e);
-            throw new RuntimeException("Failed to publish conversion event for transaction: " + event.getTransactionId(), e);
+    /**
+     * Hands all events to the producer before waiting on any of them, so they leave in as few
+     * record batches as the producer's linger and batch settings allow. Futures are returned
+     * in event order and complete exceptionally for events that could not be sent.
+     */
+    public List<CompletableFuture<SendResult<String, Object>>> sendConversionEvents(List<ConversionEvent> events) {
+        return sendConversionEvents(KafkaConstants.CONVERSION_EVENT_TOPIC, events);
+    }
+
+    public List<CompletableFuture<SendResult<String, Object>>> sendConversionEvents(String topic, List<ConversionEvent> events) {
+        log.debug("Sending {} conversion events to {}", events.size(), topic);
+        List<CompletableFuture<SendResult<String, Object>>> futures = new ArrayList<>(events.size());
+        for (ConversionEvent event : events) {
+            futures.add(eventPublisher.publish(topic, keyStrategy.keyOf(event), event));
         }
+        return futures;
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,229 @@
+package com.hasandag.exchange.conversion.kafka.producer;
+
+import com.hasandag.exchange.common.dto.cqrs.ConversionEvent;
+import com.hasandag.exchange.common.id.TimeOrderedIds;
+import com.hasandag.exchange.conversion.model.CurrencyConversionDocument;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+/**
+ * Publishes conversion events from the embedded outbox on {@link CurrencyConversionDocument}.
+ * <p>
+ * Each round claims up to {@code batch-size} pending documents with a lease, hands all their events to
+ * the producer at once and then marks the delivered ones as published. Documents whose send failed,
+ * or whose relay died mid-batch, become claimable again when the lease expires, so delivery is
+ * at-least-once; the read model consumer already skips duplicate transaction IDs.
+ * <p>
+ * A failed send is retried after {@code retry-backoff}, doubling per attempt up to {@code max-backoff},
+ * by pushing the document's lease out that far. After {@code max-attempts} failed sends the document
+ * is parked as {@link CurrencyConversionDocument#EVENT_FAILED} and counted in
+ * {@code conversion.outbox.events{outcome=failed}}; setting it back to PENDING re-queues it.
+ */
+@Component
+@Slf4j
+public class ConversionOutboxRelay {
+
+    private static final String EVENT_STATUS = "event_status";
+    private static final String EVENT_CLAIMED_BY = "event_claimed_by";
+    private static final String EVENT_CLAIMED_UNTIL = "event_claimed_until";
+    private static final String EVENT_ATTEMPTS = "event_attempts";
+
+    private final MongoTemplate mongoTemplate;
+    private final ConversionEventProducer eventProducer;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+    private final Duration claimLease;
+    private final Duration sendTimeout;
+    private final int maxAttempts;
+    private final Duration retryBackoff;
+    private final Duration maxBackoff;
+    private final Counter parked;
+
+    public ConversionOutboxRelay(
+            MongoTemplate mongoTemplate,
+            ConversionEventProducer eventProducer,
+            MeterRegistry meterRegistry,
+            @Value("${conversion.outbox.relay.batch-size:500}") int batchSize,
+            @Value("${conversion.outbox.relay.max-batches-per-run:20}") int maxBatchesPerRun,
+            @Value("${conversion.outbox.relay.claim-lease:30s}") Duration claimLease,
+            @Value("${conversion.outbox.relay.send-timeout:10s}") Duration sendTimeout,
+            @Value("${conversion.outbox.relay.max-attempts:10}") int maxAttempts,
+            @Value("${conversion.outbox.relay.retry-backoff:1s}") Duration retryBackoff,
+            @Value("${conversion.outbox.relay.max-backoff:5m}") Duration maxBackoff) {
+        this.mongoTemplate = mongoTemplate;
+        this.eventProducer = eventProducer;
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+        this.claimLease = claimLease;
+        this.sendTimeout = sendTimeout;
+        this.maxAttempts = maxAttempts;
+        this.retryBackoff = retryBackoff;
+        this.maxBackoff = maxBackoff;
+        this.parked = Counter.builder("conversion.outbox.events")
+                .description("Outbox events parked after exhausting their publish attempts")
+                .tag("outcome", "failed")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${conversion.outbox.relay.interval:200}")
+    public void relayPendingEvents() {
+        try {
+            for (int i = 0; i < maxBatchesPerRun; i++) {
+                if (relayBatch() < batchSize) {
+                    return;
+                }
+            }
+        } catch (Exception e) {
+            log.error("Outbox relay run failed: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * @return the number of documents claimed in this batch
+     */
+    public int relayBatch() {
+        List<CurrencyConversionDocument> claimed = claimBatch();
+        if (claimed.isEmpty()) {
+            return 0;
+        }
+
+        List<ConversionEvent> events = claimed.stream().map(this::toEvent).toList();
+        List<CompletableFuture<?>> futures = new ArrayList<>(eventProducer.sendConversionEvents(events));
+
+        List<String> published = new ArrayList<>(claimed.size());
+        List<CurrencyConversionDocument> failed = new ArrayList<>();
+        long deadline = System.nanoTime() + sendTimeout.toNanos();
+        for (int i = 0; i < claimed.size(); i++) {
+            CurrencyConversionDocument document = claimed.get(i);
+            try {
+                futures.get(i).get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                published.add(document.getId());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                failed.add(document);
+            } catch (ExecutionException | TimeoutException e) {
+                failed.add(document);
+            }
+        }
+
+        if (!published.isEmpty()) {
+            mongoTemplate.updateMulti(
+                    Query.query(where("_id").in(published)),
+                    new Update()
+                            .unset(EVENT_STATUS)
+                            .unset(EVENT_CLAIMED_BY)
+                            .unset(EVENT_CLAIMED_UNTIL)
+                            .set("event_published_at", LocalDateTime.now()),
+                    CurrencyConversionDocument.class);
+        }
+        if (!failed.isEmpty()) {
+            recordFailures(failed, claimed.size());
+        }
+        log.debug("Outbox relay published {} events", published.size());
+        return claimed.size();
+    }
+
+    /**
+     * Documents sharing an attempt count share a retry time, so each count needs one update.
+     */
+    private void recordFailures(List<CurrencyConversionDocument> failed, int batch) {
+        LocalDateTime now = LocalDateTime.now();
+        Map<Integer, List<String>> byAttempt = failed.stream().collect(Collectors.groupingBy(
+                document -> (document.getEventAttempts() == null ? 0 : document.getEventAttempts()) + 1,
+                TreeMap::new,
+                Collectors.mapping(CurrencyConversionDocument::getId, Collectors.toList())));
+
+        int retried = 0;
+        for (Map.Entry<Integer, List<String>> entry : byAttempt.entrySet()) {
+            int attempt = entry.getKey();
+            List<String> ids = entry.getValue();
+            Update update = new Update().set(EVENT_ATTEMPTS, attempt).unset(EVENT_CLAIMED_BY);
+            if (attempt >= maxAttempts) {
+                update.set(EVENT_STATUS, CurrencyConversionDocument.EVENT_FAILED).unset(EVENT_CLAIMED_UNTIL);
+                parked.increment(ids.size());
+                log.error("Parking {} outbox events after {} failed publish attempts: {}", ids.size(), attempt, ids);
+            } else {
+                update.set(EVENT_CLAIMED_UNTIL, now.plus(backoff(attempt)));
+                retried += ids.size();
+            }
+            mongoTemplate.updateMulti(Query.query(where("_id").in(ids)), update, CurrencyConversionDocument.class);
+        }
+        if (retried > 0) {
+            log.warn("Outbox relay failed to publish {} of {} events; they will be retried", retried, batch);
+        }
+    }
+
+    private Duration backoff(int attempt) {
+        int doublings = Math.min(attempt - 1, 30);
+        Duration delay = retryBackoff.multipliedBy(1L << doublings);
+        return delay.compareTo(maxBackoff) > 0 ? maxBackoff : delay;
+    }
+
+    private List<CurrencyConversionDocument> claimBatch() {
+        LocalDateTime now = LocalDateTime.now();
+        Criteria claimable = where(EVENT_STATUS).is(CurrencyConversionDocument.EVENT_PENDING)
+                .orOperator(where(EVENT_CLAIMED_UNTIL).exists(false), where(EVENT_CLAIMED_UNTIL).lt(now));
+
+        Query candidates = Query.query(claimable)
+                .with(Sort.by(Sort.Direction.ASC, "timestamp"))
+                .limit(batchSize);
+        candidates.fields().include("_id");
+        List<String> ids = mongoTemplate.find(candidates, CurrencyConversionDocument.class).stream()
+                .map(CurrencyConversionDocument::getId)
+                .toList();
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        String claimToken = TimeOrderedIds.nextString();
+        mongoTemplate.updateMulti(
+                Query.query(new Criteria().andOperator(where("_id").in(ids), claimable)),
+                new Update().set(EVENT_CLAIMED_BY, claimToken).set(EVENT_CLAIMED_UNTIL, now.plus(claimLease)),
+                CurrencyConversionDocument.class);
+
+        return mongoTemplate.find(
+                Query.query(where(EVENT_CLAIMED_BY).is(claimToken)).with(Sort.by(Sort.Direction.ASC, "timestamp")),
+                CurrencyConversionDocument.class);
+    }
+
+    private ConversionEvent toEvent(CurrencyConversionDocument document) {
+        ConversionEvent.ConversionEventBuilder builder = ConversionEvent.builder()
+                .transactionId(document.getTransactionId())
+                .sourceCurrency(document.getSourceCurrencyEnum())
+                .targetCurrency(document.getTargetCurrencyEnum())
+                .sourceAmount(document.getSourceAmount())
+                .targetAmount(document.getTargetAmount())
+                .exchangeRate(document.getExchangeRate())
+                .timestamp(document.getTimestamp())
+                .commandId(document.getCommandId())
+                .correlationId(document.getCorrelationId())
+                .eventType(ConversionEvent.EventType.CONVERSION_CREATED);
+        if (document.getEventId() != null) {
+            builder.eventId(document.getEventId());
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,109 @@
+package com.hasandag.exchange.conversion.kafka.producer;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Single entry point for records this service publishes to Kafka.
+ * <p>
+ * At most {@code kafka.producer.max-in-flight-sends} records may be awaiting acknowledgement at once.
+ * Callers beyond that wait up to {@code kafka.producer.in-flight-acquire-timeout} for a slot and then get
+ * a failed future, so a slow or unreachable broker pushes back on publishers instead of filling the
+ * producer buffer. Every send is tracked asynchronously: {@code kafka.publish} times it from hand-off to
+ * acknowledgement, tagged by topic and outcome, and {@code kafka.publish.rejected} counts sends refused
+ * for lack of a slot.
+ */
+@Component
+@Slf4j
+public class EventPublisher {
+
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final MeterRegistry meterRegistry;
+    private final Semaphore inFlight;
+    private final long acquireTimeoutNanos;
+    private final Map<String, Timer> successTimers = new ConcurrentHashMap<>();
+    private final Map<String, Timer> failureTimers = new ConcurrentHashMap<>();
+    private final Map<String, Counter> rejections = new ConcurrentHashMap<>();
+
+    public EventPublisher(
+            KafkaTemplate<String, Object> kafkaTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${kafka.producer.max-in-flight-sends:10000}") int maxInFlightSends,
+            @Value("${kafka.producer.in-flight-acquire-timeout:5s}") Duration acquireTimeout) {
+        this.kafkaTemplate = kafkaTemplate;
+        this.meterRegistry = meterRegistry;
+        this.inFlight = new Semaphore(maxInFlightSends);
+        this.acquireTimeoutNanos = acquireTimeout.toNanos();
+        Gauge.builder("kafka.publish.in_flight", inFlight, permits -> maxInFlightSends - permits.availablePermits())
+                .description("Records handed to the producer and not yet acknowledged")
+                .register(meterRegistry);
+    }
+
+    /**
+     * @return a future completing with the broker acknowledgement, or exceptionally if the record was
+     * rejected by backpressure, could not be handed to the producer, or was not delivered
+     */
+    public CompletableFuture<SendResult<String, Object>> publish(String topic, String key, Object value) {
+        try {
+            if (!inFlight.tryAcquire(acquireTimeoutNanos, TimeUnit.NANOSECONDS)) {
+                rejections.computeIfAbsent(topic, this::rejectionCounter).increment();
+                return CompletableFuture.failedFuture(new IllegalStateException(
+                        "Too many unacknowledged records; rejected publish to " + topic));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return CompletableFuture.failedFuture(e);
+        }
+
+        long start = System.nanoTime();
+        CompletableFuture<SendResult<String, Object>> send;
+        try {
+            send = kafkaTemplate.send(topic, key, value);
+        } catch (RuntimeException e) {
+            complete(topic, start, e);
+            return CompletableFuture.failedFuture(e);
+        }
+        return send.whenComplete((result, failure) -> complete(topic, start, failure));
+    }
+
+    private void complete(String topic, long start, Throwable failure) {
+        inFlight.release();
+        long elapsed = System.nanoTime() - start;
+        if (failure == null) {
+            successTimers.computeIfAbsent(topic, t -> publishTimer(t, "success")).record(elapsed, TimeUnit.NANOSECONDS);
+        } else {
+            failureTimers.computeIfAbsent(topic, t -> publishTimer(t, "failure")).record(elapsed, TimeUnit.NANOSECONDS);
+            log.warn("Publish to {} failed: {}", topic, failure.getMessage());
+        }
+    }
+
+    private Timer publishTimer(String topic, String outcome) {
+        return Timer.builder("kafka.publish")
+                .description("Time from handing a record to the producer until the broker acknowledged or refused it")
+                .tag("topic", topic)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private Counter rejectionCounter(String topic) {
+        return Counter.builder("kafka.publish.rejected")
+                .description("Records refused because the in-flight limit stayed exhausted")
+                .tag("topic", topic)
+                .register(meterRegistry);
+    }
+}
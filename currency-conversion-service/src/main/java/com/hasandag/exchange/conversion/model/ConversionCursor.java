@@ -0,0 +1,39 @@
+package com.hasandag.exchange.conversion.model;
+
+import com.hasandag.exchange.common.exception.BusinessException;
+import org.springframework.http.HttpStatus;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Position in conversion history ordered by {@code (timestamp, id)} descending: the last row of the
+ * previous page. Clients only see it as an opaque token.
+ */
+public record ConversionCursor(LocalDateTime timestamp, long id) {
+
+    private static final char SEPARATOR = '|';
+
+    public static ConversionCursor after(CurrencyConversionEntity last) {
+        return new ConversionCursor(last.getTimestamp(), last.getId());
+    }
+
+    public String encode() {
+        String raw = timestamp.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static ConversionCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            return new ConversionCursor(LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new BusinessException("INVALID_CURSOR", "Cursor is malformed; pass nextCursor from a previous page",
+                    HttpStatus.BAD_REQUEST);
+        }
+    }
+}
@@ -20,8 +20,13 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 @Document(collection = "currency_conversions")
+@CompoundIndex(name = "outbox_pending_idx", def = "{'event_status': 1, 'timestamp': 1}",
+        partialFilter = "{'event_status': {$exists: true}}")
 public class CurrencyConversionDocument {
 
+    public static final String EVENT_PENDING = "PENDING";
+    public static final String EVENT_FAILED = "FAILED";
+
     @Id
     private String id;
 
@@ -56,6 +61,29 @@ public class CurrencyConversionDocument {
     @Field("status")
     @Indexed
     private String status = "COMPLETED";
+
+    @Field("event_id")
+    private String eventId;
+
+    /**
+     * {@link #EVENT_PENDING} until the outbox relay has published the conversion event; removed afterwards
+     * so that only unpublished documents stay in {@code outbox_pending_idx}. {@link #EVENT_FAILED} once the
+     * relay has given up on it.
+     */
+    @Field("event_status")
+    private String eventStatus;
+
+    @Field("event_attempts")
+    private Integer eventAttempts;
+
+    @Field("event_claimed_by")
+    private String eventClaimedBy;
+
+    @Field("event_claimed_until")
+    private LocalDateTime eventClaimedUntil;
+
+    @Field("event_published_at")
+    private LocalDateTime eventPublishedAt;
     
     public Currency getSourceCurrencyEnum() {
         return sourceCurrency != null ? Currency.fromCode(sourceCurrency) : null;
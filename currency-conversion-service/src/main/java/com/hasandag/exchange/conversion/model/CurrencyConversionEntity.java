@@ -1,5 +1,6 @@
 package com.hasandag.exchange.conversion.model;
 
+import com.hasandag.exchange.common.id.TimeOrderedIds;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
@@ -18,12 +19,11 @@ import lombok.ToString;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.Objects;
-import java.util.UUID;
 
 @Entity
 @Table(name = "currency_conversions", indexes = {
-        @Index(name = "idx_transaction_id", columnList = "transactionId", unique = true),
-        @Index(name = "idx_timestamp", columnList = "timestamp")
+        @Index(name = "uq_currency_conversions_transaction_id", columnList = "transactionId, timestamp", unique = true),
+        @Index(name = "idx_timestamp_id", columnList = "timestamp DESC, id DESC")
 })
 @Getter
 @Setter
@@ -37,7 +37,7 @@ public class CurrencyConversionEntity {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
     
-    @Column(nullable = false, unique = true)
+    @Column(nullable = false)
     private String transactionId;
     
     @Column(nullable = false)
@@ -61,7 +61,7 @@ public class CurrencyConversionEntity {
     @PrePersist
     protected void onCreate() {
         if (transactionId == null) {
-            transactionId = UUID.randomUUID().toString();
+            transactionId = TimeOrderedIds.nextString();
         }
         if (timestamp == null) {
             timestamp = LocalDateTime.now();
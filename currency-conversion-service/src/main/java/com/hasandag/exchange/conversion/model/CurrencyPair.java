@@ -0,0 +1,15 @@
+package com.hasandag.exchange.conversion.model;
+
+import com.hasandag.exchange.common.enums.Currency;
+
+public record CurrencyPair(Currency source, Currency target) {
+
+    public static CurrencyPair of(Currency source, Currency target) {
+        return new CurrencyPair(source, target);
+    }
+
+    @Override
+    public String toString() {
+        return source.getCode() + "-" + target.getCode();
+    }
+}
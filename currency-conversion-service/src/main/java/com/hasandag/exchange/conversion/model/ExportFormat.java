@@ -0,0 +1,24 @@
+package com.hasandag.exchange.conversion.model;
+
+import org.springframework.http.MediaType;
+
+public enum ExportFormat {
+    NDJSON(MediaType.APPLICATION_NDJSON, "ndjson"),
+    CSV(new MediaType("text", "csv"), "csv");
+
+    private final MediaType mediaType;
+    private final String fileExtension;
+
+    ExportFormat(MediaType mediaType, String fileExtension) {
+        this.mediaType = mediaType;
+        this.fileExtension = fileExtension;
+    }
+
+    public MediaType mediaType() {
+        return mediaType;
+    }
+
+    public String fileExtension() {
+        return fileExtension;
+    }
+}
@@ -0,0 +1,11 @@
+package com.hasandag.exchange.conversion.model;
+
+/**
+ * How the total of a cursor-paginated history query is reported. {@link #ESTIMATED} reads the planner's
+ * row estimate and costs no scan; {@link #EXACT} counts every matching row.
+ */
+public enum HistoryCountMode {
+    NONE,
+    ESTIMATED,
+    EXACT
+}
@@ -0,0 +1,47 @@
+package com.hasandag.exchange.conversion.model;
+
+import com.hasandag.exchange.common.dto.ConversionResponse;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
+
+import java.time.Instant;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "conversion_idempotency_keys")
+public class IdempotencyRecord {
+
+    public static final String IN_FLIGHT = "IN_FLIGHT";
+    public static final String COMPLETED = "COMPLETED";
+
+    @Id
+    private String key;
+
+    @Field("request_hash")
+    private String requestHash;
+
+    @Field("status")
+    private String status;
+
+    @Field("response")
+    private ConversionResponse response;
+
+    @Field("created_at")
+    private Instant createdAt;
+
+    /**
+     * Removed by Mongo's TTL monitor once passed; short for in-flight records so a crashed owner
+     * does not hold the key for the full retention period.
+     */
+    @Field("expires_at")
+    @Indexed(name = "idempotency_ttl_idx", expireAfter = "0s")
+    private Instant expiresAt;
+}
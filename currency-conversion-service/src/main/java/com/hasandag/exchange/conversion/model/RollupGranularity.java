@@ -0,0 +1,37 @@
+package com.hasandag.exchange.conversion.model;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Locale;
+
+/**
+ * Bucket sizes kept in {@code conversion_volume_rollups}. {@link #sqlName()} is both the stored value and
+ * the {@code date_trunc} field that produced the bucket.
+ */
+public enum RollupGranularity {
+    MINUTE(ChronoUnit.MINUTES),
+    HOUR(ChronoUnit.HOURS),
+    DAY(ChronoUnit.DAYS);
+
+    private final ChronoUnit unit;
+
+    RollupGranularity(ChronoUnit unit) {
+        this.unit = unit;
+    }
+
+    public Duration bucket() {
+        return unit.getDuration();
+    }
+
+    /**
+     * Whether {@code time} is the start of a bucket, i.e. what {@code date_trunc} would leave unchanged.
+     */
+    public boolean isBucketStart(LocalDateTime time) {
+        return time.truncatedTo(unit).equals(time);
+    }
+
+    public String sqlName() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,197 @@
+package com.hasandag.exchange.conversion.repository.query;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hasandag.exchange.conversion.dto.ConversionSearchRequest;
+import com.hasandag.exchange.conversion.model.ConversionCursor;
+import com.hasandag.exchange.conversion.model.CurrencyConversionEntity;
+import com.hasandag.exchange.conversion.repository.specification.ConversionSpecifications;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataRetrievalFailureException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.ArgumentPreparedStatementSetter;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Keyset-paginated reads of {@code currency_conversions}, newest first.
+ * <p>
+ * Pages are ordered by {@code (timestamp, id)} descending and continue with the row-value predicate
+ * {@code (timestamp, id) < (?, ?)}, which {@code idx_timestamp_id} answers with an index range scan
+ * starting at the cursor, so every page costs the same however deep it is. Filters mirror
+ * {@link ConversionSpecifications}.
+ * <p>
+ * {@link #streamAll} reads an unbounded result through a server-side cursor instead.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ConversionHistoryRepository {
+
+    static final String COLUMNS =
+            "id, transaction_id, source_currency, target_currency, source_amount, target_amount, exchange_rate, timestamp";
+
+    static final String ORDER_BY = " ORDER BY timestamp DESC, id DESC";
+
+    static final RowMapper<CurrencyConversionEntity> ROW_MAPPER = (rs, rowNum) -> CurrencyConversionEntity.builder()
+            .id(rs.getLong("id"))
+            .transactionId(rs.getString("transaction_id"))
+            .sourceCurrency(rs.getString("source_currency"))
+            .targetCurrency(rs.getString("target_currency"))
+            .sourceAmount(rs.getBigDecimal("source_amount"))
+            .targetAmount(rs.getBigDecimal("target_amount"))
+            .exchangeRate(rs.getBigDecimal("exchange_rate"))
+            .timestamp(rs.getTimestamp("timestamp").toLocalDateTime())
+            .build();
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * @param after the last row of the previous page, or null for the first page
+     */
+    public List<CurrencyConversionEntity> findPage(ConversionSearchRequest search, ConversionCursor after, int limit) {
+        SqlFilter filter = SqlFilter.of(search);
+        if (after != null) {
+            filter.add("(timestamp, id) < (?, ?)", Timestamp.valueOf(after.timestamp()), after.id());
+        }
+        List<Object> args = new ArrayList<>(filter.args());
+        args.add(limit);
+        return jdbcTemplate.query("SELECT " + COLUMNS + " FROM currency_conversions" + filter.where() + ORDER_BY + " LIMIT ?",
+                ROW_MAPPER, args.toArray());
+    }
+
+    public long count(ConversionSearchRequest search) {
+        SqlFilter filter = SqlFilter.of(search);
+        Long count = jdbcTemplate.queryForObject("SELECT count(*) FROM currency_conversions" + filter.where(),
+                Long.class, filter.args().toArray());
+        return count == null ? 0 : count;
+    }
+
+    /**
+     * The planner's estimate of matching rows, from table statistics rather than a scan.
+     */
+    public long estimateCount(ConversionSearchRequest search) {
+        SqlFilter filter = SqlFilter.of(search);
+        String plan = jdbcTemplate.queryForObject("EXPLAIN (FORMAT JSON) SELECT 1 FROM currency_conversions" + filter.where(),
+                String.class, filter.args().toArray());
+        try {
+            return objectMapper.readTree(plan).path(0).path("Plan").path("Plan Rows").asLong();
+        } catch (JsonProcessingException e) {
+            throw new DataRetrievalFailureException("Unreadable query plan", e);
+        }
+    }
+
+    /**
+     * Hands every matching row, newest first, to {@code handler} while the result is still being read.
+     * PostgreSQL only opens a cursor for a forward-only statement with a fetch size inside a transaction,
+     * so the connection leaves auto-commit for the duration; at most {@code fetchSize} rows are held in
+     * memory at a time.
+     * <p>
+     * The transaction pins a pooled connection, so it is bounded by {@code timeout}: the server cancels
+     * the query or ends a session left idle that long (a client that stopped reading), and the stream is
+     * abandoned once it has run that long in total.
+     *
+     * @throws QueryTimeoutException if the export outlives {@code timeout}
+     */
+    public void streamAll(ConversionSearchRequest search, int fetchSize, Duration timeout, RowCallbackHandler handler) {
+        SqlFilter filter = SqlFilter.of(search);
+        String sql = "SELECT " + COLUMNS + " FROM currency_conversions" + filter.where() + ORDER_BY;
+        long deadline = System.nanoTime() + timeout.toNanos();
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            try (PreparedStatement statement = connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+                try (Statement settings = connection.createStatement()) {
+                    settings.execute("SET LOCAL statement_timeout = " + timeout.toMillis());
+                    settings.execute("SET LOCAL idle_in_transaction_session_timeout = " + timeout.toMillis());
+                }
+                statement.setFetchSize(fetchSize);
+                new ArgumentPreparedStatementSetter(filter.args().toArray()).setValues(statement);
+                try (ResultSet rows = statement.executeQuery()) {
+                    while (rows.next()) {
+                        if (System.nanoTime() - deadline > 0) {
+                            throw new QueryTimeoutException("Conversion export exceeded " + timeout);
+                        }
+                        handler.processRow(rows);
+                    }
+                }
+                connection.commit();
+            } catch (SQLException | RuntimeException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+            return null;
+        });
+    }
+
+    /**
+     * WHERE clause and bind arguments for a {@link ConversionSearchRequest}; null fields do not filter.
+     */
+    static final class SqlFilter {
+        private final List<String> conditions = new ArrayList<>();
+        private final List<Object> args = new ArrayList<>();
+
+        static SqlFilter of(ConversionSearchRequest search) {
+            SqlFilter filter = new SqlFilter();
+            if (search.getTransactionId() != null) {
+                filter.add("transaction_id = ?", search.getTransactionId());
+                LocalDateTime minted = ConversionSpecifications.mintedAt(search.getTransactionId());
+                if (minted != null) {
+                    filter.range("timestamp", minted.minus(ConversionSpecifications.TRANSACTION_ID_TIMESTAMP_SLACK),
+                            minted.plus(ConversionSpecifications.TRANSACTION_ID_TIMESTAMP_SLACK));
+                }
+            }
+            if (search.getSourceCurrency() != null) {
+                filter.add("source_currency = ?", search.getSourceCurrency());
+            }
+            if (search.getTargetCurrency() != null) {
+                filter.add("target_currency = ?", search.getTargetCurrency());
+            }
+            filter.range("source_amount", search.getMinSourceAmount(), search.getMaxSourceAmount());
+            filter.range("exchange_rate", search.getMinExchangeRate(), search.getMaxExchangeRate());
+            filter.range("timestamp", search.getStartDate(), search.getEndDate());
+            return filter;
+        }
+
+        void add(String condition, Object... values) {
+            conditions.add(condition);
+            args.addAll(List.of(values));
+        }
+
+        String where() {
+            return conditions.isEmpty() ? "" : " WHERE " + String.join(" AND ", conditions);
+        }
+
+        List<Object> args() {
+            return args;
+        }
+
+        private void range(String column, Object min, Object max) {
+            if (min != null) {
+                add(column + " >= ?", bindable(min));
+            }
+            if (max != null) {
+                add(column + " <= ?", bindable(max));
+            }
+        }
+
+        private static Object bindable(Object value) {
+            return value instanceof LocalDateTime dateTime ? Timestamp.valueOf(dateTime) : value;
+        }
+    }
+}
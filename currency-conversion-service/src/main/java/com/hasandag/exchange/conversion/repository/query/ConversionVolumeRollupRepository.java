@@ -0,0 +1,69 @@
+package com.hasandag.exchange.conversion.repository.query;
+
+import com.hasandag.exchange.conversion.dto.ConversionVolumeStats;
+import com.hasandag.exchange.conversion.model.RollupGranularity;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Reads {@code conversion_volume_rollups}, which {@link CurrencyConversionProjectionWriter} maintains.
+ * Every query is a range scan on the primary key or on {@code idx_rollups_granularity_bucket}, never on
+ * {@code currency_conversions}.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ConversionVolumeRollupRepository {
+
+    static final String PAIR_SERIES_SQL = "SELECT source_currency, target_currency, bucket_start, conversion_count,"
+            + " source_amount_sum, target_amount_sum, min_rate, max_rate FROM conversion_volume_rollups"
+            + " WHERE granularity = ? AND source_currency = ? AND target_currency = ?"
+            + " AND bucket_start >= ? AND bucket_start < ? ORDER BY bucket_start";
+
+    static final String ALL_PAIRS_SERIES_SQL = "SELECT source_currency, target_currency, bucket_start, conversion_count,"
+            + " source_amount_sum, target_amount_sum, min_rate, max_rate FROM conversion_volume_rollups"
+            + " WHERE granularity = ? AND bucket_start >= ? AND bucket_start < ?"
+            + " ORDER BY bucket_start, source_currency, target_currency";
+
+    static final String SUMMARY_SQL = "SELECT source_currency, target_currency, NULL AS bucket_start,"
+            + " sum(conversion_count) AS conversion_count, sum(source_amount_sum) AS source_amount_sum,"
+            + " sum(target_amount_sum) AS target_amount_sum, min(min_rate) AS min_rate, max(max_rate) AS max_rate"
+            + " FROM conversion_volume_rollups WHERE granularity = ? AND bucket_start >= ? AND bucket_start < ?"
+            + " GROUP BY source_currency, target_currency ORDER BY source_currency, target_currency";
+
+    private static final RowMapper<ConversionVolumeStats> ROW_MAPPER = (rs, rowNum) -> {
+        Timestamp bucketStart = rs.getTimestamp("bucket_start");
+        return ConversionVolumeStats.builder()
+                .sourceCurrency(rs.getString("source_currency"))
+                .targetCurrency(rs.getString("target_currency"))
+                .bucketStart(bucketStart == null ? null : bucketStart.toLocalDateTime())
+                .conversionCount(rs.getLong("conversion_count"))
+                .sourceAmountSum(rs.getBigDecimal("source_amount_sum"))
+                .targetAmountSum(rs.getBigDecimal("target_amount_sum"))
+                .minRate(rs.getBigDecimal("min_rate"))
+                .maxRate(rs.getBigDecimal("max_rate"))
+                .build();
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public List<ConversionVolumeStats> findSeries(RollupGranularity granularity, String sourceCurrency, String targetCurrency,
+                                                  LocalDateTime from, LocalDateTime to) {
+        return jdbcTemplate.query(PAIR_SERIES_SQL, ROW_MAPPER, granularity.sqlName(), sourceCurrency, targetCurrency,
+                Timestamp.valueOf(from), Timestamp.valueOf(to));
+    }
+
+    public List<ConversionVolumeStats> findSeriesForAllPairs(RollupGranularity granularity, LocalDateTime from, LocalDateTime to) {
+        return jdbcTemplate.query(ALL_PAIRS_SERIES_SQL, ROW_MAPPER, granularity.sqlName(),
+                Timestamp.valueOf(from), Timestamp.valueOf(to));
+    }
+
+    public List<ConversionVolumeStats> summarizeByPair(RollupGranularity granularity, LocalDateTime from, LocalDateTime to) {
+        return jdbcTemplate.query(SUMMARY_SQL, ROW_MAPPER, granularity.sqlName(), Timestamp.valueOf(from), Timestamp.valueOf(to));
+    }
+}
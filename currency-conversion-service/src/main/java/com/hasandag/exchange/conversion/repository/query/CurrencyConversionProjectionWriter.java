@@ -0,0 +1,161 @@
+package com.hasandag.exchange.conversion.repository.query;
+
+import com.hasandag.exchange.conversion.model.CurrencyConversionEntity;
+import lombok.RequiredArgsConstructor;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.List;
+
+/**
+ * Set-based writes to the {@code currency_conversions} read model. A batch is sent as one statement that
+ * unnests column arrays into {@code INSERT ... ON CONFLICT (transaction_id, timestamp) DO NOTHING}, so
+ * replayed events, which keep their original timestamp, are skipped by the unique index instead of a
+ * lookup per row. The key includes {@code timestamp} because the table is partitioned by it.
+ * <p>
+ * For catch-up, {@link #copyIgnoringDuplicates} streams rows with {@code COPY} into a session-local
+ * staging table and merges them with a single {@code INSERT ... SELECT}, avoiding per-row statement
+ * overhead entirely.
+ * <p>
+ * Both paths fold the rows they actually inserted into {@code conversion_volume_rollups} in the same
+ * statement, so skipped duplicates are never counted twice. Rollup rows are upserted in key order to
+ * keep concurrent batches for the same pair from deadlocking.
+ */
+@Repository
+@RequiredArgsConstructor
+public class CurrencyConversionProjectionWriter {
+
+    static final String COLUMNS =
+            "transaction_id, source_currency, target_currency, source_amount, target_amount, exchange_rate, timestamp";
+
+    static final String UNNEST_SOURCE = "unnest(?::varchar[], ?::varchar[], ?::varchar[], ?::numeric[], ?::numeric[],"
+            + " ?::numeric[], ?::timestamp[]) AS batch (" + COLUMNS + ")";
+
+    static final String CREATE_STAGING_SQL = "CREATE TEMP TABLE IF NOT EXISTS currency_conversions_staging ("
+            + "transaction_id VARCHAR(255), source_currency VARCHAR(3), target_currency VARCHAR(3), "
+            + "source_amount DECIMAL(19,4), target_amount DECIMAL(19,4), exchange_rate DECIMAL(19,6), "
+            + "timestamp TIMESTAMP) ON COMMIT DELETE ROWS";
+
+    static final String COPY_SQL = "COPY currency_conversions_staging (" + COLUMNS + ") FROM STDIN WITH (FORMAT csv)";
+
+    static final String ROLLUP_INSERTED_SQL = "INSERT INTO conversion_volume_rollups"
+            + " (granularity, bucket_start, source_currency, target_currency,"
+            + " conversion_count, source_amount_sum, target_amount_sum, min_rate, max_rate)"
+            + " SELECT g.granularity, date_trunc(g.granularity, i.timestamp), i.source_currency, i.target_currency,"
+            + " count(*), sum(i.source_amount), sum(i.target_amount), min(i.exchange_rate), max(i.exchange_rate)"
+            + " FROM inserted i CROSS JOIN (VALUES ('minute'), ('hour'), ('day')) AS g (granularity)"
+            + " GROUP BY 1, 2, 3, 4 ORDER BY 1, 3, 4, 2"
+            + " ON CONFLICT (granularity, source_currency, target_currency, bucket_start) DO UPDATE SET"
+            + " conversion_count = conversion_volume_rollups.conversion_count + EXCLUDED.conversion_count,"
+            + " source_amount_sum = conversion_volume_rollups.source_amount_sum + EXCLUDED.source_amount_sum,"
+            + " target_amount_sum = conversion_volume_rollups.target_amount_sum + EXCLUDED.target_amount_sum,"
+            + " min_rate = LEAST(conversion_volume_rollups.min_rate, EXCLUDED.min_rate),"
+            + " max_rate = GREATEST(conversion_volume_rollups.max_rate, EXCLUDED.max_rate)";
+
+    static final String INSERT_IGNORING_DUPLICATES_SQL = mergeSql(UNNEST_SOURCE);
+
+    static final String MERGE_SQL = mergeSql("currency_conversions_staging");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * @return the number of rows inserted; rows whose transaction ID already exists are skipped
+     */
+    @Transactional
+    public int insertIgnoringDuplicates(List<CurrencyConversionEntity> conversions) {
+        if (conversions.isEmpty()) {
+            return 0;
+        }
+        int size = conversions.size();
+        String[] transactionIds = new String[size];
+        String[] sourceCurrencies = new String[size];
+        String[] targetCurrencies = new String[size];
+        BigDecimal[] sourceAmounts = new BigDecimal[size];
+        BigDecimal[] targetAmounts = new BigDecimal[size];
+        BigDecimal[] exchangeRates = new BigDecimal[size];
+        Timestamp[] timestamps = new Timestamp[size];
+        for (int i = 0; i < size; i++) {
+            CurrencyConversionEntity conversion = conversions.get(i);
+            transactionIds[i] = conversion.getTransactionId();
+            sourceCurrencies[i] = conversion.getSourceCurrency();
+            targetCurrencies[i] = conversion.getTargetCurrency();
+            sourceAmounts[i] = conversion.getSourceAmount();
+            targetAmounts[i] = conversion.getTargetAmount();
+            exchangeRates[i] = conversion.getExchangeRate();
+            timestamps[i] = Timestamp.valueOf(conversion.getTimestamp());
+        }
+        return jdbcTemplate.execute((ConnectionCallback<Integer>) connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(INSERT_IGNORING_DUPLICATES_SQL)) {
+                statement.setArray(1, connection.createArrayOf("varchar", transactionIds));
+                statement.setArray(2, connection.createArrayOf("varchar", sourceCurrencies));
+                statement.setArray(3, connection.createArrayOf("varchar", targetCurrencies));
+                statement.setArray(4, connection.createArrayOf("numeric", sourceAmounts));
+                statement.setArray(5, connection.createArrayOf("numeric", targetAmounts));
+                statement.setArray(6, connection.createArrayOf("numeric", exchangeRates));
+                statement.setArray(7, connection.createArrayOf("timestamp", timestamps));
+                try (ResultSet inserted = statement.executeQuery()) {
+                    inserted.next();
+                    return inserted.getInt(1);
+                }
+            }
+        });
+    }
+
+    /**
+     * @return the number of rows inserted; rows whose transaction ID already exists are skipped
+     */
+    @Transactional
+    public int copyIgnoringDuplicates(List<CurrencyConversionEntity> conversions) {
+        if (conversions.isEmpty()) {
+            return 0;
+        }
+        jdbcTemplate.execute(CREATE_STAGING_SQL);
+        jdbcTemplate.execute((ConnectionCallback<Long>) connection -> {
+            CopyManager copyManager = connection.unwrap(PGConnection.class).getCopyAPI();
+            try {
+                return copyManager.copyIn(COPY_SQL, new StringReader(toCsv(conversions)));
+            } catch (IOException e) {
+                throw new SQLException("Failed to stream conversions to the staging table", e);
+            }
+        });
+        return jdbcTemplate.queryForObject(MERGE_SQL, Integer.class);
+    }
+
+    private static String mergeSql(String source) {
+        return "WITH inserted AS (INSERT INTO currency_conversions (" + COLUMNS + ")"
+                + " SELECT " + COLUMNS + " FROM " + source
+                + " ON CONFLICT (transaction_id, timestamp) DO NOTHING"
+                + " RETURNING " + COLUMNS + "),"
+                + " rolled_up AS (" + ROLLUP_INSERTED_SQL + ")"
+                + " SELECT count(*) FROM inserted";
+    }
+
+    static String toCsv(List<CurrencyConversionEntity> conversions) {
+        StringBuilder csv = new StringBuilder(conversions.size() * 96);
+        for (CurrencyConversionEntity conversion : conversions) {
+            appendQuoted(csv, conversion.getTransactionId()).append(',');
+            appendQuoted(csv, conversion.getSourceCurrency()).append(',');
+            appendQuoted(csv, conversion.getTargetCurrency()).append(',');
+            csv.append(conversion.getSourceAmount().toPlainString()).append(',');
+            csv.append(conversion.getTargetAmount().toPlainString()).append(',');
+            csv.append(conversion.getExchangeRate().toPlainString()).append(',');
+            csv.append(conversion.getTimestamp()).append('\n');
+        }
+        return csv.toString();
+    }
+
+    private static StringBuilder appendQuoted(StringBuilder csv, String value) {
+        return csv.append('"').append(value.replace("\"", "\"\"")).append('"');
+    }
+}
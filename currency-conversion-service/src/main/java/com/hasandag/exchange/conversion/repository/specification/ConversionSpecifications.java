@@ -1,16 +1,40 @@
 package com.hasandag.exchange.conversion.repository.specification;
 
+import com.hasandag.exchange.common.id.TimeOrderedIds;
 import com.hasandag.exchange.conversion.model.CurrencyConversionEntity;
 import org.springframework.data.jpa.domain.Specification;
 
 import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.UUID;
 
+/**
+ * {@code currency_conversions} is range-partitioned by {@code timestamp}; every timestamp bound is a
+ * plain comparison on the column so PostgreSQL can prune partitions, at execution time for bound
+ * parameters.
+ */
 public class ConversionSpecifications {
 
+    /**
+     * Conversions are stamped when their version 7 transaction ID is minted, so the time embedded in the
+     * ID also bounds {@code timestamp}, within {@link #TRANSACTION_ID_TIMESTAMP_SLACK} to cover clock zones
+     * and skew, and an ID lookup touches at most two monthly partitions instead of all of them.
+     */
+    public static final Duration TRANSACTION_ID_TIMESTAMP_SLACK = Duration.ofDays(1);
+
     public static Specification<CurrencyConversionEntity> hasTransactionId(String transactionId) {
-        return (root, query, cb) -> transactionId == null ? 
-            cb.conjunction() : cb.equal(root.get("transactionId"), transactionId);
+        return (root, query, cb) -> {
+            if (transactionId == null) return cb.conjunction();
+            LocalDateTime minted = mintedAt(transactionId);
+            if (minted == null) return cb.equal(root.get("transactionId"), transactionId);
+            return cb.and(
+                    cb.equal(root.get("transactionId"), transactionId),
+                    cb.between(root.get("timestamp"),
+                            minted.minus(TRANSACTION_ID_TIMESTAMP_SLACK), minted.plus(TRANSACTION_ID_TIMESTAMP_SLACK)));
+        };
     }
 
     public static Specification<CurrencyConversionEntity> hasSourceCurrency(String sourceCurrency) {
@@ -55,4 +79,16 @@ public class ConversionSpecifications {
             return cb.lessThanOrEqualTo(root.get("exchangeRate"), maxRate);
         };
     }
-} 
\ No newline at end of file
+
+    public static LocalDateTime mintedAt(String transactionId) {
+        try {
+            UUID uuid = UUID.fromString(transactionId);
+            if (uuid.version() != 7) {
+                return null;
+            }
+            return LocalDateTime.ofInstant(Instant.ofEpochMilli(TimeOrderedIds.timestampOf(uuid)), ZoneId.systemDefault());
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,14 @@
+package com.hasandag.exchange.conversion.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+public interface BulkConversionService {
+
+    /**
+     * Reads {@code ConversionRequest}s from a JSON array or NDJSON body and writes one
+     * {@code BulkConversionResult} per item to {@code output} as NDJSON, chunk by chunk.
+     */
+    void convert(InputStream input, OutputStream output) throws IOException;
+}
@@ -0,0 +1,19 @@
+package com.hasandag.exchange.conversion.service;
+
+import com.hasandag.exchange.conversion.model.CurrencyConversionDocument;
+
+import java.util.Optional;
+
+public interface ConversionDocumentWriter {
+
+    /**
+     * Persists the document to the write model and returns the stored copy, including its id.
+     */
+    CurrencyConversionDocument write(CurrencyConversionDocument document);
+
+    /**
+     * Looks up a stored document by transaction ID, for callers that stopped waiting before
+     * {@link #write} reported back and need to know whether the write landed anyway.
+     */
+    Optional<CurrencyConversionDocument> findByTransactionId(String transactionId);
+}
@@ -0,0 +1,31 @@
+package com.hasandag.exchange.conversion.service;
+
+import com.hasandag.exchange.conversion.dto.ConversionSearchRequest;
+import com.hasandag.exchange.conversion.model.ExportFormat;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+public interface ConversionExportService {
+
+    /**
+     * Reserves one of the {@code conversion.export.max-concurrent} export slots, each of which holds a
+     * database connection while it streams. Close the permit once the export has finished.
+     *
+     * @throws com.hasandag.exchange.common.exception.BusinessException with 429 when every slot is taken
+     */
+    Permit acquirePermit();
+
+    /**
+     * Writes every conversion matching {@code searchRequest}, newest first, to {@code output} as rows are
+     * read from the database, so memory use does not grow with the size of the result.
+     *
+     * @return the number of conversions written
+     */
+    long export(ConversionSearchRequest searchRequest, ExportFormat format, OutputStream output) throws IOException;
+
+    interface Permit extends AutoCloseable {
+        @Override
+        void close();
+    }
+}
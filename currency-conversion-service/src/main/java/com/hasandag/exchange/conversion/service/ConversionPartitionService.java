@@ -0,0 +1,167 @@
+package com.hasandag.exchange.conversion.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Keeps the monthly partitions of {@code currency_conversions} ahead of and behind the clock.
+ * <p>
+ * Partitions for the current month and the next {@code conversion.partitions.premake-months} are created
+ * in advance so inserts never fall into {@code currency_conversions_default}. Partitions that ended more
+ * than {@code conversion.partitions.retention-months} ago are detached and moved to
+ * {@code conversion.partitions.archive-schema}, or dropped when no archive schema is set; a retention of
+ * 0 keeps every partition attached. Volume statistics come from {@code conversion_volume_rollups} and
+ * are unaffected.
+ * <p>
+ * Runs at startup and daily. Instances coordinate through a PostgreSQL advisory lock, so only one of them
+ * changes partitions at a time and the others skip the round.
+ */
+@Service
+@Slf4j
+public class ConversionPartitionService {
+
+    static final String PARENT_TABLE = "currency_conversions";
+    static final String PARTITION_PREFIX = PARENT_TABLE + "_p";
+    static final long ADVISORY_LOCK_KEY = 0x6678_7061_7274L;
+
+    static final String LIST_PARTITIONS_SQL = "SELECT child.relname FROM pg_inherits"
+            + " JOIN pg_class parent ON parent.oid = pg_inherits.inhparent"
+            + " JOIN pg_class child ON child.oid = pg_inherits.inhrelid"
+            + " WHERE parent.relname = '" + PARENT_TABLE + "' AND parent.relnamespace = 'public'::regnamespace";
+
+    private static final DateTimeFormatter SUFFIX = DateTimeFormatter.ofPattern("yyyy_MM");
+    private static final Pattern PARTITION_NAME = Pattern.compile(Pattern.quote(PARTITION_PREFIX) + "(\\d{4})_(\\d{2})");
+    private static final Pattern IDENTIFIER = Pattern.compile("[a-z_][a-z0-9_]*");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int premakeMonths;
+    private final int retentionMonths;
+    private final String archiveSchema;
+
+    public ConversionPartitionService(
+            JdbcTemplate jdbcTemplate,
+            @Value("${conversion.partitions.premake-months:3}") int premakeMonths,
+            @Value("${conversion.partitions.retention-months:0}") int retentionMonths,
+            @Value("${conversion.partitions.archive-schema:conversion_archive}") String archiveSchema) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.premakeMonths = premakeMonths;
+        this.retentionMonths = retentionMonths;
+        if (!archiveSchema.isEmpty() && !IDENTIFIER.matcher(archiveSchema).matches()) {
+            throw new IllegalArgumentException("conversion.partitions.archive-schema is not a plain identifier: " + archiveSchema);
+        }
+        this.archiveSchema = archiveSchema;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${conversion.partitions.maintenance-cron:0 15 0 * * *}")
+    public void maintainPartitions() {
+        try {
+            maintain(YearMonth.now());
+        } catch (Exception e) {
+            log.error("Partition maintenance failed: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * @return whether this instance held the maintenance lock and ran the round
+     */
+    public boolean maintain(YearMonth currentMonth) {
+        Boolean ran = jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> {
+            try (Statement statement = connection.createStatement()) {
+                if (!tryLock(statement)) {
+                    log.debug("Partition maintenance is running on another instance");
+                    return false;
+                }
+                try {
+                    createUpcoming(statement, currentMonth);
+                    if (retentionMonths > 0) {
+                        archiveExpired(statement, currentMonth.minusMonths(retentionMonths));
+                    }
+                    return true;
+                } finally {
+                    statement.execute("SELECT pg_advisory_unlock(" + ADVISORY_LOCK_KEY + ")");
+                }
+            }
+        });
+        return Boolean.TRUE.equals(ran);
+    }
+
+    private void createUpcoming(Statement statement, YearMonth currentMonth) {
+        for (int i = 0; i <= premakeMonths; i++) {
+            YearMonth month = currentMonth.plusMonths(i);
+            try {
+                statement.execute(createPartitionSql(month));
+            } catch (SQLException e) {
+                // Typically rows for this month already sit in the default partition and must be moved first.
+                log.error("Could not create partition {}: {}", partitionName(month), e.getMessage());
+            }
+        }
+    }
+
+    private void archiveExpired(Statement statement, YearMonth oldestRetained) throws SQLException {
+        List<String> expired = new ArrayList<>();
+        try (ResultSet partitions = statement.executeQuery(LIST_PARTITIONS_SQL)) {
+            while (partitions.next()) {
+                String name = partitions.getString(1);
+                monthOf(name).filter(month -> month.isBefore(oldestRetained)).ifPresent(month -> expired.add(name));
+            }
+        }
+        if (expired.isEmpty()) {
+            return;
+        }
+        boolean archive = !archiveSchema.isEmpty();
+        if (archive) {
+            statement.execute("CREATE SCHEMA IF NOT EXISTS " + archiveSchema);
+        }
+        for (String partition : expired) {
+            statement.execute("ALTER TABLE " + PARENT_TABLE + " DETACH PARTITION " + partition);
+            if (archive) {
+                statement.execute("ALTER TABLE " + partition + " SET SCHEMA " + archiveSchema);
+                log.info("Detached partition {} and moved it to schema {}", partition, archiveSchema);
+            } else {
+                statement.execute("DROP TABLE " + partition);
+                log.info("Detached and dropped partition {}", partition);
+            }
+        }
+    }
+
+    private static boolean tryLock(Statement statement) throws SQLException {
+        try (ResultSet lock = statement.executeQuery("SELECT pg_try_advisory_lock(" + ADVISORY_LOCK_KEY + ")")) {
+            return lock.next() && lock.getBoolean(1);
+        }
+    }
+
+    static String partitionName(YearMonth month) {
+        return PARTITION_PREFIX + month.format(SUFFIX);
+    }
+
+    static String createPartitionSql(YearMonth month) {
+        return "CREATE TABLE IF NOT EXISTS " + partitionName(month) + " PARTITION OF " + PARENT_TABLE
+                + " FOR VALUES FROM ('" + month.atDay(1) + "') TO ('" + month.plusMonths(1).atDay(1) + "')";
+    }
+
+    static Optional<YearMonth> monthOf(String partitionName) {
+        Matcher matcher = PARTITION_NAME.matcher(partitionName);
+        if (!matcher.matches()) {
+            return Optional.empty();
+        }
+        return Optional.of(YearMonth.of(Integer.parseInt(matcher.group(1)), Integer.parseInt(matcher.group(2))));
+    }
+}
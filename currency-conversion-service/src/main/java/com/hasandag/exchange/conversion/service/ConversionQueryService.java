@@ -1,7 +1,9 @@
 package com.hasandag.exchange.conversion.service;
 
+import com.hasandag.exchange.conversion.dto.ConversionHistorySlice;
 import com.hasandag.exchange.conversion.dto.ConversionSearchRequest;
 import com.hasandag.exchange.conversion.model.CurrencyConversionEntity;
+import com.hasandag.exchange.conversion.model.HistoryCountMode;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -12,4 +14,9 @@ public interface ConversionQueryService {
     Page<CurrencyConversionEntity> findConversions(String transactionId, LocalDateTime startDate, LocalDateTime endDate, Pageable pageable);
     
     Page<CurrencyConversionEntity> findConversions(ConversionSearchRequest searchRequest, Pageable pageable);
+
+    /**
+     * Newest-first page of conversions following {@code cursor}, or the first page when it is null.
+     */
+    ConversionHistorySlice findConversions(ConversionSearchRequest searchRequest, String cursor, int size, HistoryCountMode countMode);
 }
\ No newline at end of file
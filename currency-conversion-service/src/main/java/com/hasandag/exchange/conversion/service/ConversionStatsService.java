@@ -0,0 +1,23 @@
+package com.hasandag.exchange.conversion.service;
+
+import com.hasandag.exchange.common.enums.Currency;
+import com.hasandag.exchange.conversion.dto.ConversionVolumeStats;
+import com.hasandag.exchange.conversion.model.RollupGranularity;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface ConversionStatsService {
+
+    /**
+     * Volume per bucket in {@code [from, to)}, for one pair or, when both currencies are null, for every pair.
+     * Both bounds must be bucket starts for {@code granularity}; anything else is rejected with 400.
+     */
+    List<ConversionVolumeStats> getVolumeSeries(RollupGranularity granularity, Currency sourceCurrency, Currency targetCurrency,
+                                                LocalDateTime from, LocalDateTime to);
+
+    /**
+     * Total volume per pair over {@code [from, to)}, summed from buckets of the given granularity.
+     */
+    List<ConversionVolumeStats> getVolumeSummary(RollupGranularity granularity, LocalDateTime from, LocalDateTime to);
+}
@@ -3,8 +3,50 @@ package com.hasandag.exchange.conversion.service;
 import com.hasandag.exchange.common.dto.ExchangeRateResponse;
 import com.hasandag.exchange.common.enums.Currency;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
 public interface ExchangeRateProvider {
 
     ExchangeRateResponse getExchangeRate(Currency sourceCurrency, Currency targetCurrency);
 
-} 
\ No newline at end of file
+    /**
+     * Rates from {@code sourceCurrency} to every target, taken from one snapshot and returned in target order.
+     */
+    List<ExchangeRateResponse> getExchangeRateSnapshot(Currency sourceCurrency, List<Currency> targetCurrencies);
+
+    /**
+     * A rate this provider already holds in memory, without blocking or calling out; empty when it would
+     * have to fetch one. Lets non-blocking callers use the provider's cache before their own client.
+     */
+    default Optional<ExchangeRateResponse> findCachedExchangeRate(Currency sourceCurrency, Currency targetCurrency) {
+        return Optional.empty();
+    }
+
+    /**
+     * A snapshot assembled from rates this provider already holds, when it holds every target and they
+     * all carry the same {@code lastUpdated}, i.e. came from one upstream quote; empty otherwise.
+     */
+    default Optional<List<ExchangeRateResponse>> findCachedExchangeRateSnapshot(Currency sourceCurrency,
+                                                                                List<Currency> targetCurrencies) {
+        List<ExchangeRateResponse> snapshot = new ArrayList<>(targetCurrencies.size());
+        for (Currency targetCurrency : targetCurrencies) {
+            Optional<ExchangeRateResponse> rate = findCachedExchangeRate(sourceCurrency, targetCurrency);
+            if (rate.isEmpty() || (!snapshot.isEmpty()
+                    && !Objects.equals(rate.get().getLastUpdated(), snapshot.get(0).getLastUpdated()))) {
+                return Optional.empty();
+            }
+            snapshot.add(rate.get());
+        }
+        return Optional.of(snapshot);
+    }
+
+    /**
+     * Stores a rate fetched elsewhere so later lookups through this provider can use it.
+     */
+    default void cacheExchangeRate(ExchangeRateResponse rate) {
+    }
+
+}
\ No newline at end of file
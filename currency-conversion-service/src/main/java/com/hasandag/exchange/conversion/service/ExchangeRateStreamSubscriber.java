@@ -0,0 +1,49 @@
+package com.hasandag.exchange.conversion.service;
+
+import com.hasandag.exchange.conversion.client.impl.RSocketInternalExchangeRateClient;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Service;
+import reactor.core.Disposable;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnExpression("'${conversion.rates.client:feign}' == 'rsocket' and '${conversion.rates.provider:feign}' == 'local'")
+public class ExchangeRateStreamSubscriber implements SmartLifecycle {
+
+    private final RSocketInternalExchangeRateClient rateClient;
+    private final LocalExchangeRateStore rateStore;
+
+    private volatile Disposable subscription;
+
+    @Override
+    public void start() {
+        log.info("Subscribing to exchange rate stream over RSocket");
+        subscription = rateClient.streamExchangeRates(List.of())
+                .doOnNext(rateStore::update)
+                .doOnError(ex -> log.warn("Exchange rate stream interrupted: {}", ex.getMessage()))
+                .retryWhen(Retry.backoff(Long.MAX_VALUE, Duration.ofSeconds(1)).maxBackoff(Duration.ofSeconds(30)))
+                .subscribe();
+    }
+
+    @Override
+    public void stop() {
+        Disposable current = subscription;
+        if (current != null) {
+            current.dispose();
+        }
+        subscription = null;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return subscription != null && !subscription.isDisposed();
+    }
+}
@@ -0,0 +1,16 @@
+package com.hasandag.exchange.conversion.service;
+
+import com.hasandag.exchange.common.dto.ConversionRequest;
+import com.hasandag.exchange.common.dto.ConversionResponse;
+
+import java.util.function.Supplier;
+
+public interface IdempotencyService {
+
+    /**
+     * Runs {@code conversion} at most once per {@code idempotencyKey}. Concurrent calls with the same key
+     * wait for the first one and later calls get its stored response; reusing a key for a different
+     * request is rejected.
+     */
+    ConversionResponse execute(String idempotencyKey, ConversionRequest request, Supplier<ConversionResponse> conversion);
+}
@@ -0,0 +1,52 @@
+package com.hasandag.exchange.conversion.service;
+
+import com.hasandag.exchange.common.dto.ExchangeRateResponse;
+import com.hasandag.exchange.common.enums.Currency;
+import com.hasandag.exchange.conversion.model.CurrencyPair;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Latest known rate per currency pair. Age and ordering both go by the rate's own {@code lastUpdated},
+ * the time exchange-rate-service fetched it, so snapshots replayed from the topic after a restart are
+ * not mistaken for fresh ones and an older snapshot never replaces a newer one.
+ */
+@Service
+@Slf4j
+public class LocalExchangeRateStore {
+
+    private final ConcurrentHashMap<CurrencyPair, ExchangeRateResponse> rates = new ConcurrentHashMap<>();
+    private final Duration maxAge;
+
+    public LocalExchangeRateStore(@Value("${conversion.rates.local.max-age:30s}") Duration maxAge) {
+        this.maxAge = maxAge;
+    }
+
+    public void update(ExchangeRateResponse rate) {
+        if (rate == null || rate.getSourceCurrency() == null || rate.getTargetCurrency() == null
+                || rate.getRate() == null || rate.getLastUpdated() == null) {
+            log.warn("Ignoring incomplete rate snapshot: {}", rate);
+            return;
+        }
+        rates.merge(CurrencyPair.of(rate.getSourceCurrency(), rate.getTargetCurrency()), rate,
+                (current, incoming) -> incoming.getLastUpdated().isBefore(current.getLastUpdated()) ? current : incoming);
+    }
+
+    public Optional<ExchangeRateResponse> findFresh(Currency sourceCurrency, Currency targetCurrency) {
+        ExchangeRateResponse rate = rates.get(CurrencyPair.of(sourceCurrency, targetCurrency));
+        if (rate == null || rate.getLastUpdated().isBefore(LocalDateTime.now().minus(maxAge))) {
+            return Optional.empty();
+        }
+        return Optional.of(rate);
+    }
+
+    public int size() {
+        return rates.size();
+    }
+}
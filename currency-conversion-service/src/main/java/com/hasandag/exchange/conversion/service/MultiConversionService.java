@@ -0,0 +1,13 @@
+package com.hasandag.exchange.conversion.service;
+
+import com.hasandag.exchange.conversion.dto.MultiConversionRequest;
+import com.hasandag.exchange.conversion.dto.MultiConversionResponse;
+
+public interface MultiConversionService {
+
+    /**
+     * Converts one amount into every target currency using rates from a single snapshot, and stores
+     * all legs together under one correlation ID.
+     */
+    MultiConversionResponse convert(MultiConversionRequest request);
+}
@@ -0,0 +1,23 @@
+package com.hasandag.exchange.conversion.service;
+
+import com.hasandag.exchange.common.dto.ConversionRequest;
+import com.hasandag.exchange.common.dto.ExchangeRateResponse;
+import com.hasandag.exchange.conversion.dto.QuoteRequest;
+import com.hasandag.exchange.conversion.dto.QuoteResponse;
+
+public interface QuoteService {
+
+    QuoteResponse createQuote(QuoteRequest request);
+
+    /**
+     * Consumes the quote named by {@code request.getQuoteId()} and returns its locked rate. A quote can be
+     * redeemed once, before it expires, and only for the currency pair it was issued for.
+     */
+    ExchangeRateResponse redeem(ConversionRequest request);
+
+    /**
+     * Makes a redeemed quote usable again, until its original expiry, after the conversion that redeemed
+     * it failed without being stored.
+     */
+    void release(String quoteId);
+}
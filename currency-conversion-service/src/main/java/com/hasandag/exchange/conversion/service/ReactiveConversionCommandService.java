@@ -0,0 +1,10 @@
+package com.hasandag.exchange.conversion.service;
+
+import com.hasandag.exchange.common.dto.ConversionRequest;
+import com.hasandag.exchange.common.dto.ConversionResponse;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveConversionCommandService {
+
+    Mono<ConversionResponse> processConversion(ConversionRequest request);
+}
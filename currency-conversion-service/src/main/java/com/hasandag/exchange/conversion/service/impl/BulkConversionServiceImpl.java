@@ -0,0 +1,266 @@
+package com.hasandag.exchange.conversion.service.impl;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DatabindException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.hasandag.exchange.common.dto.ConversionRequest;
+import com.hasandag.exchange.common.dto.ConversionResponse;
+import com.hasandag.exchange.common.dto.ExchangeRateResponse;
+import com.hasandag.exchange.common.id.TimeOrderedIds;
+import com.hasandag.exchange.common.money.ConversionBatch;
+import com.hasandag.exchange.conversion.dto.BulkConversionResult;
+import com.hasandag.exchange.conversion.model.CurrencyConversionDocument;
+import com.hasandag.exchange.conversion.model.CurrencyPair;
+import com.hasandag.exchange.conversion.service.BulkConversionService;
+import com.hasandag.exchange.conversion.service.ExchangeRateProvider;
+import com.mongodb.bulk.BulkWriteError;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Service
+@Slf4j
+public class BulkConversionServiceImpl implements BulkConversionService {
+
+    private final ExchangeRateProvider exchangeRateProvider;
+    private final MongoTemplate mongoTemplate;
+    private final ObjectMapper objectMapper;
+    private final ObjectReader requestReader;
+    private final Validator validator;
+    private final int maxItems;
+    private final int chunkSize;
+
+    public BulkConversionServiceImpl(
+            ExchangeRateProvider exchangeRateProvider,
+            MongoTemplate mongoTemplate,
+            ObjectMapper objectMapper,
+            Validator validator,
+            @Value("${conversion.bulk.max-items:1000}") int maxItems,
+            @Value("${conversion.bulk.chunk-size:100}") int chunkSize) {
+        this.exchangeRateProvider = exchangeRateProvider;
+        this.mongoTemplate = mongoTemplate;
+        this.objectMapper = objectMapper;
+        this.requestReader = objectMapper.readerFor(ConversionRequest.class);
+        this.validator = validator;
+        this.maxItems = maxItems;
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public void convert(InputStream input, OutputStream output) throws IOException {
+        Map<CurrencyPair, RateLookup> rates = new HashMap<>();
+        List<BulkItem> chunk = new ArrayList<>(chunkSize);
+        int index = 0;
+        boolean limitExceeded = false;
+
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(output)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+             MappingIterator<ConversionRequest> items = requestReader.readValues(input)) {
+            generator.setRootValueSeparator(null);
+
+            while (true) {
+                ConversionRequest request;
+                try {
+                    if (!items.hasNextValue()) {
+                        break;
+                    }
+                    if (index >= maxItems) {
+                        limitExceeded = true;
+                        break;
+                    }
+                    request = items.nextValue();
+                } catch (DatabindException e) {
+                    write(generator, BulkConversionResult.failed(index++, "INVALID_REQUEST", e.getOriginalMessage()));
+                    continue;
+                } catch (JsonProcessingException e) {
+                    write(generator, BulkConversionResult.failed(index, "MALFORMED_BODY", e.getOriginalMessage()));
+                    break;
+                }
+
+                String violations = validate(request);
+                if (violations != null) {
+                    write(generator, BulkConversionResult.failed(index++, "VALIDATION_ERROR", violations));
+                    continue;
+                }
+
+                chunk.add(new BulkItem(index++, request));
+                if (chunk.size() >= chunkSize) {
+                    processChunk(chunk, rates, generator);
+                    chunk.clear();
+                }
+            }
+
+            if (!chunk.isEmpty()) {
+                processChunk(chunk, rates, generator);
+            }
+            if (limitExceeded) {
+                write(generator, BulkConversionResult.failed(index, "BULK_LIMIT_EXCEEDED",
+                        "Bulk requests are limited to " + maxItems + " items; remaining items were not processed"));
+            }
+            generator.flush();
+        }
+        log.info("Bulk conversion finished: {} items, {} distinct rates", index, rates.size());
+    }
+
+    private void processChunk(List<BulkItem> chunk, Map<CurrencyPair, RateLookup> rates, JsonGenerator generator) throws IOException {
+        Map<Integer, BulkConversionResult> results = new HashMap<>();
+        List<BulkItem> converted = new ArrayList<>(chunk.size());
+        LocalDateTime timestamp = LocalDateTime.now();
+
+        ConversionBatch batch = new ConversionBatch(chunk.size());
+        for (BulkItem item : chunk) {
+            ConversionRequest request = item.request();
+            RateLookup lookup = rates.computeIfAbsent(
+                    CurrencyPair.of(request.getSourceCurrency(), request.getTargetCurrency()), this::lookupRate);
+            if (lookup.error() != null) {
+                results.put(item.index(), BulkConversionResult.failed(item.index(), "RATE_SERVICE_ERROR", lookup.error()));
+                continue;
+            }
+            item.rate = lookup.rate().getRate();
+            batch.add(request.getSourceAmount(), item.rate);
+            converted.add(item);
+        }
+
+        BigDecimal[] targetAmounts = batch.convert();
+        for (int i = 0; i < converted.size(); i++) {
+            BulkItem item = converted.get(i);
+            ConversionRequest request = item.request();
+            item.response = ConversionResponse.builder()
+                    .transactionId(TimeOrderedIds.nextString())
+                    .sourceCurrency(request.getSourceCurrency())
+                    .targetCurrency(request.getTargetCurrency())
+                    .sourceAmount(request.getSourceAmount())
+                    .targetAmount(targetAmounts[i])
+                    .exchangeRate(item.rate)
+                    .timestamp(timestamp)
+                    .build();
+        }
+
+        persist(converted, results);
+
+        for (BulkItem item : chunk) {
+            write(generator, results.get(item.index()));
+        }
+        generator.flush();
+    }
+
+    private void persist(List<BulkItem> converted, Map<Integer, BulkConversionResult> results) {
+        if (converted.isEmpty()) {
+            return;
+        }
+
+        List<CurrencyConversionDocument> documents = converted.stream()
+                .map(item -> toDocument(item.response))
+                .toList();
+        try {
+            mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, CurrencyConversionDocument.class)
+                    .insert(documents)
+                    .execute();
+            converted.forEach(item -> results.put(item.index(), BulkConversionResult.completed(item.index(), item.response)));
+        } catch (BulkOperationException e) {
+            log.error("Bulk insert partially failed: {} of {} documents rejected", e.getErrors().size(), documents.size());
+            Set<Integer> rejected = e.getErrors().stream()
+                    .map(BulkWriteError::getIndex)
+                    .collect(Collectors.toSet());
+            for (int i = 0; i < converted.size(); i++) {
+                BulkItem item = converted.get(i);
+                results.put(item.index(), rejected.contains(i)
+                        ? BulkConversionResult.failed(item.index(), "PERSISTENCE_ERROR",
+                                "Failed to persist conversion " + item.response.getTransactionId())
+                        : BulkConversionResult.completed(item.index(), item.response));
+            }
+        } catch (Exception e) {
+            log.error("Bulk insert of {} documents failed: {}", documents.size(), e.getMessage());
+            for (BulkItem item : converted) {
+                results.put(item.index(), BulkConversionResult.failed(item.index(), "PERSISTENCE_ERROR",
+                        "Failed to persist conversion: " + e.getMessage()));
+            }
+        }
+    }
+
+    private RateLookup lookupRate(CurrencyPair pair) {
+        try {
+            return new RateLookup(exchangeRateProvider.getExchangeRate(pair.source(), pair.target()), null);
+        } catch (Exception e) {
+            log.warn("Rate lookup failed for {}: {}", pair, e.getMessage());
+            return new RateLookup(null, e.getMessage());
+        }
+    }
+
+    private String validate(ConversionRequest request) {
+        if (request == null) {
+            return "Item must be a conversion request object";
+        }
+        Set<ConstraintViolation<ConversionRequest>> violations = validator.validate(request);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining(", "));
+    }
+
+    private void write(JsonGenerator generator, BulkConversionResult result) throws IOException {
+        generator.writeObject(result);
+        generator.writeRaw('\n');
+    }
+
+    private CurrencyConversionDocument toDocument(ConversionResponse response) {
+        return CurrencyConversionDocument.builder()
+                .transactionId(response.getTransactionId())
+                .sourceCurrency(response.getSourceCurrency().getCode())
+                .targetCurrency(response.getTargetCurrency().getCode())
+                .sourceAmount(response.getSourceAmount())
+                .targetAmount(response.getTargetAmount())
+                .exchangeRate(response.getExchangeRate())
+                .timestamp(response.getTimestamp())
+                .status("COMPLETED")
+                .eventId(TimeOrderedIds.nextString())
+                .eventStatus(CurrencyConversionDocument.EVENT_PENDING)
+                .build();
+    }
+
+    private record RateLookup(ExchangeRateResponse rate, String error) {
+    }
+
+    private static final class BulkItem {
+        private final int index;
+        private final ConversionRequest request;
+        private BigDecimal rate;
+        private ConversionResponse response;
+
+        private BulkItem(int index, ConversionRequest request) {
+            this.index = index;
+            this.request = request;
+        }
+
+        int index() {
+            return index;
+        }
+
+        ConversionRequest request() {
+            return request;
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.hasandag.exchange.conversion.service.impl;
+
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.hasandag.exchange.common.dto.ExchangeRateResponse;
+import com.hasandag.exchange.common.enums.Currency;
+import com.hasandag.exchange.common.exception.RateServiceException;
+import com.hasandag.exchange.conversion.model.CurrencyPair;
+import com.hasandag.exchange.conversion.service.ExchangeRateProvider;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+@Service
+@Primary
+@Slf4j
+@ConditionalOnProperty(name = "conversion.rates.provider", havingValue = "caching")
+public class CachingExchangeRateProvider implements ExchangeRateProvider, DisposableBean {
+
+    static final String CACHE_NAME = "conversion.exchange-rates";
+
+    private final FeignExchangeRateProvider delegate;
+    private final ExecutorService loaderExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    private final AsyncLoadingCache<CurrencyPair, ExchangeRateResponse> cache;
+
+    public CachingExchangeRateProvider(FeignExchangeRateProvider delegate,
+                                       MeterRegistry meterRegistry,
+                                       @Value("${conversion.rates.cache.max-size:500}") long maxSize,
+                                       @Value("${conversion.rates.cache.ttl:30s}") Duration ttl,
+                                       @Value("${conversion.rates.cache.refresh-after:10s}") Duration refreshAfter) {
+        if (refreshAfter.compareTo(ttl) >= 0) {
+            throw new IllegalArgumentException("conversion.rates.cache.refresh-after must be shorter than conversion.rates.cache.ttl");
+        }
+        this.delegate = delegate;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .refreshAfterWrite(refreshAfter)
+                .executor(loaderExecutor)
+                .recordStats()
+                .buildAsync(this::loadRate);
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        log.info("Caching exchange rate provider configured: maxSize={}, ttl={}, refreshAfter={}", maxSize, ttl, refreshAfter);
+    }
+
+    @Override
+    public ExchangeRateResponse getExchangeRate(Currency sourceCurrency, Currency targetCurrency) {
+        CompletableFuture<ExchangeRateResponse> future = cache.get(CurrencyPair.of(sourceCurrency, targetCurrency));
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new RateServiceException("Unable to load exchange rate " + sourceCurrency + " -> " + targetCurrency, e.getCause());
+        }
+    }
+
+    @Override
+    public Optional<ExchangeRateResponse> findCachedExchangeRate(Currency sourceCurrency, Currency targetCurrency) {
+        CompletableFuture<ExchangeRateResponse> future = cache.getIfPresent(CurrencyPair.of(sourceCurrency, targetCurrency));
+        if (future == null || !future.isDone() || future.isCompletedExceptionally()) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(future.join());
+    }
+
+    @Override
+    public void cacheExchangeRate(ExchangeRateResponse rate) {
+        cache.synchronous().put(CurrencyPair.of(rate.getSourceCurrency(), rate.getTargetCurrency()), rate);
+    }
+
+    private ExchangeRateResponse loadRate(CurrencyPair pair) {
+        log.debug("Loading exchange rate {} into local cache", pair);
+        return delegate.getExchangeRate(pair.source(), pair.target());
+    }
+
+    @Override
+    public void destroy() {
+        loaderExecutor.shutdownNow();
+    }
+
+    /**
+     * Served from the cache when every leg is there from the same snapshot; otherwise fetched from the
+     * delegate in one call, and the results refresh the cache for later lookups.
+     */
+    @Override
+    public List<ExchangeRateResponse> getExchangeRateSnapshot(Currency sourceCurrency, List<Currency> targetCurrencies) {
+        return findCachedExchangeRateSnapshot(sourceCurrency, targetCurrencies).orElseGet(() -> {
+            List<ExchangeRateResponse> snapshot = delegate.getExchangeRateSnapshot(sourceCurrency, targetCurrencies);
+            snapshot.forEach(this::cacheExchangeRate);
+            return snapshot;
+        });
+    }
+}
@@ -3,108 +3,227 @@ package com.hasandag.exchange.conversion.service.impl;
 import com.hasandag.exchange.common.dto.ConversionRequest;
 import com.hasandag.exchange.common.dto.ConversionResponse;
 import com.hasandag.exchange.common.dto.ExchangeRateResponse;
-import com.hasandag.exchange.common.dto.cqrs.ConversionEvent;
-import com.hasandag.exchange.conversion.kafka.producer.ConversionEventProducer;
+import com.hasandag.exchange.common.exception.BusinessException;
+import com.hasandag.exchange.common.id.TimeOrderedIds;
+import com.hasandag.exchange.common.money.ConversionCalculator;
 import com.hasandag.exchange.conversion.model.CurrencyConversionDocument;
-import com.hasandag.exchange.conversion.repository.command.CurrencyConversionMongoRepository;
 import com.hasandag.exchange.conversion.service.ConversionCommandService;
+import com.hasandag.exchange.conversion.service.ConversionDocumentWriter;
 import com.hasandag.exchange.conversion.service.ExchangeRateProvider;
+import com.hasandag.exchange.conversion.service.QuoteService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
-import java.math.RoundingMode;
+import java.time.Duration;
 import java.time.LocalDateTime;
-import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
 
+/**
+ * Runs a conversion as a pipeline of virtual-thread stages under a {@link DeadlineTaskScope}: the rate
+ * lookup is forked alongside allocation of the transaction ID, event ID and timestamp, then the write
+ * model insert (which also carries the outbox event) is forked under a second scope bounded by what is
+ * left of {@code conversion.command.timeout}. Requests carrying a {@code quoteId} use the quote's locked
+ * rate and skip the lookup; the quote is released again if the conversion fails. An insert the deadline
+ * interrupts may still have reached the database, so before answering 504 the write model is checked
+ * for the transaction ID and a stored conversion is returned instead. Each stage is timed as
+ * {@code conversion.command.stage{stage=...}}.
+ */
 @Service
 @Slf4j
 public class ConversionCommandServiceImpl implements ConversionCommandService {
 
+    static final String STAGE_METRIC = "conversion.command.stage";
+    private static final String TIMEOUT_CODE = "CONVERSION_TIMEOUT";
+
     private final ExchangeRateProvider exchangeRateProvider;
-    private final ConversionEventProducer eventProducer;
-    private final CurrencyConversionMongoRepository mongoRepository;
+    private final QuoteService quoteService;
+    private final ConversionDocumentWriter documentWriter;
+    private final Duration timeout;
+    private final Timer rateTimer;
+    private final Timer prepareTimer;
+    private final Timer calculateTimer;
+    private final Timer persistTimer;
+    private final Timer totalTimer;
 
     public ConversionCommandServiceImpl(
             ExchangeRateProvider exchangeRateProvider,
-            ConversionEventProducer eventProducer,
-            CurrencyConversionMongoRepository mongoRepository) {
+            QuoteService quoteService,
+            ConversionDocumentWriter documentWriter,
+            MeterRegistry meterRegistry,
+            @Value("${conversion.command.timeout:5s}") Duration timeout) {
         this.exchangeRateProvider = exchangeRateProvider;
-        this.eventProducer = eventProducer;
-        this.mongoRepository = mongoRepository;
+        this.quoteService = quoteService;
+        this.documentWriter = documentWriter;
+        this.timeout = timeout;
+        this.rateTimer = stageTimer(meterRegistry, "rate");
+        this.prepareTimer = stageTimer(meterRegistry, "prepare");
+        this.calculateTimer = stageTimer(meterRegistry, "calculate");
+        this.persistTimer = stageTimer(meterRegistry, "persist");
+        this.totalTimer = stageTimer(meterRegistry, "total");
     }
 
     @Override
-    @Transactional
     public ConversionResponse processConversionWithEvents(ConversionRequest request) {
-        ExchangeRateResponse rateResponse = exchangeRateProvider.getExchangeRate(
-                request.getSourceCurrency(),
-                request.getTargetCurrency());
+        long start = System.nanoTime();
+        long deadline = start + timeout.toNanos();
+        try {
+            ExchangeRateResponse quoted = request.getQuoteId() == null ? null : quoteService.redeem(request);
+            try {
+                return convert(request, quoted, deadline);
+            } catch (RuntimeException e) {
+                if (quoted != null) {
+                    quoteService.release(request.getQuoteId());
+                }
+                throw e;
+            }
+        } finally {
+            totalTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private ConversionResponse convert(ConversionRequest request, ExchangeRateResponse quoted, long deadline) {
+        Supplier<ExchangeRateResponse> rate;
+        Supplier<PreparedIds> ids;
+        try (DeadlineTaskScope scope = new DeadlineTaskScope("conversion-resolve", deadline)) {
+            rate = quoted != null
+                    ? () -> quoted
+                    : scope.fork(timed(rateTimer, () -> exchangeRateProvider.getExchangeRate(
+                            request.getSourceCurrency(), request.getTargetCurrency())));
+            ids = scope.fork(timed(prepareTimer, () -> new PreparedIds(
+                    TimeOrderedIds.nextString(), TimeOrderedIds.nextString(), LocalDateTime.now())));
+            join(scope, "resolving the exchange rate");
+        }
+
+        BigDecimal exchangeRate = rate.get().getRate();
+        BigDecimal targetAmount = calculateTimer.record(() -> ConversionCalculator.convert(request.getSourceAmount(), exchangeRate));
+        CurrencyConversionDocument document = toDocument(request, targetAmount, exchangeRate, ids.get());
 
-        BigDecimal targetAmount = request.getSourceAmount()
-                .multiply(rateResponse.getRate())
-                .setScale(2, RoundingMode.HALF_UP);
-        
-        String transactionId = UUID.randomUUID().toString();
-        LocalDateTime timestamp = LocalDateTime.now();
+        persist(document, deadline);
 
-        CurrencyConversionDocument savedDocument = saveToWriteModel(request, targetAmount, rateResponse.getRate(), transactionId, timestamp);
-        publishConversionEvent(savedDocument);
+        return buildResponse(request, targetAmount, exchangeRate, ids.get());
+    }
 
-        return buildResponse(request, targetAmount, rateResponse.getRate(), transactionId, timestamp);
+    /**
+     * A write the deadline interrupts may be withdrawn (still queued for a group commit) or may already
+     * have reached the database, whether or not the interrupted call reported back. Either way a stored
+     * conversion is reported as a success, since it and its outbox event now exist and a 504 would
+     * invite a duplicate retry.
+     */
+    private void persist(CurrencyConversionDocument document, long deadline) {
+        AtomicReference<CurrencyConversionDocument> stored = new AtomicReference<>();
+        BusinessException timedOut = null;
+        try (DeadlineTaskScope scope = new DeadlineTaskScope("conversion-persist", deadline)) {
+            scope.fork(timed(persistTimer, () -> {
+                CurrencyConversionDocument saved = saveToWriteModel(document);
+                stored.set(saved);
+                return saved;
+            }));
+            try {
+                join(scope, "persisting the conversion");
+            } catch (BusinessException e) {
+                if (!TIMEOUT_CODE.equals(e.getErrorCode())) {
+                    throw e;
+                }
+                timedOut = e;
+            }
+        }
+        if (timedOut != null) {
+            if (stored.get() == null && !isStored(document)) {
+                throw timedOut;
+            }
+            log.warn("Conversion {} was stored after the {} deadline; returning it", document.getTransactionId(), timeout);
+        }
+    }
+
+    private boolean isStored(CurrencyConversionDocument document) {
+        try {
+            return documentWriter.findByTransactionId(document.getTransactionId()).isPresent();
+        } catch (RuntimeException e) {
+            log.error("Could not check whether conversion {} was stored: {}", document.getTransactionId(), e.getMessage());
+            return false;
+        }
     }
 
-    private CurrencyConversionDocument saveToWriteModel(ConversionRequest request, BigDecimal targetAmount, 
-                                                       BigDecimal exchangeRate, String transactionId, LocalDateTime timestamp) {
+    private void join(DeadlineTaskScope scope, String stage) {
+        try {
+            scope.join();
+        } catch (TimeoutException e) {
+            log.warn("Conversion timed out after {} while {}", timeout, stage);
+            throw new BusinessException(TIMEOUT_CODE,
+                    "Conversion did not complete within " + timeout + " while " + stage, HttpStatus.GATEWAY_TIMEOUT, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while " + stage, e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("Failed while " + stage, e.getCause());
+        }
+    }
 
+    private CurrencyConversionDocument saveToWriteModel(CurrencyConversionDocument document) {
         try {
-            CurrencyConversionDocument document = CurrencyConversionDocument.builder()
-                    .transactionId(transactionId)
-                    .sourceCurrency(request.getSourceCurrency().getCode())
-                    .targetCurrency(request.getTargetCurrency().getCode())
-                    .sourceAmount(request.getSourceAmount())
-                    .targetAmount(targetAmount)
-                    .exchangeRate(exchangeRate)
-                    .timestamp(timestamp)
-                    .status("COMPLETED")
-                    .build();
-
-            return mongoRepository.save(document);
-            
-        }catch (Exception e) {
+            return documentWriter.write(document);
+        } catch (BusinessException e) {
+            throw e;
+        } catch (Exception e) {
             log.error("Failed to save to MongoDB: {}", e.getMessage());
             throw new RuntimeException("Failed to persist conversion", e);
         }
     }
 
-    private void publishConversionEvent(CurrencyConversionDocument document) {
-        if (eventProducer != null) {
-            ConversionEvent event = ConversionEvent.builder()
-                    .transactionId(document.getTransactionId())
-                    .sourceCurrency(document.getSourceCurrencyEnum())
-                    .targetCurrency(document.getTargetCurrencyEnum())
-                    .sourceAmount(document.getSourceAmount())
-                    .targetAmount(document.getTargetAmount())
-                    .exchangeRate(document.getExchangeRate())
-                    .timestamp(document.getTimestamp())
-                    .eventType(ConversionEvent.EventType.CONVERSION_CREATED)
-                    .build();
-
-            eventProducer.sendConversionEvent(event);
-        }
+    private static <T> Callable<T> timed(Timer timer, Callable<T> stage) {
+        return () -> timer.recordCallable(stage);
+    }
+
+    private static Timer stageTimer(MeterRegistry meterRegistry, String stage) {
+        return Timer.builder(STAGE_METRIC)
+                .description("Time spent in each stage of a single conversion")
+                .tag("stage", stage)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private CurrencyConversionDocument toDocument(ConversionRequest request, BigDecimal targetAmount,
+                                                  BigDecimal exchangeRate, PreparedIds ids) {
+        return CurrencyConversionDocument.builder()
+                .transactionId(ids.transactionId())
+                .sourceCurrency(request.getSourceCurrency().getCode())
+                .targetCurrency(request.getTargetCurrency().getCode())
+                .sourceAmount(request.getSourceAmount())
+                .targetAmount(targetAmount)
+                .exchangeRate(exchangeRate)
+                .timestamp(ids.timestamp())
+                .status("COMPLETED")
+                .eventId(ids.eventId())
+                .eventStatus(CurrencyConversionDocument.EVENT_PENDING)
+                .build();
     }
 
-    private ConversionResponse buildResponse(ConversionRequest request, BigDecimal targetAmount, 
-                                           BigDecimal exchangeRate, String transactionId, LocalDateTime timestamp) {
+    private ConversionResponse buildResponse(ConversionRequest request, BigDecimal targetAmount,
+                                             BigDecimal exchangeRate, PreparedIds ids) {
         return ConversionResponse.builder()
-                .transactionId(transactionId)
+                .transactionId(ids.transactionId())
                 .sourceCurrency(request.getSourceCurrency())
                 .targetCurrency(request.getTargetCurrency())
                 .sourceAmount(request.getSourceAmount())
                 .targetAmount(targetAmount)
                 .exchangeRate(exchangeRate)
-                .timestamp(timestamp)
+                .timestamp(ids.timestamp())
                 .build();
     }
-} 
\ No newline at end of file
+
+    private record PreparedIds(String transactionId, String eventId, LocalDateTime timestamp) {
+    }
+}
@@ -0,0 +1,174 @@
+package com.hasandag.exchange.conversion.service.impl;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hasandag.exchange.common.exception.BusinessException;
+import com.hasandag.exchange.conversion.dto.ConversionSearchRequest;
+import com.hasandag.exchange.conversion.model.ExportFormat;
+import com.hasandag.exchange.conversion.repository.query.ConversionHistoryRepository;
+import com.hasandag.exchange.conversion.service.ConversionExportService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@Service
+@Slf4j
+public class ConversionExportServiceImpl implements ConversionExportService {
+
+    static final String CSV_HEADER =
+            "id,transactionId,sourceCurrency,targetCurrency,sourceAmount,targetAmount,exchangeRate,timestamp";
+
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+
+    private final ConversionHistoryRepository historyRepository;
+    private final ObjectMapper objectMapper;
+    private final int fetchSize;
+    private final Duration timeout;
+    private final Semaphore slots;
+
+    public ConversionExportServiceImpl(ConversionHistoryRepository historyRepository,
+                                       ObjectMapper objectMapper,
+                                       @Value("${conversion.export.fetch-size:1000}") int fetchSize,
+                                       @Value("${conversion.export.max-concurrent:2}") int maxConcurrent,
+                                       @Value("${conversion.export.timeout:4m}") Duration timeout) {
+        this.historyRepository = historyRepository;
+        this.objectMapper = objectMapper;
+        this.fetchSize = fetchSize;
+        this.timeout = timeout;
+        this.slots = new Semaphore(maxConcurrent);
+    }
+
+    @Override
+    public Permit acquirePermit() {
+        if (!slots.tryAcquire()) {
+            throw new BusinessException("EXPORT_LIMIT_REACHED",
+                    "Too many exports are running, please retry later", HttpStatus.TOO_MANY_REQUESTS);
+        }
+        AtomicBoolean released = new AtomicBoolean();
+        return () -> {
+            if (released.compareAndSet(false, true)) {
+                slots.release();
+            }
+        };
+    }
+
+    @Override
+    public long export(ConversionSearchRequest searchRequest, ExportFormat format, OutputStream output) throws IOException {
+        long start = System.nanoTime();
+        long[] written = {0};
+        try (RowWriter writer = format == ExportFormat.CSV ? new CsvRowWriter(output) : new NdjsonRowWriter(output)) {
+            historyRepository.streamAll(searchRequest, fetchSize, timeout, row -> {
+                try {
+                    writer.write(row);
+                    written[0]++;
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        log.info("Exported {} conversions as {} in {} ms", written[0], format, (System.nanoTime() - start) / 1_000_000);
+        return written[0];
+    }
+
+    /**
+     * Writes rows straight from the result set, so no entity is materialised per row. Closing flushes
+     * but leaves the underlying stream open.
+     */
+    private interface RowWriter extends AutoCloseable {
+        void write(ResultSet row) throws SQLException, IOException;
+
+        @Override
+        void close() throws IOException;
+    }
+
+    private final class NdjsonRowWriter implements RowWriter {
+        private final JsonGenerator generator;
+
+        NdjsonRowWriter(OutputStream output) throws IOException {
+            generator = objectMapper.getFactory().createGenerator(output)
+                    .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+        }
+
+        @Override
+        public void write(ResultSet row) throws SQLException, IOException {
+            generator.writeStartObject();
+            generator.writeNumberField("id", row.getLong("id"));
+            generator.writeStringField("transactionId", row.getString("transaction_id"));
+            generator.writeStringField("sourceCurrency", row.getString("source_currency"));
+            generator.writeStringField("targetCurrency", row.getString("target_currency"));
+            generator.writeNumberField("sourceAmount", row.getBigDecimal("source_amount"));
+            generator.writeNumberField("targetAmount", row.getBigDecimal("target_amount"));
+            generator.writeNumberField("exchangeRate", row.getBigDecimal("exchange_rate"));
+            generator.writeStringField("timestamp", row.getTimestamp("timestamp").toLocalDateTime().toString());
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        }
+
+        @Override
+        public void close() throws IOException {
+            generator.close();
+        }
+    }
+
+    private static final class CsvRowWriter implements RowWriter {
+        private final Writer writer;
+
+        CsvRowWriter(OutputStream output) throws IOException {
+            writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8), WRITE_BUFFER_SIZE);
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+
+        @Override
+        public void write(ResultSet row) throws SQLException, IOException {
+            writer.write(Long.toString(row.getLong("id")));
+            writer.write(',');
+            writeQuoted(row.getString("transaction_id"));
+            writer.write(',');
+            writer.write(row.getString("source_currency"));
+            writer.write(',');
+            writer.write(row.getString("target_currency"));
+            writer.write(',');
+            writer.write(row.getBigDecimal("source_amount").toPlainString());
+            writer.write(',');
+            writer.write(row.getBigDecimal("target_amount").toPlainString());
+            writer.write(',');
+            writer.write(row.getBigDecimal("exchange_rate").toPlainString());
+            writer.write(',');
+            writer.write(row.getTimestamp("timestamp").toLocalDateTime().toString());
+            writer.write('\n');
+        }
+
+        private void writeQuoted(String value) throws IOException {
+            if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+                writer.write(value);
+                return;
+            }
+            writer.write('"');
+            writer.write(value.replace("\"", "\"\""));
+            writer.write('"');
+        }
+
+        @Override
+        public void close() throws IOException {
+            writer.flush();
+        }
+    }
+}
@@ -1,26 +1,40 @@
 package com.hasandag.exchange.conversion.service.impl;
 
+import com.hasandag.exchange.common.exception.BusinessException;
+import com.hasandag.exchange.conversion.dto.ConversionHistorySlice;
 import com.hasandag.exchange.conversion.dto.ConversionSearchRequest;
+import com.hasandag.exchange.conversion.model.ConversionCursor;
 import com.hasandag.exchange.conversion.model.CurrencyConversionEntity;
+import com.hasandag.exchange.conversion.model.HistoryCountMode;
+import com.hasandag.exchange.conversion.repository.query.ConversionHistoryRepository;
 import com.hasandag.exchange.conversion.repository.query.CurrencyConversionPostgresRepository;
 import com.hasandag.exchange.conversion.repository.specification.ConversionSpecifications;
 import com.hasandag.exchange.conversion.service.ConversionQueryService;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Service
 @Slf4j
 public class ConversionQueryServiceImpl implements ConversionQueryService {
 
     private final CurrencyConversionPostgresRepository repository;
+    private final ConversionHistoryRepository historyRepository;
+    private final int maxPageSize;
 
-    public ConversionQueryServiceImpl(CurrencyConversionPostgresRepository repository) {
+    public ConversionQueryServiceImpl(CurrencyConversionPostgresRepository repository,
+                                      ConversionHistoryRepository historyRepository,
+                                      @Value("${conversion.history.max-page-size:1000}") int maxPageSize) {
         this.repository = repository;
+        this.historyRepository = historyRepository;
+        this.maxPageSize = maxPageSize;
     }
 
     @Override
@@ -44,4 +58,28 @@ public class ConversionQueryServiceImpl implements ConversionQueryService {
 
         return repository.findAll(spec, pageable);
     }
-} 
\ No newline at end of file
+
+    @Override
+    public ConversionHistorySlice findConversions(ConversionSearchRequest searchRequest, String cursor, int size, HistoryCountMode countMode) {
+        if (size < 1 || size > maxPageSize) {
+            throw new BusinessException("INVALID_PAGE_SIZE",
+                    "size must be between 1 and " + maxPageSize, HttpStatus.BAD_REQUEST);
+        }
+        ConversionCursor after = cursor == null || cursor.isEmpty() ? null : ConversionCursor.decode(cursor);
+
+        List<CurrencyConversionEntity> rows = historyRepository.findPage(searchRequest, after, size + 1);
+        boolean hasNext = rows.size() > size;
+        List<CurrencyConversionEntity> content = hasNext ? rows.subList(0, size) : rows;
+
+        ConversionHistorySlice.ConversionHistorySliceBuilder slice = ConversionHistorySlice.builder()
+                .content(content)
+                .size(content.size())
+                .nextCursor(hasNext ? ConversionCursor.after(content.get(size - 1)).encode() : null);
+        switch (countMode) {
+            case EXACT -> slice.totalElements(historyRepository.count(searchRequest)).totalEstimated(false);
+            case ESTIMATED -> slice.totalElements(historyRepository.estimateCount(searchRequest)).totalEstimated(true);
+            case NONE -> { }
+        }
+        return slice.build();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,65 @@
+package com.hasandag.exchange.conversion.service.impl;
+
+import com.hasandag.exchange.common.enums.Currency;
+import com.hasandag.exchange.common.exception.BusinessException;
+import com.hasandag.exchange.conversion.dto.ConversionVolumeStats;
+import com.hasandag.exchange.conversion.model.RollupGranularity;
+import com.hasandag.exchange.conversion.repository.query.ConversionVolumeRollupRepository;
+import com.hasandag.exchange.conversion.service.ConversionStatsService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Service
+public class ConversionStatsServiceImpl implements ConversionStatsService {
+
+    private final ConversionVolumeRollupRepository rollupRepository;
+    private final long maxBuckets;
+
+    public ConversionStatsServiceImpl(ConversionVolumeRollupRepository rollupRepository,
+                                      @Value("${conversion.stats.max-buckets:1440}") long maxBuckets) {
+        this.rollupRepository = rollupRepository;
+        this.maxBuckets = maxBuckets;
+    }
+
+    @Override
+    public List<ConversionVolumeStats> getVolumeSeries(RollupGranularity granularity, Currency sourceCurrency, Currency targetCurrency,
+                                                       LocalDateTime from, LocalDateTime to) {
+        validateRange(granularity, from, to);
+        if (sourceCurrency == null && targetCurrency == null) {
+            return rollupRepository.findSeriesForAllPairs(granularity, from, to);
+        }
+        if (sourceCurrency == null || targetCurrency == null) {
+            throw new BusinessException("INVALID_CURRENCY_PAIR",
+                    "Both sourceCurrency and targetCurrency are required to filter by pair", HttpStatus.BAD_REQUEST);
+        }
+        return rollupRepository.findSeries(granularity, sourceCurrency.getCode(), targetCurrency.getCode(), from, to);
+    }
+
+    @Override
+    public List<ConversionVolumeStats> getVolumeSummary(RollupGranularity granularity, LocalDateTime from, LocalDateTime to) {
+        validateRange(granularity, from, to);
+        return rollupRepository.summarizeByPair(granularity, from, to);
+    }
+
+    private void validateRange(RollupGranularity granularity, LocalDateTime from, LocalDateTime to) {
+        if (!from.isBefore(to)) {
+            throw new BusinessException("INVALID_STATS_RANGE", "from must be before to", HttpStatus.BAD_REQUEST);
+        }
+        // Rollups only exist per whole bucket; a bound inside one would silently count the whole bucket or none of it.
+        if (!granularity.isBucketStart(from) || !granularity.isBucketStart(to)) {
+            throw new BusinessException("STATS_RANGE_NOT_ALIGNED",
+                    "from and to must fall on " + granularity.sqlName() + " boundaries", HttpStatus.BAD_REQUEST);
+        }
+        long buckets = Duration.between(from, to).dividedBy(granularity.bucket());
+        if (buckets > maxBuckets) {
+            throw new BusinessException("STATS_RANGE_TOO_LARGE",
+                    "Range spans " + buckets + " " + granularity.sqlName() + " buckets; at most " + maxBuckets
+                            + " are allowed, use a coarser granularity", HttpStatus.BAD_REQUEST);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.hasandag.exchange.conversion.service.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Shutdown-on-failure task scope with a deadline, in the shape of JDK's {@code StructuredTaskScope}
+ * (still a preview API on Java 21). Each fork runs on its own virtual thread; {@link #join()} waits
+ * for all of them until the deadline, and the first failure or the deadline cancels the remaining
+ * forks. Closing the scope interrupts anything still running and waits for it to finish, so no fork
+ * outlives the block that opened the scope.
+ */
+public final class DeadlineTaskScope implements AutoCloseable {
+
+    private final long deadlineNanos;
+    private final ExecutorService executor;
+    private final CompletionService<Object> completion;
+    private final List<Future<Object>> forks = new ArrayList<>();
+    private int pending;
+
+    public DeadlineTaskScope(String name, long deadlineNanos) {
+        this.deadlineNanos = deadlineNanos;
+        this.executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(name + "-", 0).factory());
+        this.completion = new ExecutorCompletionService<>(executor);
+    }
+
+    public <T> Supplier<T> fork(Callable<? extends T> task) {
+        Future<Object> future = completion.submit(task::call);
+        forks.add(future);
+        pending++;
+        return () -> {
+            @SuppressWarnings("unchecked")
+            T result = (T) future.resultNow();
+            return result;
+        };
+    }
+
+    /**
+     * @throws ExecutionException with the cause of the first fork that failed
+     * @throws TimeoutException   if the deadline passed before every fork completed
+     */
+    public void join() throws InterruptedException, ExecutionException, TimeoutException {
+        while (pending > 0) {
+            long remaining = remainingNanos();
+            Future<Object> done = remaining > 0 ? completion.poll(remaining, TimeUnit.NANOSECONDS) : completion.poll();
+            if (done == null) {
+                cancelAll();
+                throw new TimeoutException("Deadline passed with " + pending + " task(s) still running");
+            }
+            pending--;
+            if (done.state() == Future.State.FAILED) {
+                cancelAll();
+                throw new ExecutionException(done.exceptionNow());
+            }
+        }
+    }
+
+    public long remainingNanos() {
+        return deadlineNanos - System.nanoTime();
+    }
+
+    private void cancelAll() {
+        forks.forEach(fork -> fork.cancel(true));
+    }
+
+    @Override
+    public void close() {
+        cancelAll();
+        executor.close();
+    }
+}
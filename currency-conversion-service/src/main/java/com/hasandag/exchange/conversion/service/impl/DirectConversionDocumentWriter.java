@@ -0,0 +1,28 @@
+package com.hasandag.exchange.conversion.service.impl;
+
+import com.hasandag.exchange.conversion.model.CurrencyConversionDocument;
+import com.hasandag.exchange.conversion.repository.command.CurrencyConversionMongoRepository;
+import com.hasandag.exchange.conversion.service.ConversionDocumentWriter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.util.Optional;
+
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "conversion.write.group-commit.enabled", havingValue = "false", matchIfMissing = true)
+public class DirectConversionDocumentWriter implements ConversionDocumentWriter {
+
+    private final CurrencyConversionMongoRepository mongoRepository;
+
+    @Override
+    public CurrencyConversionDocument write(CurrencyConversionDocument document) {
+        return mongoRepository.save(document);
+    }
+
+    @Override
+    public Optional<CurrencyConversionDocument> findByTransactionId(String transactionId) {
+        return mongoRepository.findByTransactionId(transactionId);
+    }
+}
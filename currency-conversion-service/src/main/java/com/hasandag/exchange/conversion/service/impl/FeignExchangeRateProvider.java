@@ -8,6 +8,8 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+
 @Service
 @Slf4j
 @RequiredArgsConstructor
@@ -24,4 +26,10 @@ public class FeignExchangeRateProvider implements ExchangeRateProvider {
                  sourceCurrency, targetCurrency, response.getRate());
         return response;
     }
-} 
\ No newline at end of file
+
+    @Override
+    public List<ExchangeRateResponse> getExchangeRateSnapshot(Currency sourceCurrency, List<Currency> targetCurrencies) {
+        log.info("Fetching exchange rate snapshot from {} to {} using internal client", sourceCurrency, targetCurrencies);
+        return internalExchangeRateClient.getExchangeRateSnapshot(sourceCurrency, targetCurrencies);
+    }
+}
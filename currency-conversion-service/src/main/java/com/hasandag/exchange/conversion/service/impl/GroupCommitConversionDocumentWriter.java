@@ -0,0 +1,298 @@
+package com.hasandag.exchange.conversion.service.impl;
+
+import com.hasandag.exchange.common.exception.BusinessException;
+import com.hasandag.exchange.conversion.model.CurrencyConversionDocument;
+import com.hasandag.exchange.conversion.service.ConversionDocumentWriter;
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.InsertManyOptions;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Group-commits write model inserts: callers enqueue a document and wait, while a single flusher
+ * thread drains the queue into one unordered {@code insertMany} as soon as {@code max-batch-size}
+ * documents are waiting or {@code max-delay} has passed since the first one arrived. A failed
+ * document only fails its own caller. The queue is bounded; when it stays full for
+ * {@code enqueue-timeout} the request is rejected with 503 instead of queueing without limit.
+ * <p>
+ * A caller that is interrupted or times out withdraws its document if the flusher has not picked it up
+ * yet, so an abandoned write is never stored. Once the document is part of a batch being flushed the
+ * outcome is no longer the caller's to decide, and it waits for the flush result instead.
+ */
+@Service
+@Slf4j
+@ConditionalOnProperty(name = "conversion.write.group-commit.enabled", havingValue = "true")
+public class GroupCommitConversionDocumentWriter implements ConversionDocumentWriter, DisposableBean {
+
+    static final String METRIC_PREFIX = "conversion.write.group_commit";
+
+    private final MongoTemplate mongoTemplate;
+    private final BlockingQueue<PendingWrite> queue;
+    private final int maxBatchSize;
+    private final long maxDelayNanos;
+    private final Duration enqueueTimeout;
+    private final Duration writeTimeout;
+    private final DistributionSummary batchSizeSummary;
+    private final Timer flushTimer;
+    private final Thread flusher;
+
+    private volatile boolean running = true;
+
+    public GroupCommitConversionDocumentWriter(
+            MongoTemplate mongoTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${conversion.write.group-commit.max-batch-size:256}") int maxBatchSize,
+            @Value("${conversion.write.group-commit.max-delay:500us}") Duration maxDelay,
+            @Value("${conversion.write.group-commit.queue-capacity:10000}") int queueCapacity,
+            @Value("${conversion.write.group-commit.enqueue-timeout:100ms}") Duration enqueueTimeout,
+            @Value("${conversion.write.group-commit.write-timeout:5s}") Duration writeTimeout) {
+        this.mongoTemplate = mongoTemplate;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.maxBatchSize = maxBatchSize;
+        this.maxDelayNanos = maxDelay.toNanos();
+        this.enqueueTimeout = enqueueTimeout;
+        this.writeTimeout = writeTimeout;
+
+        this.batchSizeSummary = DistributionSummary.builder(METRIC_PREFIX + ".batch.size")
+                .description("Documents per group-commit insertMany")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder(METRIC_PREFIX + ".flush")
+                .description("Latency of group-commit insertMany calls")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".queue.size", queue, BlockingQueue::size)
+                .description("Documents waiting for the next group commit")
+                .register(meterRegistry);
+
+        this.flusher = Thread.ofPlatform()
+                .name("mongo-group-commit")
+                .daemon(true)
+                .start(this::runFlusher);
+        log.info("Group-commit writer started: maxBatchSize={}, maxDelay={}, queueCapacity={}",
+                maxBatchSize, maxDelay, queueCapacity);
+    }
+
+    @Override
+    public CurrencyConversionDocument write(CurrencyConversionDocument document) {
+        PendingWrite pending = new PendingWrite(document);
+        try {
+            if (!running || !queue.offer(pending, enqueueTimeout.toNanos(), TimeUnit.NANOSECONDS)) {
+                throw new BusinessException("WRITE_QUEUE_FULL",
+                        "Conversion write queue is full, please retry", HttpStatus.SERVICE_UNAVAILABLE);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while writing conversion " + document.getTransactionId(), e);
+        }
+
+        long deadline = System.nanoTime() + writeTimeout.toNanos();
+        boolean interrupted = false;
+        try {
+            while (true) {
+                try {
+                    return pending.result().get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                    if (pending.cancel()) {
+                        throw new CancellationException("Write of conversion " + document.getTransactionId()
+                                + " was withdrawn before it was flushed");
+                    }
+                } catch (TimeoutException e) {
+                    if (pending.cancel()) {
+                        throw new IllegalStateException("Timed out writing conversion " + document.getTransactionId(), e);
+                    }
+                    // Already part of a flush; give it the rest of that flush rather than report a false failure.
+                    deadline = System.nanoTime() + writeTimeout.toNanos();
+                }
+            }
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Failed to write conversion " + document.getTransactionId(), e.getCause());
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    @Override
+    public Optional<CurrencyConversionDocument> findByTransactionId(String transactionId) {
+        return Optional.ofNullable(mongoTemplate.findOne(
+                Query.query(Criteria.where("transactionId").is(transactionId)), CurrencyConversionDocument.class));
+    }
+
+    private void runFlusher() {
+        List<PendingWrite> batch = new ArrayList<>(maxBatchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                collect(batch);
+            } catch (InterruptedException e) {
+                log.warn("Group-commit flusher interrupted with {} documents collected", batch.size());
+            }
+            if (batch.isEmpty()) {
+                continue;
+            }
+            try {
+                flush(batch);
+            } catch (RuntimeException e) {
+                log.error("Unexpected group-commit flusher error", e);
+                batch.forEach(pending -> pending.result().completeExceptionally(e));
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void collect(List<PendingWrite> batch) throws InterruptedException {
+        PendingWrite first = queue.poll(100, TimeUnit.MILLISECONDS);
+        if (first == null) {
+            return;
+        }
+        batch.add(first);
+        long deadline = System.nanoTime() + maxDelayNanos;
+        while (batch.size() < maxBatchSize) {
+            if (queue.drainTo(batch, maxBatchSize - batch.size()) > 0) {
+                continue;
+            }
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                return;
+            }
+            PendingWrite next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    private void flush(List<PendingWrite> batch) {
+        batch.removeIf(pending -> !pending.claim());
+        if (batch.isEmpty()) {
+            return;
+        }
+        MongoConverter converter = mongoTemplate.getConverter();
+        List<Document> documents = new ArrayList<>(batch.size());
+        for (PendingWrite pending : batch) {
+            Document document = new Document();
+            converter.write(pending.document(), document);
+            if (document.get("_id") == null) {
+                document.put("_id", new ObjectId());
+            }
+            documents.add(document);
+        }
+
+        boolean[] failed = new boolean[batch.size()];
+        Throwable failure = null;
+        long start = System.nanoTime();
+        try {
+            collection().insertMany(documents, new InsertManyOptions().ordered(false));
+        } catch (MongoBulkWriteException e) {
+            log.error("Group commit of {} documents had {} write errors", batch.size(), e.getWriteErrors().size());
+            for (BulkWriteError error : e.getWriteErrors()) {
+                failed[error.getIndex()] = true;
+            }
+            failure = e;
+        } catch (RuntimeException e) {
+            log.error("Group commit of {} documents failed: {}", batch.size(), e.getMessage());
+            Arrays.fill(failed, true);
+            failure = e;
+        } finally {
+            flushTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            batchSizeSummary.record(batch.size());
+        }
+
+        for (int i = 0; i < batch.size(); i++) {
+            PendingWrite pending = batch.get(i);
+            if (failed[i]) {
+                pending.result().completeExceptionally(failure);
+            } else {
+                pending.result().complete(converter.read(CurrencyConversionDocument.class, documents.get(i)));
+            }
+        }
+    }
+
+    private MongoCollection<Document> collection() {
+        return mongoTemplate.getCollection(mongoTemplate.getCollectionName(CurrencyConversionDocument.class));
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        running = false;
+        flusher.join(writeTimeout.toMillis());
+        PendingWrite pending;
+        while ((pending = queue.poll()) != null) {
+            pending.result().completeExceptionally(new IllegalStateException("Group-commit writer stopped"));
+        }
+    }
+
+    static final class PendingWrite {
+        private static final int QUEUED = 0;
+        private static final int CLAIMED = 1;
+        private static final int CANCELLED = 2;
+
+        private final CurrencyConversionDocument document;
+        private final CompletableFuture<CurrencyConversionDocument> result = new CompletableFuture<>();
+        private final AtomicInteger state = new AtomicInteger(QUEUED);
+
+        PendingWrite(CurrencyConversionDocument document) {
+            this.document = document;
+        }
+
+        CurrencyConversionDocument document() {
+            return document;
+        }
+
+        CompletableFuture<CurrencyConversionDocument> result() {
+            return result;
+        }
+
+        /**
+         * Called by the flusher before the document joins an insert; fails if the caller withdrew it.
+         */
+        boolean claim() {
+            return state.compareAndSet(QUEUED, CLAIMED);
+        }
+
+        /**
+         * Called by the caller; fails if the flusher already took the document.
+         */
+        boolean cancel() {
+            if (!state.compareAndSet(QUEUED, CANCELLED)) {
+                return false;
+            }
+            result.cancel(false);
+            return true;
+        }
+    }
+}
@@ -0,0 +1,217 @@
+package com.hasandag.exchange.conversion.service.impl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.hasandag.exchange.common.dto.ConversionRequest;
+import com.hasandag.exchange.common.dto.ConversionResponse;
+import com.hasandag.exchange.common.exception.BusinessException;
+import com.hasandag.exchange.conversion.model.IdempotencyRecord;
+import com.hasandag.exchange.conversion.service.IdempotencyService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+/**
+ * Two-level idempotency store. A bounded local Caffeine map holds one future per key, so duplicates
+ * arriving at the same instance wait on the first execution without touching Mongo. Across instances,
+ * the first caller claims the key by inserting an {@code IN_FLIGHT} record into a TTL collection and
+ * replaces it with the completed response; other instances poll that record until it completes.
+ * A failed execution releases the key so the client can retry.
+ */
+@Service
+@Slf4j
+public class IdempotencyServiceImpl implements IdempotencyService {
+
+    static final String CACHE_NAME = "conversion.idempotency";
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private final MongoTemplate mongoTemplate;
+    private final Cache<String, CompletableFuture<StoredResponse>> localResponses;
+    private final Duration ttl;
+    private final Duration inFlightTtl;
+    private final Duration waitTimeout;
+    private final Duration pollInterval;
+
+    public IdempotencyServiceImpl(
+            MongoTemplate mongoTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${conversion.idempotency.local-max-size:10000}") long localMaxSize,
+            @Value("${conversion.idempotency.ttl:24h}") Duration ttl,
+            @Value("${conversion.idempotency.in-flight-ttl:1m}") Duration inFlightTtl,
+            @Value("${conversion.idempotency.wait-timeout:10s}") Duration waitTimeout,
+            @Value("${conversion.idempotency.poll-interval:50ms}") Duration pollInterval) {
+        this.mongoTemplate = mongoTemplate;
+        this.ttl = ttl;
+        this.inFlightTtl = inFlightTtl;
+        this.waitTimeout = waitTimeout;
+        this.pollInterval = pollInterval;
+        this.localResponses = Caffeine.newBuilder()
+                .maximumSize(localMaxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, localResponses, CACHE_NAME);
+    }
+
+    @Override
+    public ConversionResponse execute(String idempotencyKey, ConversionRequest request, Supplier<ConversionResponse> conversion) {
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new BusinessException("INVALID_IDEMPOTENCY_KEY",
+                    "Idempotency-Key must be between 1 and " + MAX_KEY_LENGTH + " characters", HttpStatus.BAD_REQUEST);
+        }
+        String requestHash = hash(request);
+
+        CompletableFuture<StoredResponse> owned = new CompletableFuture<>();
+        CompletableFuture<StoredResponse> existing = localResponses.asMap().putIfAbsent(idempotencyKey, owned);
+        if (existing != null) {
+            log.debug("Idempotency key {} is already known locally, waiting for its response", idempotencyKey);
+            return matching(idempotencyKey, requestHash, await(idempotencyKey, existing));
+        }
+
+        try {
+            StoredResponse stored = executeOnce(idempotencyKey, requestHash, conversion);
+            owned.complete(stored);
+            return matching(idempotencyKey, requestHash, stored);
+        } catch (RuntimeException e) {
+            localResponses.asMap().remove(idempotencyKey, owned);
+            owned.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private StoredResponse executeOnce(String key, String requestHash, Supplier<ConversionResponse> conversion) {
+        Instant now = Instant.now();
+        try {
+            mongoTemplate.insert(IdempotencyRecord.builder()
+                    .key(key)
+                    .requestHash(requestHash)
+                    .status(IdempotencyRecord.IN_FLIGHT)
+                    .createdAt(now)
+                    .expiresAt(now.plus(inFlightTtl))
+                    .build());
+        } catch (DuplicateKeyException e) {
+            return awaitRemote(key, requestHash, conversion);
+        }
+
+        ConversionResponse response;
+        try {
+            response = conversion.get();
+        } catch (RuntimeException e) {
+            release(key);
+            throw e;
+        }
+
+        mongoTemplate.updateFirst(
+                Query.query(where("_id").is(key)),
+                new Update()
+                        .set("status", IdempotencyRecord.COMPLETED)
+                        .set("response", response)
+                        .set("expires_at", Instant.now().plus(ttl)),
+                IdempotencyRecord.class);
+        return new StoredResponse(requestHash, response);
+    }
+
+    private StoredResponse awaitRemote(String key, String requestHash, Supplier<ConversionResponse> conversion) {
+        long deadline = System.nanoTime() + waitTimeout.toNanos();
+        while (true) {
+            IdempotencyRecord record = mongoTemplate.findById(key, IdempotencyRecord.class);
+            if (record == null) {
+                log.debug("Idempotency key {} was released by its owner, executing", key);
+                return executeOnce(key, requestHash, conversion);
+            }
+            if (IdempotencyRecord.COMPLETED.equals(record.getStatus())) {
+                return new StoredResponse(record.getRequestHash(), record.getResponse());
+            }
+            if (!record.getRequestHash().equals(requestHash)) {
+                throw keyReused(key);
+            }
+            if (System.nanoTime() >= deadline) {
+                throw inProgress(key);
+            }
+            try {
+                Thread.sleep(pollInterval);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for idempotency key " + key, e);
+            }
+        }
+    }
+
+    private StoredResponse await(String key, CompletableFuture<StoredResponse> existing) {
+        try {
+            return existing.get(waitTimeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for idempotency key " + key, e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("Original request for idempotency key " + key + " failed", e.getCause());
+        } catch (TimeoutException e) {
+            throw inProgress(key);
+        }
+    }
+
+    private void release(String key) {
+        try {
+            mongoTemplate.remove(Query.query(where("_id").is(key).and("status").is(IdempotencyRecord.IN_FLIGHT)),
+                    IdempotencyRecord.class);
+        } catch (RuntimeException e) {
+            log.warn("Failed to release idempotency key {}; it expires in {}: {}", key, inFlightTtl, e.getMessage());
+        }
+    }
+
+    private ConversionResponse matching(String key, String requestHash, StoredResponse stored) {
+        if (!stored.requestHash().equals(requestHash)) {
+            throw keyReused(key);
+        }
+        return stored.response();
+    }
+
+    private BusinessException keyReused(String key) {
+        return new BusinessException("IDEMPOTENCY_KEY_REUSED",
+                "Idempotency-Key " + key + " was already used for a different conversion request", HttpStatus.UNPROCESSABLE_ENTITY);
+    }
+
+    private BusinessException inProgress(String key) {
+        return new BusinessException("IDEMPOTENCY_REQUEST_IN_PROGRESS",
+                "A request with Idempotency-Key " + key + " is still in progress, please retry", HttpStatus.CONFLICT);
+    }
+
+    static String hash(ConversionRequest request) {
+        String canonical = request.getSourceAmount().stripTrailingZeros().toPlainString()
+                + '|' + request.getSourceCurrency() + '|' + request.getTargetCurrency()
+                + (request.getQuoteId() == null ? "" : '|' + request.getQuoteId());
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(canonical.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private record StoredResponse(String requestHash, ConversionResponse response) {
+    }
+}
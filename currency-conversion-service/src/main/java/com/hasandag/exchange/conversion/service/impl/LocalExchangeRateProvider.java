@@ -0,0 +1,64 @@
+package com.hasandag.exchange.conversion.service.impl;
+
+import com.hasandag.exchange.common.dto.ExchangeRateResponse;
+import com.hasandag.exchange.common.enums.Currency;
+import com.hasandag.exchange.conversion.service.ExchangeRateProvider;
+import com.hasandag.exchange.conversion.service.LocalExchangeRateStore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Optional;
+
+@Service
+@Primary
+@Slf4j
+@ConditionalOnProperty(name = "conversion.rates.provider", havingValue = "local")
+public class LocalExchangeRateProvider implements ExchangeRateProvider {
+
+    private final LocalExchangeRateStore rateStore;
+    private final FeignExchangeRateProvider fallbackProvider;
+
+    public LocalExchangeRateProvider(LocalExchangeRateStore rateStore, FeignExchangeRateProvider fallbackProvider) {
+        this.rateStore = rateStore;
+        this.fallbackProvider = fallbackProvider;
+    }
+
+    @Override
+    public ExchangeRateResponse getExchangeRate(Currency sourceCurrency, Currency targetCurrency) {
+        return rateStore.findFresh(sourceCurrency, targetCurrency)
+                .orElseGet(() -> {
+                    log.debug("No fresh local rate for {} -> {}, falling back to internal client", sourceCurrency, targetCurrency);
+                    ExchangeRateResponse response = fallbackProvider.getExchangeRate(sourceCurrency, targetCurrency);
+                    rateStore.update(response);
+                    return response;
+                });
+    }
+
+    @Override
+    public Optional<ExchangeRateResponse> findCachedExchangeRate(Currency sourceCurrency, Currency targetCurrency) {
+        return rateStore.findFresh(sourceCurrency, targetCurrency);
+    }
+
+    @Override
+    public void cacheExchangeRate(ExchangeRateResponse rate) {
+        rateStore.update(rate);
+    }
+
+    /**
+     * Locally held rates arrive one snapshot message at a time, so a multi-target lookup is served
+     * locally only when every target is fresh and from the same upstream quote. Otherwise the internal
+     * client is asked for one consistent snapshot and the result is stored.
+     */
+    @Override
+    public List<ExchangeRateResponse> getExchangeRateSnapshot(Currency sourceCurrency, List<Currency> targetCurrencies) {
+        return findCachedExchangeRateSnapshot(sourceCurrency, targetCurrencies).orElseGet(() -> {
+            log.debug("No consistent local snapshot for {} -> {}, falling back to internal client", sourceCurrency, targetCurrencies);
+            List<ExchangeRateResponse> snapshot = fallbackProvider.getExchangeRateSnapshot(sourceCurrency, targetCurrencies);
+            snapshot.forEach(rateStore::update);
+            return snapshot;
+        });
+    }
+}
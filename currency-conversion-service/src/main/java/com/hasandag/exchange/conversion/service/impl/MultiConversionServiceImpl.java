@@ -0,0 +1,107 @@
+package com.hasandag.exchange.conversion.service.impl;
+
+import com.hasandag.exchange.common.dto.ConversionResponse;
+import com.hasandag.exchange.common.dto.ExchangeRateResponse;
+import com.hasandag.exchange.common.enums.Currency;
+import com.hasandag.exchange.common.exception.BusinessException;
+import com.hasandag.exchange.common.exception.RateServiceException;
+import com.hasandag.exchange.common.id.TimeOrderedIds;
+import com.hasandag.exchange.common.money.ConversionCalculator;
+import com.hasandag.exchange.conversion.dto.MultiConversionRequest;
+import com.hasandag.exchange.conversion.dto.MultiConversionResponse;
+import com.hasandag.exchange.conversion.model.CurrencyConversionDocument;
+import com.hasandag.exchange.conversion.service.ExchangeRateProvider;
+import com.hasandag.exchange.conversion.service.MultiConversionService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+@Service
+@Slf4j
+public class MultiConversionServiceImpl implements MultiConversionService {
+
+    private final ExchangeRateProvider exchangeRateProvider;
+    private final MongoTemplate mongoTemplate;
+
+    public MultiConversionServiceImpl(ExchangeRateProvider exchangeRateProvider, MongoTemplate mongoTemplate) {
+        this.exchangeRateProvider = exchangeRateProvider;
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public MultiConversionResponse convert(MultiConversionRequest request) {
+        Currency source = request.getSourceCurrency();
+        List<Currency> targets = List.copyOf(new LinkedHashSet<>(request.getTargetCurrencies()));
+        if (targets.contains(source)) {
+            throw new BusinessException("INVALID_TARGET_CURRENCY",
+                    "Target currencies must not include the source currency " + source, HttpStatus.BAD_REQUEST);
+        }
+
+        Map<Currency, ExchangeRateResponse> rates = new EnumMap<>(Currency.class);
+        for (ExchangeRateResponse rate : exchangeRateProvider.getExchangeRateSnapshot(source, targets)) {
+            rates.put(rate.getTargetCurrency(), rate);
+        }
+
+        String correlationId = TimeOrderedIds.nextString();
+        LocalDateTime timestamp = LocalDateTime.now();
+        List<ConversionResponse> conversions = new ArrayList<>(targets.size());
+        List<CurrencyConversionDocument> documents = new ArrayList<>(targets.size());
+        for (Currency target : targets) {
+            ExchangeRateResponse rate = rates.get(target);
+            if (rate == null) {
+                throw new RateServiceException("Rate snapshot has no rate from " + source + " to " + target);
+            }
+            ConversionResponse conversion = ConversionResponse.builder()
+                    .transactionId(TimeOrderedIds.nextString())
+                    .sourceCurrency(source)
+                    .targetCurrency(target)
+                    .sourceAmount(request.getSourceAmount())
+                    .targetAmount(ConversionCalculator.convert(request.getSourceAmount(), rate.getRate()))
+                    .exchangeRate(rate.getRate())
+                    .timestamp(timestamp)
+                    .build();
+            conversions.add(conversion);
+            documents.add(toDocument(conversion, correlationId));
+        }
+
+        try {
+            mongoTemplate.insert(documents, CurrencyConversionDocument.class);
+        } catch (Exception e) {
+            log.error("Failed to save {} conversion legs for correlation {}: {}", documents.size(), correlationId, e.getMessage());
+            throw new RuntimeException("Failed to persist multi-target conversion", e);
+        }
+        log.debug("Stored {} conversion legs for correlation {}", documents.size(), correlationId);
+
+        return MultiConversionResponse.builder()
+                .correlationId(correlationId)
+                .sourceCurrency(source)
+                .sourceAmount(request.getSourceAmount())
+                .timestamp(timestamp)
+                .conversions(conversions)
+                .build();
+    }
+
+    private CurrencyConversionDocument toDocument(ConversionResponse conversion, String correlationId) {
+        return CurrencyConversionDocument.builder()
+                .transactionId(conversion.getTransactionId())
+                .sourceCurrency(conversion.getSourceCurrency().getCode())
+                .targetCurrency(conversion.getTargetCurrency().getCode())
+                .sourceAmount(conversion.getSourceAmount())
+                .targetAmount(conversion.getTargetAmount())
+                .exchangeRate(conversion.getExchangeRate())
+                .timestamp(conversion.getTimestamp())
+                .correlationId(correlationId)
+                .status("COMPLETED")
+                .eventId(TimeOrderedIds.nextString())
+                .eventStatus(CurrencyConversionDocument.EVENT_PENDING)
+                .build();
+    }
+}
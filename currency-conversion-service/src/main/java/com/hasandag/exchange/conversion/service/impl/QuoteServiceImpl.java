@@ -0,0 +1,124 @@
+package com.hasandag.exchange.conversion.service.impl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.hasandag.exchange.common.dto.ConversionRequest;
+import com.hasandag.exchange.common.dto.ExchangeRateResponse;
+import com.hasandag.exchange.common.exception.BusinessException;
+import com.hasandag.exchange.common.id.TimeOrderedIds;
+import com.hasandag.exchange.common.money.ConversionCalculator;
+import com.hasandag.exchange.conversion.dto.QuoteRequest;
+import com.hasandag.exchange.conversion.dto.QuoteResponse;
+import com.hasandag.exchange.conversion.service.ExchangeRateProvider;
+import com.hasandag.exchange.conversion.service.QuoteService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Issues single-use quotes that lock the current rate for {@code conversion.quote.ttl}. Quotes live in a
+ * bounded local Caffeine cache, so a quote must be executed on the instance that issued it; when the
+ * cache is full the oldest quotes are evicted and fail as expired.
+ * <p>
+ * Redeeming a quote marks it used rather than removing it, so a second execution is told the quote was
+ * already used instead of that it expired; the marker itself expires one TTL later. A conversion that
+ * fails without being stored releases its quote for another attempt.
+ */
+@Service
+@Slf4j
+public class QuoteServiceImpl implements QuoteService {
+
+    static final String CACHE_NAME = "conversion.quotes";
+
+    private final ExchangeRateProvider exchangeRateProvider;
+    private final Cache<String, QuoteEntry> quotes;
+    private final Duration ttl;
+
+    public QuoteServiceImpl(
+            ExchangeRateProvider exchangeRateProvider,
+            MeterRegistry meterRegistry,
+            @Value("${conversion.quote.max-size:100000}") long maxSize,
+            @Value("${conversion.quote.ttl:30s}") Duration ttl) {
+        this.exchangeRateProvider = exchangeRateProvider;
+        this.ttl = ttl;
+        this.quotes = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, quotes, CACHE_NAME);
+    }
+
+    @Override
+    public QuoteResponse createQuote(QuoteRequest request) {
+        ExchangeRateResponse rate = exchangeRateProvider.getExchangeRate(request.getSourceCurrency(), request.getTargetCurrency());
+        LocalDateTime now = LocalDateTime.now();
+        QuoteResponse quote = QuoteResponse.builder()
+                .quoteId(TimeOrderedIds.nextString())
+                .sourceCurrency(request.getSourceCurrency())
+                .targetCurrency(request.getTargetCurrency())
+                .rate(rate.getRate())
+                .sourceAmount(request.getSourceAmount())
+                .targetAmount(request.getSourceAmount() == null
+                        ? null
+                        : ConversionCalculator.convert(request.getSourceAmount(), rate.getRate()))
+                .rateTimestamp(rate.getLastUpdated())
+                .expiresAt(now.plus(ttl))
+                .build();
+        quotes.put(quote.getQuoteId(), new QuoteEntry(quote, false));
+        log.debug("Issued quote {} for {} -> {} at {}", quote.getQuoteId(),
+                quote.getSourceCurrency(), quote.getTargetCurrency(), quote.getRate());
+        return quote;
+    }
+
+    @Override
+    public ExchangeRateResponse redeem(ConversionRequest request) {
+        String quoteId = request.getQuoteId();
+        QuoteEntry entry = quotes.getIfPresent(quoteId);
+        if (entry != null && entry.used()) {
+            throw alreadyUsed(quoteId);
+        }
+        QuoteResponse quote = entry == null ? null : entry.quote();
+        if (quote == null || quote.getExpiresAt().isBefore(LocalDateTime.now())) {
+            throw new BusinessException("QUOTE_EXPIRED",
+                    "Quote " + quoteId + " is unknown or has expired", HttpStatus.GONE);
+        }
+        if (quote.getSourceCurrency() != request.getSourceCurrency() || quote.getTargetCurrency() != request.getTargetCurrency()) {
+            throw new BusinessException("QUOTE_MISMATCH",
+                    "Quote " + quoteId + " was issued for " + quote.getSourceCurrency() + " -> " + quote.getTargetCurrency(),
+                    HttpStatus.UNPROCESSABLE_ENTITY);
+        }
+        if (!quotes.asMap().replace(quoteId, entry, new QuoteEntry(quote, true))) {
+            throw alreadyUsed(quoteId);
+        }
+
+        return ExchangeRateResponse.builder()
+                .sourceCurrency(quote.getSourceCurrency())
+                .targetCurrency(quote.getTargetCurrency())
+                .rate(quote.getRate())
+                .lastUpdated(quote.getRateTimestamp())
+                .build();
+    }
+
+    @Override
+    public void release(String quoteId) {
+        QuoteEntry entry = quotes.getIfPresent(quoteId);
+        if (entry != null && entry.used() && quotes.asMap().replace(quoteId, entry, new QuoteEntry(entry.quote(), false))) {
+            log.debug("Released quote {} after a failed conversion", quoteId);
+        }
+    }
+
+    private static BusinessException alreadyUsed(String quoteId) {
+        return new BusinessException("QUOTE_ALREADY_USED",
+                "Quote " + quoteId + " has already been executed", HttpStatus.CONFLICT);
+    }
+
+    private record QuoteEntry(QuoteResponse quote, boolean used) {
+    }
+}
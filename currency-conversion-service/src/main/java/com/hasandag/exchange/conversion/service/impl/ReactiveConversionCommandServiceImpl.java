@@ -0,0 +1,106 @@
+package com.hasandag.exchange.conversion.service.impl;
+
+import com.hasandag.exchange.common.dto.ConversionRequest;
+import com.hasandag.exchange.common.dto.ConversionResponse;
+import com.hasandag.exchange.common.dto.ExchangeRateResponse;
+import com.hasandag.exchange.common.enums.Currency;
+import com.hasandag.exchange.common.id.TimeOrderedIds;
+import com.hasandag.exchange.common.money.ConversionCalculator;
+import com.hasandag.exchange.conversion.client.ReactiveExchangeRateClient;
+import com.hasandag.exchange.conversion.model.CurrencyConversionDocument;
+import com.hasandag.exchange.conversion.service.ExchangeRateProvider;
+import com.hasandag.exchange.conversion.service.QuoteService;
+import com.hasandag.exchange.conversion.service.ReactiveConversionCommandService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.LocalDateTime;
+import java.util.function.BiFunction;
+
+/**
+ * Non-blocking counterpart of {@link ConversionCommandServiceImpl}: the rate comes from the configured
+ * {@link ExchangeRateProvider}'s in-memory rates (the Caffeine cache or the local rate table) when it
+ * holds one, otherwise from a {@link ReactiveExchangeRateClient}, whose answer is fed back to the
+ * provider. The document, with its pending outbox event, is inserted through
+ * {@link ReactiveMongoTemplate}. When the configured rate client has no reactive API (Feign), the
+ * blocking provider is called on the bounded elastic scheduler instead. Requests carrying a
+ * {@code quoteId} use the quote's locked rate, and release the quote if the insert fails.
+ */
+@Service
+@Slf4j
+@ConditionalOnProperty(name = "conversion.reactive.enabled", havingValue = "true")
+public class ReactiveConversionCommandServiceImpl implements ReactiveConversionCommandService {
+
+    private final BiFunction<Currency, Currency, Mono<ExchangeRateResponse>> rateLookup;
+    private final QuoteService quoteService;
+    private final ReactiveMongoTemplate reactiveMongoTemplate;
+
+    public ReactiveConversionCommandServiceImpl(
+            ObjectProvider<ReactiveExchangeRateClient> reactiveRateClient,
+            ExchangeRateProvider exchangeRateProvider,
+            QuoteService quoteService,
+            ReactiveMongoTemplate reactiveMongoTemplate) {
+        this.quoteService = quoteService;
+        this.reactiveMongoTemplate = reactiveMongoTemplate;
+        ReactiveExchangeRateClient client = reactiveRateClient.getIfAvailable();
+        if (client != null) {
+            this.rateLookup = (source, target) -> exchangeRateProvider.findCachedExchangeRate(source, target)
+                    .map(Mono::just)
+                    .orElseGet(() -> client.fetchExchangeRate(source, target)
+                            .doOnNext(exchangeRateProvider::cacheExchangeRate));
+        } else {
+            log.warn("No reactive exchange rate client configured; reactive conversions will call the blocking provider off the event loop");
+            this.rateLookup = (source, target) -> Mono.fromCallable(() -> exchangeRateProvider.getExchangeRate(source, target))
+                    .subscribeOn(Schedulers.boundedElastic());
+        }
+    }
+
+    @Override
+    public Mono<ConversionResponse> processConversion(ConversionRequest request) {
+        if (request.getQuoteId() != null) {
+            return Mono.fromCallable(() -> quoteService.redeem(request))
+                    .flatMap(quoted -> convert(request, quoted)
+                            .doOnError(e -> quoteService.release(request.getQuoteId())));
+        }
+        return rateLookup.apply(request.getSourceCurrency(), request.getTargetCurrency())
+                .flatMap(rateResponse -> convert(request, rateResponse));
+    }
+
+    private Mono<ConversionResponse> convert(ConversionRequest request, ExchangeRateResponse rateResponse) {
+        ConversionResponse response = ConversionResponse.builder()
+                .transactionId(TimeOrderedIds.nextString())
+                .sourceCurrency(request.getSourceCurrency())
+                .targetCurrency(request.getTargetCurrency())
+                .sourceAmount(request.getSourceAmount())
+                .targetAmount(ConversionCalculator.convert(request.getSourceAmount(), rateResponse.getRate()))
+                .exchangeRate(rateResponse.getRate())
+                .timestamp(LocalDateTime.now())
+                .build();
+        return reactiveMongoTemplate.insert(toDocument(response))
+                .onErrorMap(e -> {
+                    log.error("Failed to save to MongoDB: {}", e.getMessage());
+                    return new RuntimeException("Failed to persist conversion", e);
+                })
+                .thenReturn(response);
+    }
+
+    private CurrencyConversionDocument toDocument(ConversionResponse response) {
+        return CurrencyConversionDocument.builder()
+                .transactionId(response.getTransactionId())
+                .sourceCurrency(response.getSourceCurrency().getCode())
+                .targetCurrency(response.getTargetCurrency().getCode())
+                .sourceAmount(response.getSourceAmount())
+                .targetAmount(response.getTargetAmount())
+                .exchangeRate(response.getExchangeRate())
+                .timestamp(response.getTimestamp())
+                .status("COMPLETED")
+                .eventId(TimeOrderedIds.nextString())
+                .eventStatus(CurrencyConversionDocument.EVENT_PENDING)
+                .build();
+    }
+}
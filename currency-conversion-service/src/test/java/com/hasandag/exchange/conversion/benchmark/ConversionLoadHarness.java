@@ -0,0 +1,161 @@
+package com.hasandag.exchange.conversion.benchmark;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Closed-loop load generator that drives {@code POST /api/v1/conversions} on the servlet connector
+ * and on the reactive server of the same instance, one after the other, with identical settings,
+ * and prints throughput and latency percentiles for each.
+ * <p>
+ * Start the service with {@code SPRING_PROFILES_ACTIVE=local,reactive}, pinned to a fixed core count
+ * (e.g. {@code -XX:ActiveProcessorCount=2} or {@code docker run --cpus=2}), then run
+ * {@code mvn -pl currency-conversion-service test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.hasandag.exchange.conversion.benchmark.ConversionLoadHarness
+ * -Dexec.args="--concurrency=64,256,1024 --duration=30s"}. Rerun with different core counts to compare
+ * how far each path scales.
+ * <p>
+ * Options: {@code --servlet-url}, {@code --reactive-url}, {@code --concurrency} (comma separated),
+ * {@code --warmup}, {@code --duration}.
+ */
+public class ConversionLoadHarness {
+
+    private static final String[] TARGETS = {"EUR", "GBP", "JPY", "CHF"};
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parse(args);
+        Map<String, URI> endpoints = new LinkedHashMap<>();
+        endpoints.put("servlet", URI.create(options.getOrDefault("servlet-url", "http://localhost:8082/api/v1/conversions")));
+        endpoints.put("reactive", URI.create(options.getOrDefault("reactive-url", "http://localhost:8093/api/v1/conversions")));
+        int[] concurrencyLevels = Arrays.stream(options.getOrDefault("concurrency", "64,256").split(","))
+                .mapToInt(level -> Integer.parseInt(level.trim()))
+                .toArray();
+        Duration warmup = Duration.parse("PT" + options.getOrDefault("warmup", "10s"));
+        Duration duration = Duration.parse("PT" + options.getOrDefault("duration", "30s"));
+
+        HttpClient client = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+
+        System.out.printf("%-9s %11s %12s %9s %9s %9s %9s %8s%n",
+                "path", "concurrency", "throughput/s", "p50 ms", "p90 ms", "p99 ms", "max ms", "errors");
+        for (int concurrency : concurrencyLevels) {
+            for (Map.Entry<String, URI> endpoint : endpoints.entrySet()) {
+                run(client, endpoint.getValue(), concurrency, warmup);
+                Result result = run(client, endpoint.getValue(), concurrency, duration);
+                System.out.printf("%-9s %11d %12.1f %9.2f %9.2f %9.2f %9.2f %8d%n",
+                        endpoint.getKey(), concurrency, result.throughput(),
+                        result.percentileMillis(0.50), result.percentileMillis(0.90),
+                        result.percentileMillis(0.99), result.percentileMillis(1.0), result.errors());
+            }
+        }
+    }
+
+    private static Result run(HttpClient client, URI uri, int concurrency, Duration duration) throws Exception {
+        long start = System.nanoTime();
+        long deadline = start + duration.toNanos();
+        List<Future<Worker>> futures = new ArrayList<>(concurrency);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < concurrency; i++) {
+                futures.add(executor.submit(() -> new Worker().drive(client, uri, deadline)));
+            }
+        }
+        double elapsedSeconds = (System.nanoTime() - start) / 1e9;
+
+        int total = 0;
+        long errors = 0;
+        List<long[]> samples = new ArrayList<>(concurrency);
+        for (Future<Worker> future : futures) {
+            Worker worker = future.get();
+            samples.add(Arrays.copyOf(worker.latencies, worker.count));
+            total += worker.count;
+            errors += worker.errors;
+        }
+        long[] latencies = new long[total];
+        int offset = 0;
+        for (long[] sample : samples) {
+            System.arraycopy(sample, 0, latencies, offset, sample.length);
+            offset += sample.length;
+        }
+        Arrays.sort(latencies);
+        return new Result(latencies, (total - errors) / elapsedSeconds, errors);
+    }
+
+    private static Map<String, String> parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value but got " + arg);
+            }
+            int separator = arg.indexOf('=');
+            options.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+        return options;
+    }
+
+    private static final class Worker {
+        private long[] latencies = new long[1024];
+        private int count;
+        private long errors;
+
+        Worker drive(HttpClient client, URI uri, long deadline) {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            while (System.nanoTime() < deadline) {
+                String body = String.format("{\"sourceAmount\": %d.%02d, \"sourceCurrency\": \"USD\", \"targetCurrency\": \"%s\"}",
+                        random.nextInt(1, 10_000), random.nextInt(100), TARGETS[random.nextInt(TARGETS.length)]);
+                HttpRequest request = HttpRequest.newBuilder(uri)
+                        .header("Content-Type", "application/json")
+                        .timeout(Duration.ofSeconds(30))
+                        .POST(HttpRequest.BodyPublishers.ofString(body))
+                        .build();
+                long start = System.nanoTime();
+                try {
+                    HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                    if (response.statusCode() != 200) {
+                        errors++;
+                    }
+                } catch (Exception e) {
+                    if (e instanceof InterruptedException) {
+                        Thread.currentThread().interrupt();
+                        return this;
+                    }
+                    errors++;
+                }
+                record(System.nanoTime() - start);
+            }
+            return this;
+        }
+
+        private void record(long nanos) {
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = nanos;
+        }
+    }
+
+    private record Result(long[] sortedLatencies, double throughput, long errors) {
+
+        double percentileMillis(double percentile) {
+            if (sortedLatencies.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(percentile * sortedLatencies.length) - 1;
+            return sortedLatencies[Math.max(0, index)] / 1e6;
+        }
+    }
+}
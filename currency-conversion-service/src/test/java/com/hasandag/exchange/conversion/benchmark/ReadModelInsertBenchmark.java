@@ -0,0 +1,145 @@
+package com.hasandag.exchange.conversion.benchmark;
+
+import com.hasandag.exchange.common.id.TimeOrderedIds;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures batched inserts into a copy of the {@code currency_conversions} read model table, keyed by
+ * random (v4) versus time-ordered (v7) transaction IDs, on top of a pre-filled unique index.
+ * <p>
+ * Run with {@code mvn -pl currency-conversion-service test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.hasandag.exchange.conversion.benchmark.ReadModelInsertBenchmark}. It defaults to
+ * in-memory H2; to measure PostgreSQL add e.g. {@code -Dexec.args="-p jdbcUrl=jdbc:postgresql://localhost:5432/currency_conversion_db
+ * -p user=postgres -p password=postgres"}.
+ * The benchmark creates and drops its own {@code bench_currency_conversions} table.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+public class ReadModelInsertBenchmark {
+
+    private static final String TABLE = "bench_currency_conversions";
+
+    private static final String INSERT_SQL = "INSERT INTO " + TABLE
+            + " (transaction_id, source_currency, target_currency, source_amount, target_amount, exchange_rate, timestamp)"
+            + " VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    @Param({"random", "time-ordered"})
+    public String keys;
+
+    @Param("jdbc:h2:mem:bench;DB_CLOSE_DELAY=-1")
+    public String jdbcUrl;
+
+    @Param("sa")
+    public String user;
+
+    @Param("")
+    public String password;
+
+    @Param("500000")
+    public int prefillRows;
+
+    @Param("500")
+    public int batchSize;
+
+    private Connection connection;
+    private PreparedStatement insert;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection(jdbcUrl, user, password);
+        connection.setAutoCommit(false);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS " + TABLE);
+            statement.execute("CREATE TABLE " + TABLE + " ("
+                    + "id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY, "
+                    + "transaction_id VARCHAR(255) NOT NULL, "
+                    + "source_currency VARCHAR(3) NOT NULL, "
+                    + "target_currency VARCHAR(3) NOT NULL, "
+                    + "source_amount DECIMAL(19,4) NOT NULL, "
+                    + "target_amount DECIMAL(19,4) NOT NULL, "
+                    + "exchange_rate DECIMAL(19,6) NOT NULL, "
+                    + "timestamp TIMESTAMP NOT NULL)");
+            statement.execute("CREATE UNIQUE INDEX idx_bench_transaction_id ON " + TABLE + " (transaction_id)");
+        }
+        connection.commit();
+
+        insert = connection.prepareStatement(INSERT_SQL);
+        for (int inserted = 0; inserted < prefillRows; inserted += batchSize) {
+            insertBatch();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        insert.close();
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS " + TABLE);
+        }
+        connection.commit();
+        connection.close();
+    }
+
+    /**
+     * One operation is one committed batch of {@link #batchSize} rows.
+     */
+    @Benchmark
+    public int[] insertBatch() throws SQLException {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        for (int i = 0; i < batchSize; i++) {
+            insert.setString(1, nextKey());
+            insert.setString(2, "USD");
+            insert.setString(3, "EUR");
+            insert.setBigDecimal(4, BigDecimal.valueOf(10_000, 2));
+            insert.setBigDecimal(5, BigDecimal.valueOf(8_500, 2));
+            insert.setBigDecimal(6, BigDecimal.valueOf(850_000, 6));
+            insert.setTimestamp(7, now);
+            insert.addBatch();
+        }
+        int[] counts = insert.executeBatch();
+        connection.commit();
+        return counts;
+    }
+
+    private String nextKey() {
+        return "random".equals(keys) ? UUID.randomUUID().toString() : TimeOrderedIds.nextString();
+    }
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        new Runner(new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .include(ReadModelInsertBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
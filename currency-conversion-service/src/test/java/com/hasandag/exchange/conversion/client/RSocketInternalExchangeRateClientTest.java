@@ -0,0 +1,127 @@
+package com.hasandag.exchange.conversion.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.hasandag.exchange.common.constants.ExchangeRateRoutes;
+import com.hasandag.exchange.common.dto.ExchangeRateRequest;
+import com.hasandag.exchange.common.dto.ExchangeRateResponse;
+import com.hasandag.exchange.common.enums.Currency;
+import com.hasandag.exchange.common.exception.RateServiceException;
+import com.hasandag.exchange.conversion.client.impl.RSocketInternalExchangeRateClient;
+import io.rsocket.core.RSocketServer;
+import io.rsocket.transport.netty.server.CloseableChannel;
+import io.rsocket.transport.netty.server.TcpServerTransport;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.support.StaticApplicationContext;
+import org.springframework.http.codec.cbor.Jackson2CborDecoder;
+import org.springframework.http.codec.cbor.Jackson2CborEncoder;
+import org.springframework.messaging.handler.annotation.MessageMapping;
+import org.springframework.messaging.rsocket.RSocketRequester;
+import org.springframework.messaging.rsocket.RSocketStrategies;
+import org.springframework.messaging.rsocket.annotation.support.RSocketMessageHandler;
+import org.springframework.stereotype.Controller;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("RSocketInternalExchangeRateClient Tests")
+class RSocketInternalExchangeRateClientTest {
+
+    private CloseableChannel server;
+    private RSocketInternalExchangeRateClient client;
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper cborMapper = CBORMapper.builder().addModule(new JavaTimeModule()).build();
+        RSocketStrategies strategies = RSocketStrategies.builder()
+                .encoder(new Jackson2CborEncoder(cborMapper))
+                .decoder(new Jackson2CborDecoder(cborMapper))
+                .build();
+
+        StaticApplicationContext context = new StaticApplicationContext();
+        context.registerBean(StubRateController.class, StubRateController::new);
+        context.refresh();
+
+        RSocketMessageHandler handler = new RSocketMessageHandler();
+        handler.setRSocketStrategies(strategies);
+        handler.setApplicationContext(context);
+        handler.afterPropertiesSet();
+
+        server = RSocketServer.create(handler.responder())
+                .bind(TcpServerTransport.create("localhost", 0))
+                .block();
+        client = new RSocketInternalExchangeRateClient(RSocketRequester.builder().rsocketStrategies(strategies),
+                "localhost", server.address().getPort(), Duration.ofSeconds(5));
+    }
+
+    @AfterEach
+    void tearDown() {
+        client.destroy();
+        server.dispose();
+    }
+
+    @Test
+    @DisplayName("Should request the pair over RSocket and map the response")
+    void shouldRoundTripSingleRate() {
+        ExchangeRateResponse response = client.getExchangeRate(Currency.USD, Currency.EUR);
+
+        assertThat(response.getSourceCurrency()).isEqualTo(Currency.USD);
+        assertThat(response.getTargetCurrency()).isEqualTo(Currency.EUR);
+        assertThat(response.getRate()).isEqualByComparingTo("0.85");
+        assertThat(response.getLastUpdated()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Should return batch rates in request order")
+    void shouldRoundTripBatch() {
+        List<ExchangeRateResponse> responses = client.getExchangeRates(List.of(
+                ExchangeRateRequest.of(Currency.USD, Currency.GBP), ExchangeRateRequest.of(Currency.USD, Currency.EUR)));
+
+        assertThat(responses).extracting(ExchangeRateResponse::getTargetCurrency)
+                .containsExactly(Currency.GBP, Currency.EUR);
+    }
+
+    @Test
+    @DisplayName("Should translate responder errors into RateServiceException")
+    void shouldTranslateResponderErrors() {
+        assertThatThrownBy(() -> client.getExchangeRate(Currency.USD, Currency.JPY))
+                .isInstanceOf(RateServiceException.class)
+                .hasMessageContaining("USD to JPY");
+    }
+
+    @Controller
+    static class StubRateController {
+
+        @MessageMapping(ExchangeRateRoutes.RATE)
+        Mono<ExchangeRateResponse> rate(ExchangeRateRequest request) {
+            if (request.getTargetCurrency() == Currency.JPY) {
+                return Mono.error(new IllegalStateException("no rate for JPY"));
+            }
+            return Mono.just(quote(request));
+        }
+
+        @MessageMapping(ExchangeRateRoutes.RATE_BATCH)
+        Mono<List<ExchangeRateResponse>> rates(List<ExchangeRateRequest> requests) {
+            return Mono.just(requests.stream().map(StubRateController::quote).toList());
+        }
+
+        private static ExchangeRateResponse quote(ExchangeRateRequest request) {
+            return ExchangeRateResponse.builder()
+                    .sourceCurrency(request.getSourceCurrency())
+                    .targetCurrency(request.getTargetCurrency())
+                    .rate(new BigDecimal("0.85"))
+                    .lastUpdated(LocalDateTime.now())
+                    .build();
+        }
+    }
+}
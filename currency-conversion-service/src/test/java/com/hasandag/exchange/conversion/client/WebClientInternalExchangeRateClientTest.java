@@ -0,0 +1,67 @@
+package com.hasandag.exchange.conversion.client;
+
+import com.hasandag.exchange.common.dto.ExchangeRateResponse;
+import com.hasandag.exchange.common.enums.Currency;
+import com.hasandag.exchange.common.exception.RateServiceException;
+import com.hasandag.exchange.conversion.client.impl.WebClientInternalExchangeRateClient;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("WebClientInternalExchangeRateClient Tests")
+class WebClientInternalExchangeRateClientTest {
+
+    private MockWebServer server;
+    private WebClientInternalExchangeRateClient client;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = new MockWebServer();
+        server.start();
+        client = new WebClientInternalExchangeRateClient(WebClient.builder()
+                .baseUrl(server.url("/").toString())
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        server.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should request the pair and map the response")
+    void shouldRequestPairAndMapResponse() throws InterruptedException {
+        server.enqueue(new MockResponse()
+                .setHeader("Content-Type", "application/json")
+                .setBody("{\"sourceCurrency\":\"USD\",\"targetCurrency\":\"EUR\",\"rate\":0.8512,\"lastUpdated\":\"2025-05-29T10:30:00\"}"));
+
+        ExchangeRateResponse response = client.getExchangeRate(Currency.USD, Currency.EUR);
+
+        assertThat(response.getSourceCurrency()).isEqualTo(Currency.USD);
+        assertThat(response.getTargetCurrency()).isEqualTo(Currency.EUR);
+        assertThat(response.getRate()).isEqualByComparingTo("0.8512");
+
+        RecordedRequest request = server.takeRequest();
+        assertThat(request.getPath()).isEqualTo("/api/v1/exchange-rates?sourceCurrency=USD&targetCurrency=EUR");
+    }
+
+    @Test
+    @DisplayName("Should translate error responses into RateServiceException")
+    void shouldTranslateErrorResponses() {
+        server.enqueue(new MockResponse().setResponseCode(503).setBody("unavailable"));
+
+        assertThatThrownBy(() -> client.getExchangeRate(Currency.USD, Currency.EUR))
+                .isInstanceOf(RateServiceException.class)
+                .hasMessageContaining("503");
+    }
+}
@@ -0,0 +1,97 @@
+package com.hasandag.exchange.conversion.controller;
+
+import com.hasandag.exchange.conversion.dto.ConversionSearchRequest;
+import com.hasandag.exchange.conversion.model.ExportFormat;
+import com.hasandag.exchange.conversion.service.BulkConversionService;
+import com.hasandag.exchange.conversion.service.ConversionCommandService;
+import com.hasandag.exchange.conversion.service.ConversionExportService;
+import com.hasandag.exchange.conversion.service.ConversionQueryService;
+import com.hasandag.exchange.conversion.service.ConversionStatsService;
+import com.hasandag.exchange.conversion.service.IdempotencyService;
+import com.hasandag.exchange.conversion.service.MultiConversionService;
+import com.hasandag.exchange.conversion.service.QuoteService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.async.StandardServletAsyncWebRequest;
+import org.springframework.web.context.request.async.WebAsyncManager;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayOutputStream;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CurrencyConversionController export Tests")
+class CurrencyConversionControllerExportTest {
+
+    @Mock
+    private ConversionExportService exportService;
+
+    @Mock
+    private ConversionExportService.Permit permit;
+
+    private CurrencyConversionController controller;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+
+    @BeforeEach
+    void setUp() {
+        controller = new CurrencyConversionController(null, null, null, null, null, null, null, exportService);
+        request = new MockHttpServletRequest("GET", "/api/v1/conversions/export");
+        request.setAsyncSupported(true);
+        response = new MockHttpServletResponse();
+        when(exportService.acquirePermit()).thenReturn(permit);
+    }
+
+    @Test
+    @DisplayName("Should release the permit when the streaming task is rejected")
+    void shouldReleasePermitWhenStreamingIsRejected() throws Exception {
+        StreamingResponseBody body = controller.exportConversions(new ConversionSearchRequest(), ExportFormat.NDJSON, null, request).getBody();
+
+        WebAsyncManager asyncManager = asyncManager(new TaskExecutorAdapter(task -> {
+            throw new TaskRejectedException("executor saturated");
+        }));
+        asyncManager.startCallableProcessing(() -> {
+            body.writeTo(new ByteArrayOutputStream());
+            return null;
+        });
+        request.getAsyncContext().complete();
+
+        verify(exportService, never()).export(any(), any(), any());
+        verify(permit).close();
+    }
+
+    @Test
+    @DisplayName("Should release the permit once the export has streamed")
+    void shouldReleasePermitAfterStreaming() throws Exception {
+        StreamingResponseBody body = controller.exportConversions(new ConversionSearchRequest(), ExportFormat.NDJSON, null, request).getBody();
+
+        asyncManager(new TaskExecutorAdapter(new SyncTaskExecutor())).startCallableProcessing(() -> {
+            body.writeTo(new ByteArrayOutputStream());
+            return null;
+        });
+
+        verify(exportService).export(any(), any(), any());
+        verify(permit).close();
+    }
+
+    private WebAsyncManager asyncManager(TaskExecutorAdapter executor) {
+        WebAsyncManager asyncManager = WebAsyncUtils.getAsyncManager(request);
+        asyncManager.setAsyncWebRequest(new StandardServletAsyncWebRequest(request, response));
+        asyncManager.setTaskExecutor(executor);
+        return asyncManager;
+    }
+}
@@ -0,0 +1,108 @@
+package com.hasandag.exchange.conversion.controller;
+
+import com.hasandag.exchange.common.dto.ConversionRequest;
+import com.hasandag.exchange.common.dto.ConversionResponse;
+import com.hasandag.exchange.common.enums.Currency;
+import com.hasandag.exchange.common.exception.RateServiceException;
+import com.hasandag.exchange.conversion.config.ReactiveServerConfig;
+import com.hasandag.exchange.conversion.service.ReactiveConversionCommandService;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReactiveConversionHandler Tests")
+class ReactiveConversionHandlerTest {
+
+    @Mock
+    private ReactiveConversionCommandService commandService;
+
+    private WebTestClient client;
+
+    @BeforeEach
+    void setUp() {
+        ReactiveConversionHandler handler = new ReactiveConversionHandler(commandService,
+                Validation.buildDefaultValidatorFactory().getValidator());
+        client = WebTestClient.bindToRouterFunction(new ReactiveServerConfig().reactiveConversionRoutes(handler)).build();
+    }
+
+    @Test
+    @DisplayName("Should return the conversion for a valid request")
+    void shouldConvert() {
+        when(commandService.processConversion(any(ConversionRequest.class))).thenReturn(Mono.just(ConversionResponse.builder()
+                .transactionId("tx-1")
+                .sourceCurrency(Currency.USD)
+                .targetCurrency(Currency.EUR)
+                .sourceAmount(new BigDecimal("100.00"))
+                .targetAmount(new BigDecimal("85.00"))
+                .exchangeRate(new BigDecimal("0.85"))
+                .timestamp(LocalDateTime.now())
+                .build()));
+
+        client.post().uri("/api/v1/conversions")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"sourceAmount\": 100, \"sourceCurrency\": \"USD\", \"targetCurrency\": \"EUR\"}")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.transactionId").isEqualTo("tx-1")
+                .jsonPath("$.targetAmount").isEqualTo(85.00);
+    }
+
+    @Test
+    @DisplayName("Should reject invalid requests with validation errors")
+    void shouldRejectInvalidRequest() {
+        client.post().uri("/api/v1/conversions")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"sourceAmount\": 0, \"sourceCurrency\": \"USD\"}")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.code").isEqualTo("VALIDATION_ERROR")
+                .jsonPath("$.validationErrors.length()").isEqualTo(2);
+
+        verify(commandService, never()).processConversion(any());
+    }
+
+    @Test
+    @DisplayName("Should map rate service failures to 503")
+    void shouldMapRateServiceFailure() {
+        when(commandService.processConversion(any(ConversionRequest.class)))
+                .thenReturn(Mono.error(new RateServiceException("Rate unavailable")));
+
+        client.post().uri("/api/v1/conversions")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"sourceAmount\": 10, \"sourceCurrency\": \"USD\", \"targetCurrency\": \"JPY\"}")
+                .exchange()
+                .expectStatus().isEqualTo(503)
+                .expectBody()
+                .jsonPath("$.code").isEqualTo("RATE_SERVICE_ERROR");
+    }
+
+    @Test
+    @DisplayName("Should reject malformed bodies with 400")
+    void shouldRejectMalformedBody() {
+        client.post().uri("/api/v1/conversions")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"sourceAmount\": ")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.code").isEqualTo("INVALID_REQUEST");
+    }
+}
@@ -0,0 +1,206 @@
+package com.hasandag.exchange.conversion.kafka;
+
+import com.hasandag.exchange.common.constants.KafkaConstants;
+import com.hasandag.exchange.common.dto.cqrs.ConversionEvent;
+import com.hasandag.exchange.common.enums.Currency;
+import com.hasandag.exchange.conversion.kafka.consumer.ConversionEventConsumer;
+import com.hasandag.exchange.conversion.kafka.consumer.ProjectionCatchUpPolicy;
+import com.hasandag.exchange.conversion.kafka.producer.ConversionEventProducer;
+import com.hasandag.exchange.conversion.model.CurrencyConversionEntity;
+import com.hasandag.exchange.conversion.repository.query.CurrencyConversionProjectionWriter;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ConversionEventConsumer Tests")
+class ConversionEventConsumerTest {
+
+    @Mock
+    private CurrencyConversionProjectionWriter projectionWriter;
+
+    @Mock
+    private ProjectionCatchUpPolicy catchUpPolicy;
+
+    @Mock
+    private ConversionEventProducer eventProducer;
+
+    @Mock
+    private Consumer<String, Object> kafkaConsumer;
+
+    private ConversionEventConsumer consumer;
+
+    @BeforeEach
+    void setUp() {
+        consumer = new ConversionEventConsumer(projectionWriter, catchUpPolicy, eventProducer, "transaction-id", 1, Duration.ofSeconds(1));
+    }
+
+    @Test
+    @DisplayName("Should project a whole batch with one write, skipping undeserializable and unknown events")
+    void shouldProjectBatchInOneWrite() {
+        ConversionEvent ignored = event("tx-2");
+        ignored.setEventType(ConversionEvent.EventType.CONVERSION_FAILED);
+
+        when(catchUpPolicy.select(kafkaConsumer, 2)).thenReturn(ProjectionCatchUpPolicy.Mode.NORMAL);
+
+        consumer.consumeConversionEvents(Arrays.asList(event("tx-1"), null, ignored, event("tx-3")), kafkaConsumer);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<CurrencyConversionEntity>> conversions = ArgumentCaptor.forClass(List.class);
+        verify(projectionWriter).insertIgnoringDuplicates(conversions.capture());
+        assertThat(conversions.getValue()).extracting(CurrencyConversionEntity::getTransactionId)
+                .containsExactly("tx-1", "tx-3");
+        verify(projectionWriter, never()).copyIgnoringDuplicates(anyList());
+        verify(catchUpPolicy).record(eq(ProjectionCatchUpPolicy.Mode.NORMAL), eq(2), anyLong());
+    }
+
+    @Test
+    @DisplayName("Should write through COPY while the policy reports catch-up mode")
+    void shouldCopyInCatchUpMode() {
+        when(catchUpPolicy.select(kafkaConsumer, 2)).thenReturn(ProjectionCatchUpPolicy.Mode.CATCH_UP);
+
+        consumer.consumeConversionEvents(List.of(event("tx-1"), event("tx-2")), kafkaConsumer);
+
+        verify(projectionWriter).copyIgnoringDuplicates(anyList());
+        verify(projectionWriter, never()).insertIgnoringDuplicates(anyList());
+        verify(catchUpPolicy).record(eq(ProjectionCatchUpPolicy.Mode.CATCH_UP), eq(2), anyLong());
+    }
+
+    @Test
+    @DisplayName("Should fail the batch on a transient store failure so the container redelivers it")
+    void shouldFailBatchOnTransientWriteError() {
+        when(catchUpPolicy.select(kafkaConsumer, 1)).thenReturn(ProjectionCatchUpPolicy.Mode.NORMAL);
+        doThrow(new DataAccessResourceFailureException("database down")).when(projectionWriter).insertIgnoringDuplicates(anyList());
+
+        assertThatThrownBy(() -> consumer.consumeConversionEvents(List.of(event("tx-1")), kafkaConsumer))
+                .isInstanceOf(RuntimeException.class)
+                .hasRootCauseMessage("database down");
+        verify(eventProducer, never()).sendConversionEvents(anyString(), anyList());
+    }
+
+    @Test
+    @DisplayName("Should divert only the rejected events to the retry topic and project the rest")
+    void shouldDivertRejectedEvents() {
+        when(catchUpPolicy.select(kafkaConsumer, 3)).thenReturn(ProjectionCatchUpPolicy.Mode.NORMAL);
+        doAnswer(invocation -> {
+            List<CurrencyConversionEntity> conversions = invocation.getArgument(0);
+            if (conversions.stream().anyMatch(conversion -> "tx-bad".equals(conversion.getTransactionId()))) {
+                throw new DataIntegrityViolationException("value too long");
+            }
+            return null;
+        }).when(projectionWriter).insertIgnoringDuplicates(anyList());
+        when(eventProducer.sendConversionEvents(eq(KafkaConstants.CONVERSION_PROJECTION_RETRY_TOPIC), anyList()))
+                .thenReturn(List.of(CompletableFuture.completedFuture(null)));
+
+        consumer.consumeConversionEvents(List.of(event("tx-1"), event("tx-bad"), event("tx-3")), kafkaConsumer);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<ConversionEvent>> diverted = ArgumentCaptor.forClass(List.class);
+        verify(eventProducer).sendConversionEvents(eq(KafkaConstants.CONVERSION_PROJECTION_RETRY_TOPIC), diverted.capture());
+        assertThat(diverted.getValue()).extracting(ConversionEvent::getTransactionId).containsExactly("tx-bad");
+        verify(projectionWriter, times(4)).insertIgnoringDuplicates(anyList());
+        verify(catchUpPolicy).record(eq(ProjectionCatchUpPolicy.Mode.NORMAL), eq(2), anyLong());
+    }
+
+    @Test
+    @DisplayName("Should send events that cannot be mapped to the dead-letter topic and project the rest")
+    void shouldDeadLetterUnmappableEvents() {
+        ConversionEvent malformed = event("tx-malformed");
+        malformed.setSourceCurrency(null);
+        when(catchUpPolicy.select(kafkaConsumer, 2)).thenReturn(ProjectionCatchUpPolicy.Mode.NORMAL);
+        when(eventProducer.sendConversionEvents(eq(KafkaConstants.CONVERSION_PROJECTION_DLT_TOPIC), anyList()))
+                .thenReturn(List.of(CompletableFuture.completedFuture(null)));
+
+        consumer.consumeConversionEvents(List.of(event("tx-1"), malformed, event("tx-3")), kafkaConsumer);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<CurrencyConversionEntity>> conversions = ArgumentCaptor.forClass(List.class);
+        verify(projectionWriter).insertIgnoringDuplicates(conversions.capture());
+        assertThat(conversions.getValue()).extracting(CurrencyConversionEntity::getTransactionId)
+                .containsExactly("tx-1", "tx-3");
+        verify(eventProducer).sendConversionEvents(KafkaConstants.CONVERSION_PROJECTION_DLT_TOPIC, List.of(malformed));
+        verify(eventProducer, never()).sendConversionEvents(eq(KafkaConstants.CONVERSION_PROJECTION_RETRY_TOPIC), anyList());
+        verify(catchUpPolicy).record(eq(ProjectionCatchUpPolicy.Mode.NORMAL), eq(2), anyLong());
+    }
+
+    @Test
+    @DisplayName("Should fail the batch when rejected events cannot be diverted")
+    void shouldFailBatchWhenDivertFails() {
+        when(catchUpPolicy.select(kafkaConsumer, 1)).thenReturn(ProjectionCatchUpPolicy.Mode.NORMAL);
+        doThrow(new DataIntegrityViolationException("value too long")).when(projectionWriter).insertIgnoringDuplicates(anyList());
+        when(eventProducer.sendConversionEvents(eq(KafkaConstants.CONVERSION_PROJECTION_RETRY_TOPIC), anyList()))
+                .thenReturn(List.of(CompletableFuture.failedFuture(new IllegalStateException("broker unavailable"))));
+
+        assertThatThrownBy(() -> consumer.consumeConversionEvents(List.of(event("tx-1")), kafkaConsumer))
+                .isInstanceOf(RuntimeException.class)
+                .hasRootCauseMessage("broker unavailable");
+    }
+
+    @Test
+    @DisplayName("Should split a batch into key lanes that keep per-key order")
+    void shouldWriteKeyLanesInParallel() {
+        ConversionEventConsumer laned = new ConversionEventConsumer(projectionWriter, catchUpPolicy, eventProducer, "currency-pair", 4, Duration.ofSeconds(1));
+        try {
+            when(catchUpPolicy.select(kafkaConsumer, 4)).thenReturn(ProjectionCatchUpPolicy.Mode.NORMAL);
+            ConversionEvent gbp1 = event("tx-2");
+            gbp1.setTargetCurrency(Currency.GBP);
+            ConversionEvent gbp2 = event("tx-4");
+            gbp2.setTargetCurrency(Currency.GBP);
+
+            laned.consumeConversionEvents(List.of(event("tx-1"), gbp1, event("tx-3"), gbp2), kafkaConsumer);
+
+            @SuppressWarnings("unchecked")
+            ArgumentCaptor<List<CurrencyConversionEntity>> lanes = ArgumentCaptor.forClass(List.class);
+            verify(projectionWriter, times(2)).insertIgnoringDuplicates(lanes.capture());
+            assertThat(lanes.getAllValues())
+                    .allSatisfy(lane -> assertThat(lane.stream().map(CurrencyConversionEntity::getTargetCurrency)
+                            .collect(Collectors.toSet())).hasSize(1))
+                    .extracting(lane -> lane.stream().map(CurrencyConversionEntity::getTransactionId).toList())
+                    .containsExactlyInAnyOrder(List.of("tx-1", "tx-3"), List.of("tx-2", "tx-4"));
+            verify(catchUpPolicy).record(eq(ProjectionCatchUpPolicy.Mode.NORMAL), eq(4), anyLong());
+        } finally {
+            laned.destroy();
+        }
+    }
+
+    private ConversionEvent event(String transactionId) {
+        return ConversionEvent.builder()
+                .transactionId(transactionId)
+                .sourceCurrency(Currency.USD)
+                .targetCurrency(Currency.EUR)
+                .sourceAmount(new BigDecimal("100.00"))
+                .targetAmount(new BigDecimal("85.00"))
+                .exchangeRate(new BigDecimal("0.85"))
+                .timestamp(LocalDateTime.now())
+                .eventType(ConversionEvent.EventType.CONVERSION_CREATED)
+                .build();
+    }
+}
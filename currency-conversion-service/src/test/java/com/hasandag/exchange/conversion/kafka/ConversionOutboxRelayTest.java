@@ -0,0 +1,170 @@
+package com.hasandag.exchange.conversion.kafka;
+
+import com.hasandag.exchange.common.dto.cqrs.ConversionEvent;
+import com.hasandag.exchange.conversion.kafka.producer.ConversionEventProducer;
+import com.hasandag.exchange.conversion.kafka.producer.ConversionOutboxRelay;
+import com.hasandag.exchange.conversion.model.CurrencyConversionDocument;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ConversionOutboxRelay Tests")
+class ConversionOutboxRelayTest {
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private ConversionEventProducer eventProducer;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private ConversionOutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        relay = new ConversionOutboxRelay(mongoTemplate, eventProducer, meterRegistry, 10, 5, Duration.ofSeconds(30),
+                Duration.ofSeconds(1), 3, Duration.ofSeconds(1), Duration.ofSeconds(3));
+    }
+
+    @Test
+    @DisplayName("Should publish claimed events and mark only delivered documents as published")
+    void shouldPublishClaimedEvents() {
+        List<CurrencyConversionDocument> pending = List.of(document("doc-1", "event-1"), document("doc-2", "event-2"));
+        when(mongoTemplate.find(any(Query.class), eq(CurrencyConversionDocument.class))).thenReturn(pending, pending);
+        when(eventProducer.sendConversionEvents(anyList())).thenReturn(List.of(
+                CompletableFuture.completedFuture(null),
+                CompletableFuture.failedFuture(new IllegalStateException("broker unavailable"))));
+
+        int claimed = relay.relayBatch();
+
+        assertThat(claimed).isEqualTo(2);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<ConversionEvent>> events = ArgumentCaptor.forClass(List.class);
+        verify(eventProducer).sendConversionEvents(events.capture());
+        assertThat(events.getValue()).extracting(ConversionEvent::getEventId).containsExactly("event-1", "event-2");
+
+        ArgumentCaptor<Query> queries = ArgumentCaptor.forClass(Query.class);
+        ArgumentCaptor<Update> updates = ArgumentCaptor.forClass(Update.class);
+        verify(mongoTemplate, times(3)).updateMulti(queries.capture(), updates.capture(), eq(CurrencyConversionDocument.class));
+
+        assertThat(queries.getAllValues().get(1).getQueryObject().toJson()).contains("doc-1").doesNotContain("doc-2");
+        assertThat(updates.getAllValues().get(1).getUpdateObject().get("$unset", Document.class)).containsKey("event_status");
+        assertThat(updates.getAllValues().get(1).getUpdateObject().get("$set", Document.class)).containsKey("event_published_at");
+        assertThat(queries.getAllValues().get(2).getQueryObject().toJson()).contains("doc-2").doesNotContain("doc-1");
+        assertThat(updates.getAllValues().get(2).getUpdateObject().get("$set", Document.class))
+                .containsEntry("event_attempts", 1)
+                .containsKey("event_claimed_until");
+    }
+
+    @Test
+    @DisplayName("Should push retries out exponentially, capped at the max backoff")
+    void shouldBackOffFailedEvents() {
+        CurrencyConversionDocument second = document("doc-1", "event-1", 1);
+        CurrencyConversionDocument first = document("doc-2", "event-2");
+        List<CurrencyConversionDocument> pending = List.of(second, first);
+        when(mongoTemplate.find(any(Query.class), eq(CurrencyConversionDocument.class))).thenReturn(pending, pending);
+        when(eventProducer.sendConversionEvents(anyList())).thenReturn(List.of(
+                CompletableFuture.failedFuture(new IllegalStateException("broker unavailable")),
+                CompletableFuture.failedFuture(new IllegalStateException("broker unavailable"))));
+        LocalDateTime before = LocalDateTime.now();
+
+        relay.relayBatch();
+
+        ArgumentCaptor<Query> queries = ArgumentCaptor.forClass(Query.class);
+        ArgumentCaptor<Update> updates = ArgumentCaptor.forClass(Update.class);
+        verify(mongoTemplate, times(3)).updateMulti(queries.capture(), updates.capture(), eq(CurrencyConversionDocument.class));
+
+        assertThat(queries.getAllValues().get(1).getQueryObject().toJson()).contains("doc-2").doesNotContain("doc-1");
+        Document firstRetry = updates.getAllValues().get(1).getUpdateObject().get("$set", Document.class);
+        assertThat(firstRetry).containsEntry("event_attempts", 1).doesNotContainKey("event_status");
+        assertThat((LocalDateTime) firstRetry.get("event_claimed_until"))
+                .isBetween(before.plusSeconds(1), LocalDateTime.now().plusSeconds(1));
+
+        assertThat(queries.getAllValues().get(2).getQueryObject().toJson()).contains("doc-1").doesNotContain("doc-2");
+        Document secondRetry = updates.getAllValues().get(2).getUpdateObject().get("$set", Document.class);
+        assertThat(secondRetry).containsEntry("event_attempts", 2);
+        assertThat((LocalDateTime) secondRetry.get("event_claimed_until"))
+                .isBetween(before.plusSeconds(2), LocalDateTime.now().plusSeconds(2));
+        assertThat(meterRegistry.get("conversion.outbox.events").tag("outcome", "failed").counter().count()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should park an event as FAILED once it runs out of attempts")
+    void shouldParkExhaustedEvents() {
+        CurrencyConversionDocument exhausted = document("doc-1", "event-1", 2);
+        List<CurrencyConversionDocument> pending = List.of(exhausted);
+        when(mongoTemplate.find(any(Query.class), eq(CurrencyConversionDocument.class))).thenReturn(pending, pending);
+        when(eventProducer.sendConversionEvents(anyList())).thenReturn(List.of(
+                CompletableFuture.failedFuture(new IllegalStateException("broker unavailable"))));
+
+        relay.relayBatch();
+
+        ArgumentCaptor<Update> updates = ArgumentCaptor.forClass(Update.class);
+        verify(mongoTemplate, times(2)).updateMulti(any(Query.class), updates.capture(), eq(CurrencyConversionDocument.class));
+        Document parkedUpdate = updates.getAllValues().get(1).getUpdateObject();
+        assertThat(parkedUpdate.get("$set", Document.class))
+                .containsEntry("event_status", CurrencyConversionDocument.EVENT_FAILED)
+                .containsEntry("event_attempts", 3);
+        assertThat(parkedUpdate.get("$unset", Document.class)).containsKeys("event_claimed_by", "event_claimed_until");
+        assertThat(meterRegistry.get("conversion.outbox.events").tag("outcome", "failed").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should do nothing when the outbox is empty")
+    void shouldSkipWhenNothingPending() {
+        when(mongoTemplate.find(any(Query.class), eq(CurrencyConversionDocument.class))).thenReturn(List.of());
+
+        relay.relayPendingEvents();
+
+        verify(eventProducer, never()).sendConversionEvents(anyList());
+        verify(mongoTemplate, never()).updateMulti(any(Query.class), any(Update.class), eq(CurrencyConversionDocument.class));
+    }
+
+    private CurrencyConversionDocument document(String id, String eventId) {
+        return document(id, eventId, null);
+    }
+
+    private CurrencyConversionDocument document(String id, String eventId, Integer attempts) {
+        return CurrencyConversionDocument.builder()
+                .id(id)
+                .transactionId("tx-" + id)
+                .sourceCurrency("USD")
+                .targetCurrency("EUR")
+                .sourceAmount(new BigDecimal("100.00"))
+                .targetAmount(new BigDecimal("85.00"))
+                .exchangeRate(new BigDecimal("0.85"))
+                .timestamp(LocalDateTime.now())
+                .status("COMPLETED")
+                .eventId(eventId)
+                .eventStatus(CurrencyConversionDocument.EVENT_PENDING)
+                .eventAttempts(attempts)
+                .build();
+    }
+}
@@ -0,0 +1,124 @@
+package com.hasandag.exchange.conversion.kafka;
+
+import com.hasandag.exchange.common.constants.KafkaConstants;
+import com.hasandag.exchange.common.dto.cqrs.ConversionEvent;
+import com.hasandag.exchange.common.enums.Currency;
+import com.hasandag.exchange.conversion.kafka.consumer.DeadLetterReplayer;
+import com.hasandag.exchange.conversion.kafka.producer.ConversionEventProducer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.MockConsumer;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.consumer.OffsetResetStrategy;
+import org.apache.kafka.common.Node;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.ConsumerFactory;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DeadLetterReplayer Tests")
+class DeadLetterReplayerTest {
+
+    private static final TopicPartition DLT = new TopicPartition(KafkaConstants.CONVERSION_PROJECTION_DLT_TOPIC, 0);
+
+    @Mock
+    private ConsumerFactory<String, Object> consumerFactory;
+
+    @Mock
+    private ConversionEventProducer eventProducer;
+
+    private final Map<TopicPartition, OffsetAndMetadata> committed = new HashMap<>();
+
+    private MockConsumer<String, Object> kafkaConsumer;
+
+    private DeadLetterReplayer replayer;
+
+    @BeforeEach
+    void setUp() {
+        kafkaConsumer = new MockConsumer<>(OffsetResetStrategy.EARLIEST) {
+            @Override
+            public synchronized void commitSync(Map<TopicPartition, OffsetAndMetadata> offsets) {
+                committed.putAll(offsets);
+                super.commitSync(offsets);
+            }
+        };
+        kafkaConsumer.updatePartitions(DLT.topic(), List.of(new PartitionInfo(DLT.topic(), 0, Node.noNode(), null, null)));
+        kafkaConsumer.updateBeginningOffsets(Map.of(DLT, 0L));
+        when(consumerFactory.createConsumer(eq(KafkaConstants.PROJECTION_DLT_REPLAY_GROUP), isNull(), anyString(), any(Properties.class)))
+                .thenReturn(kafkaConsumer);
+        replayer = new DeadLetterReplayer(consumerFactory, eventProducer, 500, Duration.ofMillis(10), Duration.ofSeconds(1));
+    }
+
+    @Test
+    @DisplayName("Should republish dead letters up to the limit and commit only what was replayed")
+    void shouldReplayUpToLimit() {
+        kafkaConsumer.schedulePollTask(() -> {
+            for (int i = 0; i < 3; i++) {
+                kafkaConsumer.addRecord(new ConsumerRecord<>(DLT.topic(), 0, i, "tx-" + i, event("tx-" + i)));
+            }
+        });
+        when(eventProducer.sendConversionEvents(anyList())).thenReturn(List.of(
+                CompletableFuture.completedFuture(null), CompletableFuture.completedFuture(null)));
+
+        int replayed = replayer.replay(2);
+
+        assertThat(replayed).isEqualTo(2);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<ConversionEvent>> events = ArgumentCaptor.forClass(List.class);
+        verify(eventProducer).sendConversionEvents(events.capture());
+        assertThat(events.getValue()).extracting(ConversionEvent::getTransactionId).containsExactly("tx-0", "tx-1");
+        assertThat(committed).containsEntry(DLT, new OffsetAndMetadata(2));
+    }
+
+    @Test
+    @DisplayName("Should not commit offsets when republishing fails")
+    void shouldNotCommitWhenSendFails() {
+        kafkaConsumer.schedulePollTask(() ->
+                kafkaConsumer.addRecord(new ConsumerRecord<>(DLT.topic(), 0, 0, "tx-0", event("tx-0"))));
+        when(eventProducer.sendConversionEvents(anyList())).thenReturn(List.of(
+                CompletableFuture.failedFuture(new IllegalStateException("broker unavailable"))));
+
+        assertThatThrownBy(() -> replayer.replay(10))
+                .isInstanceOf(IllegalStateException.class)
+                .hasRootCauseMessage("broker unavailable");
+        assertThat(committed).isEmpty();
+    }
+
+    private ConversionEvent event(String transactionId) {
+        return ConversionEvent.builder()
+                .transactionId(transactionId)
+                .sourceCurrency(Currency.USD)
+                .targetCurrency(Currency.EUR)
+                .sourceAmount(new BigDecimal("100.00"))
+                .targetAmount(new BigDecimal("85.00"))
+                .exchangeRate(new BigDecimal("0.85"))
+                .timestamp(LocalDateTime.now())
+                .eventType(ConversionEvent.EventType.CONVERSION_CREATED)
+                .build();
+    }
+}
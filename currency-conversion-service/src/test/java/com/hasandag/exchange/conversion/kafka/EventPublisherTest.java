@@ -0,0 +1,89 @@
+package com.hasandag.exchange.conversion.kafka;
+
+import com.hasandag.exchange.conversion.kafka.producer.EventPublisher;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("EventPublisher Tests")
+class EventPublisherTest {
+
+    @Mock
+    private KafkaTemplate<String, Object> kafkaTemplate;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("Should record delivery outcome and latency per topic")
+    void shouldTrackDeliveryPerTopic() {
+        EventPublisher publisher = new EventPublisher(kafkaTemplate, meterRegistry, 10, Duration.ofMillis(10));
+        CompletableFuture<SendResult<String, Object>> acked = new CompletableFuture<>();
+        when(kafkaTemplate.send(eq("topic-a"), anyString(), any())).thenReturn(acked);
+        when(kafkaTemplate.send(eq("topic-b"), anyString(), any()))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("broker unavailable")));
+
+        CompletableFuture<SendResult<String, Object>> first = publisher.publish("topic-a", "key", "value");
+        CompletableFuture<SendResult<String, Object>> second = publisher.publish("topic-b", "key", "value");
+
+        assertThat(meterRegistry.get("kafka.publish.in_flight").gauge().value()).isEqualTo(1);
+        acked.complete(null);
+
+        assertThat(first).isCompleted();
+        assertThat(second).isCompletedExceptionally();
+        assertThat(timer("topic-a", "success").count()).isEqualTo(1);
+        assertThat(timer("topic-b", "failure").count()).isEqualTo(1);
+        assertThat(meterRegistry.get("kafka.publish.in_flight").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should reject publishes once the in-flight limit stays exhausted and recover after acknowledgements")
+    void shouldApplyBackpressure() {
+        EventPublisher publisher = new EventPublisher(kafkaTemplate, meterRegistry, 1, Duration.ofMillis(10));
+        CompletableFuture<SendResult<String, Object>> pending = new CompletableFuture<>();
+        when(kafkaTemplate.send(eq("topic"), anyString(), any())).thenReturn(pending, CompletableFuture.completedFuture(null));
+
+        CompletableFuture<SendResult<String, Object>> first = publisher.publish("topic", "key-1", "value");
+        CompletableFuture<SendResult<String, Object>> rejected = publisher.publish("topic", "key-2", "value");
+
+        assertThat(first).isNotDone();
+        assertThat(rejected).isCompletedExceptionally();
+        assertThat(meterRegistry.get("kafka.publish.rejected").tag("topic", "topic").counter().count()).isEqualTo(1);
+
+        pending.complete(null);
+
+        assertThat(publisher.publish("topic", "key-3", "value")).isCompleted();
+    }
+
+    @Test
+    @DisplayName("Should release the slot when the producer refuses the record synchronously")
+    void shouldReleaseSlotOnSynchronousFailure() {
+        EventPublisher publisher = new EventPublisher(kafkaTemplate, meterRegistry, 1, Duration.ofMillis(10));
+        when(kafkaTemplate.send(eq("topic"), anyString(), any()))
+                .thenThrow(new IllegalStateException("buffer exhausted"))
+                .thenReturn(CompletableFuture.completedFuture(null));
+
+        assertThat(publisher.publish("topic", "key-1", "value")).isCompletedExceptionally();
+        assertThat(publisher.publish("topic", "key-2", "value")).isCompleted();
+        assertThat(timer("topic", "failure").count()).isEqualTo(1);
+    }
+
+    private Timer timer(String topic, String outcome) {
+        return meterRegistry.get("kafka.publish").tag("topic", topic).tag("outcome", outcome).timer();
+    }
+}
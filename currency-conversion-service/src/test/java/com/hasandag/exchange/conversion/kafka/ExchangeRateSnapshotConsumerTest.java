@@ -0,0 +1,45 @@
+package com.hasandag.exchange.conversion.kafka;
+
+import com.hasandag.exchange.common.dto.ExchangeRateResponse;
+import com.hasandag.exchange.common.enums.Currency;
+import com.hasandag.exchange.conversion.kafka.consumer.ExchangeRateSnapshotConsumer;
+import com.hasandag.exchange.conversion.service.LocalExchangeRateStore;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ExchangeRateSnapshotConsumer Tests")
+class ExchangeRateSnapshotConsumerTest {
+
+    private final LocalExchangeRateStore rateStore = new LocalExchangeRateStore(Duration.ofSeconds(30));
+    private final ExchangeRateSnapshotConsumer consumer = new ExchangeRateSnapshotConsumer(rateStore);
+
+    @Test
+    @DisplayName("Should rebuild the table from a replay without serving old snapshots as fresh")
+    void shouldReplayCompactedTopic() {
+        LocalDateTime now = LocalDateTime.now();
+        consumer.consumeRateSnapshot(rate(Currency.EUR, "0.84", now.minusHours(2)));
+        consumer.consumeRateSnapshot(rate(Currency.GBP, "0.74", now.minusHours(2)));
+        consumer.consumeRateSnapshot(rate(Currency.GBP, "0.75", now.minusSeconds(3)));
+        consumer.consumeRateSnapshot(null);
+
+        assertThat(rateStore.size()).isEqualTo(2);
+        assertThat(rateStore.findFresh(Currency.USD, Currency.EUR)).isEmpty();
+        assertThat(rateStore.findFresh(Currency.USD, Currency.GBP))
+                .hasValueSatisfying(rate -> assertThat(rate.getRate()).isEqualByComparingTo("0.75"));
+    }
+
+    private ExchangeRateResponse rate(Currency target, String rate, LocalDateTime lastUpdated) {
+        return ExchangeRateResponse.builder()
+                .sourceCurrency(Currency.USD)
+                .targetCurrency(target)
+                .rate(new BigDecimal(rate))
+                .lastUpdated(lastUpdated)
+                .build();
+    }
+}
@@ -0,0 +1,90 @@
+package com.hasandag.exchange.conversion.kafka;
+
+import com.hasandag.exchange.conversion.kafka.consumer.ProjectionCatchUpPolicy;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ProjectionCatchUpPolicy Tests")
+class ProjectionCatchUpPolicyTest {
+
+    private static final TopicPartition P0 = new TopicPartition("conversion-event-topic", 0);
+    private static final TopicPartition P1 = new TopicPartition("conversion-event-topic", 1);
+
+    @Mock
+    private Consumer<String, Object> consumer;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private ProjectionCatchUpPolicy policy;
+
+    @BeforeEach
+    void setUp() {
+        policy = new ProjectionCatchUpPolicy(meterRegistry, true, 1000, 100, 50);
+    }
+
+    @Test
+    @DisplayName("Should enter catch-up above the enter threshold and leave only below the exit threshold")
+    void shouldSwitchModesWithHysteresis() {
+        lag(400, 700);
+        assertThat(policy.select(consumer, 500)).isEqualTo(ProjectionCatchUpPolicy.Mode.CATCH_UP);
+        assertThat(meterRegistry.get("conversion.projection.lag").gauge().value()).isEqualTo(1100);
+        assertThat(meterRegistry.get("conversion.projection.catch_up").gauge().value()).isEqualTo(2);
+
+        lag(200, 300);
+        assertThat(policy.select(consumer, 500)).isEqualTo(ProjectionCatchUpPolicy.Mode.CATCH_UP);
+        assertThat(policy.select(consumer, 10)).as("small batches stay on batched inserts")
+                .isEqualTo(ProjectionCatchUpPolicy.Mode.NORMAL);
+
+        lag(40, 0);
+        assertThat(policy.select(consumer, 500)).isEqualTo(ProjectionCatchUpPolicy.Mode.NORMAL);
+        assertThat(meterRegistry.get("conversion.projection.catch_up").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should drop the state of revoked and lost partitions from the gauges")
+    void shouldForgetRevokedPartitions() {
+        lag(400, 700);
+        policy.select(consumer, 500);
+
+        policy.onPartitionsRevokedAfterCommit(consumer, List.of(P1));
+        assertThat(meterRegistry.get("conversion.projection.lag").gauge().value()).isEqualTo(400);
+        assertThat(meterRegistry.get("conversion.projection.catch_up").gauge().value()).isEqualTo(1);
+
+        policy.onPartitionsLost(consumer, List.of(P0));
+        assertThat(meterRegistry.get("conversion.projection.lag").gauge().value()).isZero();
+        assertThat(meterRegistry.get("conversion.projection.catch_up").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should count projected rows per mode")
+    void shouldRecordThroughputPerMode() {
+        policy.record(ProjectionCatchUpPolicy.Mode.CATCH_UP, 5000, TimeUnit.MILLISECONDS.toNanos(40));
+        policy.record(ProjectionCatchUpPolicy.Mode.NORMAL, 20, TimeUnit.MILLISECONDS.toNanos(2));
+
+        assertThat(meterRegistry.get("conversion.projection.rows").tag("mode", "catch_up").counter().count()).isEqualTo(5000);
+        assertThat(meterRegistry.get("conversion.projection.rows").tag("mode", "normal").counter().count()).isEqualTo(20);
+        assertThat(meterRegistry.get("conversion.projection.write").tag("mode", "catch_up").timer().count()).isEqualTo(1);
+    }
+
+    private void lag(long partition0, long partition1) {
+        when(consumer.assignment()).thenReturn(Set.of(P0, P1));
+        when(consumer.currentLag(P0)).thenReturn(OptionalLong.of(partition0));
+        when(consumer.currentLag(P1)).thenReturn(OptionalLong.of(partition1));
+    }
+}
@@ -0,0 +1,156 @@
+package com.hasandag.exchange.conversion.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.hasandag.exchange.common.dto.ExchangeRateResponse;
+import com.hasandag.exchange.common.enums.Currency;
+import com.hasandag.exchange.common.exception.RateServiceException;
+import com.hasandag.exchange.conversion.model.CurrencyConversionDocument;
+import com.hasandag.exchange.conversion.service.impl.BulkConversionServiceImpl;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BulkConversionService Tests")
+class BulkConversionServiceTest {
+
+    @Mock
+    private ExchangeRateProvider exchangeRateProvider;
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private BulkOperations bulkOperations;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    private BulkConversionService bulkConversionService;
+
+    @BeforeEach
+    void setUp() {
+        bulkConversionService = new BulkConversionServiceImpl(exchangeRateProvider, mongoTemplate,
+                objectMapper, Validation.buildDefaultValidatorFactory().getValidator(), 5, 2);
+
+        lenient().when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, CurrencyConversionDocument.class))
+                .thenReturn(bulkOperations);
+        lenient().when(bulkOperations.insert(anyList())).thenReturn(bulkOperations);
+    }
+
+    @Test
+    @DisplayName("Should convert a JSON array resolving each distinct rate once")
+    void shouldConvertJsonArray() throws Exception {
+        when(exchangeRateProvider.getExchangeRate(Currency.USD, Currency.EUR)).thenReturn(rate(Currency.USD, Currency.EUR, "0.85"));
+        when(exchangeRateProvider.getExchangeRate(Currency.USD, Currency.GBP)).thenReturn(rate(Currency.USD, Currency.GBP, "0.75"));
+
+        List<JsonNode> results = convert("""
+                [
+                  {"sourceAmount": 100, "sourceCurrency": "USD", "targetCurrency": "EUR"},
+                  {"sourceAmount": 10.50, "sourceCurrency": "USD", "targetCurrency": "EUR"},
+                  {"sourceAmount": 20, "sourceCurrency": "USD", "targetCurrency": "GBP"}
+                ]
+                """);
+
+        assertThat(results).hasSize(3);
+        assertThat(results).extracting(node -> node.get("index").asInt()).containsExactly(0, 1, 2);
+        assertThat(results).allSatisfy(node -> assertThat(node.get("status").asText()).isEqualTo("COMPLETED"));
+        assertThat(results.get(0).at("/conversion/targetAmount").decimalValue()).isEqualByComparingTo("85.00");
+        assertThat(results.get(1).at("/conversion/targetAmount").decimalValue()).isEqualByComparingTo("8.93");
+        assertThat(results.get(2).at("/conversion/targetAmount").decimalValue()).isEqualByComparingTo("15.00");
+
+        verify(exchangeRateProvider, times(1)).getExchangeRate(Currency.USD, Currency.EUR);
+        verify(exchangeRateProvider, times(1)).getExchangeRate(Currency.USD, Currency.GBP);
+        verify(bulkOperations, times(2)).execute();
+    }
+
+    @Test
+    @DisplayName("Should report per-item errors for NDJSON input and keep going")
+    void shouldReportPerItemErrorsForNdjson() throws Exception {
+        when(exchangeRateProvider.getExchangeRate(Currency.USD, Currency.EUR)).thenReturn(rate(Currency.USD, Currency.EUR, "0.85"));
+        when(exchangeRateProvider.getExchangeRate(Currency.USD, Currency.JPY)).thenThrow(new RateServiceException("Rate unavailable"));
+
+        List<JsonNode> results = convert("""
+                {"sourceAmount": 100, "sourceCurrency": "USD", "targetCurrency": "EUR"}
+                {"sourceAmount": 100, "sourceCurrency": "USD", "targetCurrency": "XXX"}
+                {"sourceAmount": 0, "sourceCurrency": "USD", "targetCurrency": "EUR"}
+                {"sourceAmount": 5, "sourceCurrency": "USD", "targetCurrency": "JPY"}
+                """);
+
+        assertThat(results).extracting(node -> node.get("index").asInt()).containsExactly(1, 2, 0, 3);
+        assertThat(results).extracting(node -> node.path("errorCode").asText(node.get("status").asText()))
+                .containsExactly("INVALID_REQUEST", "VALIDATION_ERROR", "COMPLETED", "RATE_SERVICE_ERROR");
+    }
+
+    @Test
+    @DisplayName("Should stop at the item cap")
+    void shouldStopAtItemCap() throws Exception {
+        when(exchangeRateProvider.getExchangeRate(Currency.USD, Currency.EUR)).thenReturn(rate(Currency.USD, Currency.EUR, "0.85"));
+
+        StringBuilder body = new StringBuilder();
+        for (int i = 0; i < 7; i++) {
+            body.append("{\"sourceAmount\": 1, \"sourceCurrency\": \"USD\", \"targetCurrency\": \"EUR\"}\n");
+        }
+
+        List<JsonNode> results = convert(body.toString());
+
+        assertThat(results).hasSize(6);
+        assertThat(results.get(5).get("errorCode").asText()).isEqualTo("BULK_LIMIT_EXCEEDED");
+        assertThat(results.subList(0, 5)).allSatisfy(node -> assertThat(node.get("status").asText()).isEqualTo("COMPLETED"));
+    }
+
+    @Test
+    @DisplayName("Should not persist when every item fails")
+    void shouldSkipPersistenceWhenNothingConverted() throws Exception {
+        List<JsonNode> results = convert("[{\"sourceAmount\": -1, \"sourceCurrency\": \"USD\", \"targetCurrency\": \"EUR\"}]");
+
+        assertThat(results).hasSize(1);
+        assertThat(results.get(0).get("errorCode").asText()).isEqualTo("VALIDATION_ERROR");
+        verify(mongoTemplate, never()).bulkOps(any(BulkOperations.BulkMode.class), eq(CurrencyConversionDocument.class));
+    }
+
+    private List<JsonNode> convert(String body) throws Exception {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        bulkConversionService.convert(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), output);
+
+        List<JsonNode> results = new ArrayList<>();
+        for (String line : output.toString(StandardCharsets.UTF_8).split("\n")) {
+            results.add(objectMapper.readTree(line));
+        }
+        return results;
+    }
+
+    private ExchangeRateResponse rate(Currency source, Currency target, String rate) {
+        return ExchangeRateResponse.builder()
+                .sourceCurrency(source)
+                .targetCurrency(target)
+                .rate(new BigDecimal(rate))
+                .lastUpdated(LocalDateTime.now())
+                .build();
+    }
+}
@@ -0,0 +1,142 @@
+package com.hasandag.exchange.conversion.service;
+
+import com.hasandag.exchange.common.dto.ExchangeRateResponse;
+import com.hasandag.exchange.common.enums.Currency;
+import com.hasandag.exchange.common.exception.RateServiceException;
+import com.hasandag.exchange.conversion.service.impl.CachingExchangeRateProvider;
+import com.hasandag.exchange.conversion.service.impl.FeignExchangeRateProvider;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CachingExchangeRateProvider Tests")
+class CachingExchangeRateProviderTest {
+
+    @Mock
+    private FeignExchangeRateProvider delegate;
+
+    private SimpleMeterRegistry meterRegistry;
+    private CachingExchangeRateProvider provider;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        provider = new CachingExchangeRateProvider(delegate, meterRegistry, 100, Duration.ofMinutes(1), Duration.ofSeconds(30));
+    }
+
+    @Test
+    @DisplayName("Should serve repeated lookups from the cache")
+    void shouldServeRepeatedLookupsFromCache() {
+        when(delegate.getExchangeRate(Currency.USD, Currency.EUR)).thenReturn(rate(Currency.USD, Currency.EUR));
+
+        provider.getExchangeRate(Currency.USD, Currency.EUR);
+        ExchangeRateResponse result = provider.getExchangeRate(Currency.USD, Currency.EUR);
+
+        assertThat(result.getRate()).isEqualByComparingTo("0.85");
+        verify(delegate, times(1)).getExchangeRate(Currency.USD, Currency.EUR);
+        assertThat(meterRegistry.get("cache.gets").tag("result", "hit").functionCounter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("cache.gets").tag("result", "miss").functionCounter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should issue a single delegate call for concurrent lookups of the same pair")
+    void shouldIssueSingleCallForConcurrentLookups() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        when(delegate.getExchangeRate(Currency.USD, Currency.GBP)).thenAnswer(invocation -> {
+            release.await();
+            return rate(Currency.USD, Currency.GBP);
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<ExchangeRateResponse>> futures = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                futures.add(executor.submit(() -> provider.getExchangeRate(Currency.USD, Currency.GBP)));
+            }
+            Thread.sleep(100);
+            release.countDown();
+
+            for (Future<ExchangeRateResponse> future : futures) {
+                assertThat(future.get().getTargetCurrency()).isEqualTo(Currency.GBP);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        verify(delegate, times(1)).getExchangeRate(Currency.USD, Currency.GBP);
+    }
+
+    @Test
+    @DisplayName("Should propagate delegate failures and not cache them")
+    void shouldPropagateFailuresWithoutCaching() {
+        when(delegate.getExchangeRate(Currency.USD, Currency.JPY))
+                .thenThrow(new RateServiceException("unavailable"))
+                .thenReturn(rate(Currency.USD, Currency.JPY));
+
+        assertThatThrownBy(() -> provider.getExchangeRate(Currency.USD, Currency.JPY))
+                .isInstanceOf(RateServiceException.class)
+                .hasMessage("unavailable");
+
+        assertThat(provider.getExchangeRate(Currency.USD, Currency.JPY).getTargetCurrency()).isEqualTo(Currency.JPY);
+        verify(delegate, times(2)).getExchangeRate(Currency.USD, Currency.JPY);
+    }
+
+    @Test
+    @DisplayName("Should expose only loaded rates to non-blocking lookups")
+    void shouldPeekLoadedRates() {
+        assertThat(provider.findCachedExchangeRate(Currency.USD, Currency.EUR)).isEmpty();
+
+        provider.cacheExchangeRate(rate(Currency.USD, Currency.EUR));
+
+        assertThat(provider.findCachedExchangeRate(Currency.USD, Currency.EUR))
+                .hasValueSatisfying(rate -> assertThat(rate.getRate()).isEqualByComparingTo("0.85"));
+        verifyNoInteractions(delegate);
+    }
+
+    @Test
+    @DisplayName("Should serve a repeated snapshot from the cache")
+    void shouldServeRepeatedSnapshotFromCache() {
+        List<Currency> targets = List.of(Currency.EUR, Currency.GBP);
+        LocalDateTime fetchedAt = LocalDateTime.now();
+        when(delegate.getExchangeRateSnapshot(Currency.USD, targets)).thenReturn(List.of(
+                rate(Currency.USD, Currency.EUR, fetchedAt), rate(Currency.USD, Currency.GBP, fetchedAt)));
+
+        provider.getExchangeRateSnapshot(Currency.USD, targets);
+        List<ExchangeRateResponse> snapshot = provider.getExchangeRateSnapshot(Currency.USD, targets);
+
+        assertThat(snapshot).extracting(ExchangeRateResponse::getTargetCurrency).containsExactly(Currency.EUR, Currency.GBP);
+        verify(delegate, times(1)).getExchangeRateSnapshot(Currency.USD, targets);
+    }
+
+    private ExchangeRateResponse rate(Currency source, Currency target) {
+        return rate(source, target, LocalDateTime.now());
+    }
+
+    private ExchangeRateResponse rate(Currency source, Currency target, LocalDateTime lastUpdated) {
+        return ExchangeRateResponse.builder()
+                .sourceCurrency(source)
+                .targetCurrency(target)
+                .rate(new BigDecimal("0.85"))
+                .lastUpdated(lastUpdated)
+                .build();
+    }
+}
@@ -0,0 +1,203 @@
+package com.hasandag.exchange.conversion.service;
+
+import com.hasandag.exchange.common.dto.ConversionRequest;
+import com.hasandag.exchange.common.dto.ConversionResponse;
+import com.hasandag.exchange.common.dto.ExchangeRateResponse;
+import com.hasandag.exchange.common.enums.Currency;
+import com.hasandag.exchange.common.exception.BusinessException;
+import com.hasandag.exchange.common.exception.RateServiceException;
+import com.hasandag.exchange.conversion.model.CurrencyConversionDocument;
+import com.hasandag.exchange.conversion.service.impl.ConversionCommandServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ConversionCommandService Tests")
+class ConversionCommandServiceTest {
+
+    @Mock
+    private ExchangeRateProvider exchangeRateProvider;
+
+    @Mock
+    private QuoteService quoteService;
+
+    @Mock
+    private ConversionDocumentWriter documentWriter;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private ConversionCommandService commandService;
+
+    @BeforeEach
+    void setUp() {
+        commandService = new ConversionCommandServiceImpl(exchangeRateProvider, quoteService, documentWriter, meterRegistry, Duration.ofMillis(500));
+    }
+
+    @Test
+    @DisplayName("Should convert, persist a pending outbox event and time every stage")
+    void shouldConvertAndRecordStages() {
+        when(exchangeRateProvider.getExchangeRate(Currency.USD, Currency.EUR)).thenReturn(rate("0.85"));
+        when(documentWriter.write(any(CurrencyConversionDocument.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        ConversionResponse response = commandService.processConversionWithEvents(request());
+
+        assertThat(response.getTargetAmount()).isEqualByComparingTo("85.00");
+        ArgumentCaptor<CurrencyConversionDocument> document = ArgumentCaptor.forClass(CurrencyConversionDocument.class);
+        verify(documentWriter).write(document.capture());
+        assertThat(document.getValue().getTransactionId()).isEqualTo(response.getTransactionId());
+        assertThat(document.getValue().getEventId()).isNotNull().isNotEqualTo(response.getTransactionId());
+        assertThat(document.getValue().getEventStatus()).isEqualTo(CurrencyConversionDocument.EVENT_PENDING);
+
+        for (String stage : new String[]{"rate", "prepare", "calculate", "persist", "total"}) {
+            assertThat(meterRegistry.get("conversion.command.stage").tag("stage", stage).timer().count())
+                    .as(stage).isEqualTo(1);
+        }
+    }
+
+    @Test
+    @DisplayName("Should execute a quoted conversion at the locked rate without a rate lookup")
+    void shouldUseQuotedRate() {
+        ConversionRequest request = request();
+        request.setQuoteId("quote-1");
+        when(quoteService.redeem(request)).thenReturn(rate("0.90"));
+        when(documentWriter.write(any(CurrencyConversionDocument.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        ConversionResponse response = commandService.processConversionWithEvents(request);
+
+        assertThat(response.getExchangeRate()).isEqualByComparingTo("0.90");
+        assertThat(response.getTargetAmount()).isEqualByComparingTo("90.00");
+        verify(exchangeRateProvider, never()).getExchangeRate(any(), any());
+        verify(quoteService, never()).release(any());
+    }
+
+    @Test
+    @DisplayName("Should release the quote when the quoted conversion fails to persist")
+    void shouldReleaseQuoteOnFailure() {
+        ConversionRequest request = request();
+        request.setQuoteId("quote-1");
+        when(quoteService.redeem(request)).thenReturn(rate("0.90"));
+        when(documentWriter.write(any(CurrencyConversionDocument.class))).thenThrow(new IllegalStateException("mongo down"));
+
+        assertThatThrownBy(() -> commandService.processConversionWithEvents(request))
+                .hasMessage("Failed to persist conversion");
+
+        verify(quoteService).release("quote-1");
+    }
+
+    @Test
+    @DisplayName("Should propagate rate failures without persisting")
+    void shouldPropagateRateFailure() {
+        when(exchangeRateProvider.getExchangeRate(Currency.USD, Currency.EUR)).thenThrow(new RateServiceException("Rate unavailable"));
+
+        assertThatThrownBy(() -> commandService.processConversionWithEvents(request()))
+                .isInstanceOf(RateServiceException.class)
+                .hasMessage("Rate unavailable");
+        verify(documentWriter, never()).write(any());
+    }
+
+    @Test
+    @DisplayName("Should fail with 504 when the rate lookup outlives the deadline")
+    void shouldTimeOutSlowRateLookup() {
+        when(exchangeRateProvider.getExchangeRate(Currency.USD, Currency.EUR)).thenAnswer(invocation -> {
+            Thread.sleep(5_000);
+            return rate("0.85");
+        });
+
+        long start = System.nanoTime();
+        assertThatThrownBy(() -> commandService.processConversionWithEvents(request()))
+                .isInstanceOfSatisfying(BusinessException.class, e -> {
+                    assertThat(e.getErrorCode()).isEqualTo("CONVERSION_TIMEOUT");
+                    assertThat(e.getHttpStatus()).isEqualTo(HttpStatus.GATEWAY_TIMEOUT);
+                });
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(2));
+        verify(documentWriter, never()).write(any());
+    }
+
+    @Test
+    @DisplayName("Should return the conversion when the write lands after the deadline")
+    void shouldReturnConversionStoredAfterDeadline() {
+        when(exchangeRateProvider.getExchangeRate(Currency.USD, Currency.EUR)).thenReturn(rate("0.85"));
+        when(documentWriter.write(any(CurrencyConversionDocument.class))).thenAnswer(invocation -> {
+            long until = System.nanoTime() + Duration.ofMillis(800).toNanos();
+            while (System.nanoTime() < until) {
+                Thread.onSpinWait();
+            }
+            return invocation.getArgument(0);
+        });
+
+        ConversionResponse response = commandService.processConversionWithEvents(request());
+
+        assertThat(response.getTargetAmount()).isEqualByComparingTo("85.00");
+    }
+
+    @Test
+    @DisplayName("Should return the conversion when an interrupted write turns out to be stored")
+    void shouldReturnConversionFoundAfterInterruptedWrite() {
+        when(exchangeRateProvider.getExchangeRate(Currency.USD, Currency.EUR)).thenReturn(rate("0.85"));
+        when(documentWriter.write(any(CurrencyConversionDocument.class))).thenAnswer(invocation -> {
+            Thread.sleep(Duration.ofSeconds(5));
+            return invocation.getArgument(0);
+        });
+        when(documentWriter.findByTransactionId(anyString()))
+                .thenAnswer(invocation -> Optional.of(CurrencyConversionDocument.builder()
+                        .transactionId(invocation.getArgument(0))
+                        .build()));
+
+        ConversionResponse response = commandService.processConversionWithEvents(request());
+
+        assertThat(response.getTargetAmount()).isEqualByComparingTo("85.00");
+        verify(documentWriter).findByTransactionId(response.getTransactionId());
+    }
+
+    @Test
+    @DisplayName("Should fail with 504 when an interrupted write was not stored")
+    void shouldTimeOutWhenInterruptedWriteIsMissing() {
+        when(exchangeRateProvider.getExchangeRate(Currency.USD, Currency.EUR)).thenReturn(rate("0.85"));
+        when(documentWriter.write(any(CurrencyConversionDocument.class))).thenAnswer(invocation -> {
+            Thread.sleep(Duration.ofSeconds(5));
+            return invocation.getArgument(0);
+        });
+        when(documentWriter.findByTransactionId(anyString())).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> commandService.processConversionWithEvents(request()))
+                .isInstanceOfSatisfying(BusinessException.class,
+                        e -> assertThat(e.getHttpStatus()).isEqualTo(HttpStatus.GATEWAY_TIMEOUT));
+    }
+
+    private ConversionRequest request() {
+        return ConversionRequest.builder()
+                .sourceAmount(new BigDecimal("100.00"))
+                .sourceCurrency(Currency.USD)
+                .targetCurrency(Currency.EUR)
+                .build();
+    }
+
+    private ExchangeRateResponse rate(String rate) {
+        return ExchangeRateResponse.builder()
+                .sourceCurrency(Currency.USD)
+                .targetCurrency(Currency.EUR)
+                .rate(new BigDecimal(rate))
+                .lastUpdated(LocalDateTime.now())
+                .build();
+    }
+}
@@ -0,0 +1,153 @@
+package com.hasandag.exchange.conversion.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hasandag.exchange.common.exception.BusinessException;
+import com.hasandag.exchange.conversion.dto.ConversionSearchRequest;
+import com.hasandag.exchange.conversion.model.ExportFormat;
+import com.hasandag.exchange.conversion.repository.query.ConversionHistoryRepository;
+import com.hasandag.exchange.conversion.service.impl.ConversionExportServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ConversionExportService Tests")
+class ConversionExportServiceTest {
+
+    private static final LocalDateTime TIMESTAMP = LocalDateTime.of(2025, 6, 16, 9, 30, 15);
+    private static final Duration TIMEOUT = Duration.ofMinutes(4);
+
+    @Mock
+    private ConversionHistoryRepository historyRepository;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final ConversionSearchRequest search = new ConversionSearchRequest();
+
+    private ConversionExportServiceImpl exportService;
+
+    @BeforeEach
+    void setUp() {
+        exportService = new ConversionExportServiceImpl(historyRepository, objectMapper, 500, 2, TIMEOUT);
+    }
+
+    @Test
+    @DisplayName("Should stream one JSON object per line")
+    void shouldExportNdjson() throws Exception {
+        givenRows(row(2, "tx-2"), row(1, "tx-1"));
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        long written = exportService.export(search, ExportFormat.NDJSON, output);
+
+        assertThat(written).isEqualTo(2);
+        List<String> lines = output.toString(StandardCharsets.UTF_8).lines().toList();
+        assertThat(lines).hasSize(2);
+        JsonNode first = objectMapper.readTree(lines.get(0));
+        assertThat(first.get("id").asLong()).isEqualTo(2);
+        assertThat(first.get("transactionId").asText()).isEqualTo("tx-2");
+        assertThat(first.get("sourceAmount").decimalValue()).isEqualByComparingTo("100.0000");
+        assertThat(first.get("timestamp").asText()).isEqualTo("2025-06-16T09:30:15");
+    }
+
+    @Test
+    @DisplayName("Should write a header and quote fields that need it")
+    void shouldExportCsv() throws Exception {
+        givenRows(row(7, "legacy,\"id\""));
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        exportService.export(search, ExportFormat.CSV, output);
+
+        assertThat(output.toString(StandardCharsets.UTF_8).lines()).containsExactly(
+                "id,transactionId,sourceCurrency,targetCurrency,sourceAmount,targetAmount,exchangeRate,timestamp",
+                "7,\"legacy,\"\"id\"\"\",USD,EUR,100.0000,85.0000,0.850000,2025-06-16T09:30:15");
+    }
+
+    @Test
+    @DisplayName("Should surface write failures as IOException")
+    void shouldPropagateWriteFailure() throws Exception {
+        givenRows(row(1, "tx-1"));
+        OutputStream broken = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("client went away");
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                throw new IOException("client went away");
+            }
+        };
+
+        assertThatThrownBy(() -> exportService.export(search, ExportFormat.CSV, broken))
+                .isInstanceOf(IOException.class)
+                .hasMessage("client went away");
+    }
+
+    @Test
+    @DisplayName("Should answer 429 once every export slot is taken and free a slot on close")
+    void shouldLimitConcurrentExports() {
+        ConversionExportService.Permit first = exportService.acquirePermit();
+        ConversionExportService.Permit second = exportService.acquirePermit();
+
+        assertThatThrownBy(exportService::acquirePermit)
+                .isInstanceOfSatisfying(BusinessException.class, e -> {
+                    assertThat(e.getErrorCode()).isEqualTo("EXPORT_LIMIT_REACHED");
+                    assertThat(e.getHttpStatus()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+                });
+
+        first.close();
+        first.close();
+        ConversionExportService.Permit third = exportService.acquirePermit();
+        assertThatThrownBy(exportService::acquirePermit).isInstanceOf(BusinessException.class);
+        second.close();
+        third.close();
+    }
+
+    private void givenRows(ResultSet... rows) {
+        doAnswer(invocation -> {
+            RowCallbackHandler handler = invocation.getArgument(3);
+            for (ResultSet row : rows) {
+                handler.processRow(row);
+            }
+            return null;
+        }).when(historyRepository).streamAll(eq(search), eq(500), eq(TIMEOUT), any());
+    }
+
+    private ResultSet row(long id, String transactionId) throws Exception {
+        ResultSet row = mock(ResultSet.class);
+        when(row.getLong("id")).thenReturn(id);
+        when(row.getString("transaction_id")).thenReturn(transactionId);
+        when(row.getString("source_currency")).thenReturn("USD");
+        when(row.getString("target_currency")).thenReturn("EUR");
+        when(row.getBigDecimal("source_amount")).thenReturn(new BigDecimal("100.0000"));
+        when(row.getBigDecimal("target_amount")).thenReturn(new BigDecimal("85.0000"));
+        when(row.getBigDecimal("exchange_rate")).thenReturn(new BigDecimal("0.850000"));
+        when(row.getTimestamp("timestamp")).thenReturn(Timestamp.valueOf(TIMESTAMP));
+        return row;
+    }
+}
@@ -0,0 +1,112 @@
+package com.hasandag.exchange.conversion.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.YearMonth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ConversionPartitionService Tests")
+class ConversionPartitionServiceTest {
+
+    private static final YearMonth JUNE_2025 = YearMonth.of(2025, 6);
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private Connection connection;
+
+    @Mock
+    private Statement statement;
+
+    @Test
+    @DisplayName("Should create the current and upcoming monthly partitions")
+    void shouldCreateUpcomingPartitions() throws Exception {
+        givenLock(true);
+
+        boolean ran = new ConversionPartitionService(jdbcTemplate, 2, 0, "conversion_archive").maintain(JUNE_2025);
+
+        assertThat(ran).isTrue();
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        verify(statement, atLeastOnce()).execute(sql.capture());
+        assertThat(sql.getAllValues()).containsExactly(
+                "CREATE TABLE IF NOT EXISTS currency_conversions_p2025_06 PARTITION OF currency_conversions"
+                        + " FOR VALUES FROM ('2025-06-01') TO ('2025-07-01')",
+                "CREATE TABLE IF NOT EXISTS currency_conversions_p2025_07 PARTITION OF currency_conversions"
+                        + " FOR VALUES FROM ('2025-07-01') TO ('2025-08-01')",
+                "CREATE TABLE IF NOT EXISTS currency_conversions_p2025_08 PARTITION OF currency_conversions"
+                        + " FOR VALUES FROM ('2025-08-01') TO ('2025-09-01')",
+                "SELECT pg_advisory_unlock(" + ConversionPartitionService.ADVISORY_LOCK_KEY + ")");
+        verify(statement, never()).executeQuery(ConversionPartitionService.LIST_PARTITIONS_SQL);
+    }
+
+    @Test
+    @DisplayName("Should detach partitions past retention and move them to the archive schema")
+    void shouldArchiveExpiredPartitions() throws Exception {
+        givenLock(true);
+        ResultSet partitions = mock(ResultSet.class);
+        when(partitions.next()).thenReturn(true, true, true, true, false);
+        when(partitions.getString(1)).thenReturn(
+                "currency_conversions_p2024_04", "currency_conversions_p2024_06", "currency_conversions_p2025_06",
+                "currency_conversions_default");
+        when(statement.executeQuery(ConversionPartitionService.LIST_PARTITIONS_SQL)).thenReturn(partitions);
+
+        new ConversionPartitionService(jdbcTemplate, 0, 12, "conversion_archive").maintain(JUNE_2025);
+
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        verify(statement, atLeastOnce()).execute(sql.capture());
+        assertThat(sql.getAllValues()).filteredOn(s -> !s.startsWith("CREATE TABLE") && !s.contains("unlock")).containsExactly(
+                "CREATE SCHEMA IF NOT EXISTS conversion_archive",
+                "ALTER TABLE currency_conversions DETACH PARTITION currency_conversions_p2024_04",
+                "ALTER TABLE currency_conversions_p2024_04 SET SCHEMA conversion_archive");
+    }
+
+    @Test
+    @DisplayName("Should skip the round when another instance holds the lock")
+    void shouldSkipWithoutLock() throws Exception {
+        givenLock(false);
+
+        boolean ran = new ConversionPartitionService(jdbcTemplate, 3, 12, "").maintain(JUNE_2025);
+
+        assertThat(ran).isFalse();
+        verify(statement, never()).execute(anyString());
+    }
+
+    @Test
+    @DisplayName("Should only recognise monthly partition names")
+    void shouldParsePartitionNames() {
+        assertThat(ConversionPartitionService.monthOf("currency_conversions_p2025_06")).contains(JUNE_2025);
+        assertThat(ConversionPartitionService.monthOf("currency_conversions_default")).isEmpty();
+        assertThat(ConversionPartitionService.partitionName(YearMonth.of(2026, 1))).isEqualTo("currency_conversions_p2026_01");
+    }
+
+    private void givenLock(boolean acquired) throws Exception {
+        when(jdbcTemplate.execute(any(ConnectionCallback.class)))
+                .thenAnswer(invocation -> invocation.<ConnectionCallback<?>>getArgument(0).doInConnection(connection));
+        when(connection.createStatement()).thenReturn(statement);
+        ResultSet lock = mock(ResultSet.class);
+        when(lock.next()).thenReturn(true);
+        when(lock.getBoolean(1)).thenReturn(acquired);
+        when(statement.executeQuery(startsWith("SELECT pg_try_advisory_lock"))).thenReturn(lock);
+    }
+}
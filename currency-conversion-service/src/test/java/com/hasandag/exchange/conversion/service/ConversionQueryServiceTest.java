@@ -0,0 +1,116 @@
+package com.hasandag.exchange.conversion.service;
+
+import com.hasandag.exchange.common.exception.BusinessException;
+import com.hasandag.exchange.conversion.dto.ConversionHistorySlice;
+import com.hasandag.exchange.conversion.dto.ConversionSearchRequest;
+import com.hasandag.exchange.conversion.model.ConversionCursor;
+import com.hasandag.exchange.conversion.model.CurrencyConversionEntity;
+import com.hasandag.exchange.conversion.model.HistoryCountMode;
+import com.hasandag.exchange.conversion.repository.query.ConversionHistoryRepository;
+import com.hasandag.exchange.conversion.repository.query.CurrencyConversionPostgresRepository;
+import com.hasandag.exchange.conversion.service.impl.ConversionQueryServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ConversionQueryService Tests")
+class ConversionQueryServiceTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 6, 16, 12, 0);
+
+    @Mock
+    private CurrencyConversionPostgresRepository repository;
+
+    @Mock
+    private ConversionHistoryRepository historyRepository;
+
+    private final ConversionSearchRequest search = new ConversionSearchRequest();
+
+    private ConversionQueryServiceImpl queryService;
+
+    @BeforeEach
+    void setUp() {
+        queryService = new ConversionQueryServiceImpl(repository, historyRepository, 100);
+    }
+
+    @Test
+    @DisplayName("Should return a cursor after the last row when more rows follow")
+    void shouldReturnNextCursor() {
+        when(historyRepository.findPage(search, null, 3)).thenReturn(List.of(row(30, 0), row(20, 1), row(10, 1)));
+
+        ConversionHistorySlice first = queryService.findConversions(search, null, 2, HistoryCountMode.NONE);
+
+        assertThat(first.getContent()).extracting(CurrencyConversionEntity::getId).containsExactly(30L, 20L);
+        assertThat(first.getTotalElements()).isNull();
+        assertThat(ConversionCursor.decode(first.getNextCursor())).isEqualTo(new ConversionCursor(NOW.minusMinutes(1), 20));
+
+        ConversionCursor after = new ConversionCursor(NOW.minusMinutes(1), 20);
+        when(historyRepository.findPage(search, after, 3)).thenReturn(List.of(row(10, 1)));
+
+        ConversionHistorySlice last = queryService.findConversions(search, first.getNextCursor(), 2, HistoryCountMode.NONE);
+
+        assertThat(last.getContent()).extracting(CurrencyConversionEntity::getId).containsExactly(10L);
+        assertThat(last.getNextCursor()).isNull();
+        verify(historyRepository, never()).count(any());
+        verify(historyRepository, never()).estimateCount(any());
+    }
+
+    @Test
+    @DisplayName("Should report an exact or estimated total only when asked")
+    void shouldCountOnRequest() {
+        when(historyRepository.findPage(search, null, 11)).thenReturn(List.of(row(1, 0)));
+        when(historyRepository.count(search)).thenReturn(1L);
+        when(historyRepository.estimateCount(search)).thenReturn(4L);
+
+        ConversionHistorySlice exact = queryService.findConversions(search, null, 10, HistoryCountMode.EXACT);
+        ConversionHistorySlice estimated = queryService.findConversions(search, "", 10, HistoryCountMode.ESTIMATED);
+
+        assertThat(exact.getTotalElements()).isEqualTo(1);
+        assertThat(exact.getTotalEstimated()).isFalse();
+        assertThat(estimated.getTotalElements()).isEqualTo(4);
+        assertThat(estimated.getTotalEstimated()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should reject malformed cursors and out-of-range page sizes")
+    void shouldRejectInvalidArguments() {
+        assertThatThrownBy(() -> queryService.findConversions(search, "not-a-cursor", 10, HistoryCountMode.NONE))
+                .isInstanceOfSatisfying(BusinessException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo("INVALID_CURSOR"));
+        assertThatThrownBy(() -> queryService.findConversions(search, null, 101, HistoryCountMode.NONE))
+                .isInstanceOfSatisfying(BusinessException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo("INVALID_PAGE_SIZE"));
+        verify(historyRepository, never()).findPage(any(), any(), anyInt());
+        verifyNoInteractions(repository);
+    }
+
+    private CurrencyConversionEntity row(long id, int minutesAgo) {
+        return CurrencyConversionEntity.builder()
+                .id(id)
+                .transactionId("tx-" + id)
+                .sourceCurrency("USD")
+                .targetCurrency("EUR")
+                .sourceAmount(new BigDecimal("100.0000"))
+                .targetAmount(new BigDecimal("85.0000"))
+                .exchangeRate(new BigDecimal("0.850000"))
+                .timestamp(NOW.minusMinutes(minutesAgo))
+                .build();
+    }
+}
@@ -0,0 +1,100 @@
+package com.hasandag.exchange.conversion.service;
+
+import com.hasandag.exchange.common.enums.Currency;
+import com.hasandag.exchange.common.exception.BusinessException;
+import com.hasandag.exchange.conversion.dto.ConversionVolumeStats;
+import com.hasandag.exchange.conversion.model.RollupGranularity;
+import com.hasandag.exchange.conversion.repository.query.ConversionVolumeRollupRepository;
+import com.hasandag.exchange.conversion.service.impl.ConversionStatsServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ConversionStatsService Tests")
+class ConversionStatsServiceTest {
+
+    private static final LocalDateTime FROM = LocalDateTime.of(2025, 6, 1, 0, 0);
+
+    @Mock
+    private ConversionVolumeRollupRepository rollupRepository;
+
+    private ConversionStatsServiceImpl statsService;
+
+    @BeforeEach
+    void setUp() {
+        statsService = new ConversionStatsServiceImpl(rollupRepository, 1440);
+    }
+
+    @Test
+    @DisplayName("Should read the series for one pair from the rollups")
+    void shouldReadPairSeries() {
+        ConversionVolumeStats bucket = ConversionVolumeStats.builder()
+                .sourceCurrency("USD").targetCurrency("EUR").bucketStart(FROM).conversionCount(3).build();
+        when(rollupRepository.findSeries(RollupGranularity.HOUR, "USD", "EUR", FROM, FROM.plusDays(1)))
+                .thenReturn(List.of(bucket));
+
+        assertThat(statsService.getVolumeSeries(RollupGranularity.HOUR, Currency.USD, Currency.EUR, FROM, FROM.plusDays(1)))
+                .containsExactly(bucket);
+    }
+
+    @Test
+    @DisplayName("Should read every pair when no pair is given")
+    void shouldReadAllPairsSeries() {
+        when(rollupRepository.findSeriesForAllPairs(RollupGranularity.DAY, FROM, FROM.plusDays(7))).thenReturn(List.of());
+
+        assertThat(statsService.getVolumeSeries(RollupGranularity.DAY, null, null, FROM, FROM.plusDays(7))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should reject ranges that span too many buckets for the granularity")
+    void shouldRejectTooManyBuckets() {
+        assertThatThrownBy(() -> statsService.getVolumeSeries(RollupGranularity.MINUTE, null, null, FROM, FROM.plusDays(2)))
+                .isInstanceOfSatisfying(BusinessException.class, e -> {
+                    assertThat(e.getErrorCode()).isEqualTo("STATS_RANGE_TOO_LARGE");
+                    assertThat(e.getHttpStatus()).isEqualTo(HttpStatus.BAD_REQUEST);
+                });
+        verifyNoInteractions(rollupRepository);
+    }
+
+    @Test
+    @DisplayName("Should reject bounds that fall inside a bucket")
+    void shouldRejectUnalignedRange() {
+        assertThatThrownBy(() -> statsService.getVolumeSummary(RollupGranularity.DAY, FROM.plusHours(6), FROM.plusDays(2)))
+                .isInstanceOfSatisfying(BusinessException.class, e -> {
+                    assertThat(e.getErrorCode()).isEqualTo("STATS_RANGE_NOT_ALIGNED");
+                    assertThat(e.getHttpStatus()).isEqualTo(HttpStatus.BAD_REQUEST);
+                });
+        assertThatThrownBy(() -> statsService.getVolumeSeries(RollupGranularity.HOUR, null, null, FROM, FROM.plusMinutes(90)))
+                .isInstanceOfSatisfying(BusinessException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo("STATS_RANGE_NOT_ALIGNED"));
+        assertThatThrownBy(() -> statsService.getVolumeSeries(RollupGranularity.MINUTE, null, null, FROM.plusSeconds(30), FROM.plusHours(1)))
+                .isInstanceOfSatisfying(BusinessException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo("STATS_RANGE_NOT_ALIGNED"));
+        verifyNoInteractions(rollupRepository);
+    }
+
+    @Test
+    @DisplayName("Should reject empty ranges and half-specified pairs")
+    void shouldRejectInvalidArguments() {
+        assertThatThrownBy(() -> statsService.getVolumeSummary(RollupGranularity.DAY, FROM, FROM))
+                .isInstanceOfSatisfying(BusinessException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo("INVALID_STATS_RANGE"));
+        assertThatThrownBy(() -> statsService.getVolumeSeries(RollupGranularity.HOUR, Currency.USD, null, FROM, FROM.plusHours(1)))
+                .isInstanceOfSatisfying(BusinessException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo("INVALID_CURRENCY_PAIR"));
+        verifyNoInteractions(rollupRepository);
+    }
+}
@@ -0,0 +1,249 @@
+package com.hasandag.exchange.conversion.service;
+
+import com.hasandag.exchange.common.dto.ConversionRequest;
+import com.hasandag.exchange.common.dto.ExchangeRateResponse;
+import com.hasandag.exchange.common.enums.Currency;
+import com.hasandag.exchange.common.exception.BusinessException;
+import com.hasandag.exchange.conversion.model.CurrencyConversionDocument;
+import com.hasandag.exchange.conversion.service.impl.ConversionCommandServiceImpl;
+import com.hasandag.exchange.conversion.service.impl.GroupCommitConversionDocumentWriter;
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.ServerAddress;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.InsertManyOptions;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.bson.BsonDocument;
+import org.bson.Document;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("GroupCommitConversionDocumentWriter Tests")
+class GroupCommitConversionDocumentWriterTest {
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private MongoCollection<Document> collection;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private GroupCommitConversionDocumentWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        MongoCustomConversions conversions = new MongoCustomConversions(List.of());
+        MongoMappingContext mappingContext = new MongoMappingContext();
+        mappingContext.setSimpleTypeHolder(conversions.getSimpleTypeHolder());
+        mappingContext.afterPropertiesSet();
+        MappingMongoConverter converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, mappingContext);
+        converter.setCustomConversions(conversions);
+        converter.afterPropertiesSet();
+
+        lenient().when(mongoTemplate.getConverter()).thenReturn(converter);
+        lenient().when(mongoTemplate.getCollectionName(CurrencyConversionDocument.class)).thenReturn("currency_conversions");
+        lenient().when(mongoTemplate.getCollection(anyString())).thenReturn(collection);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (writer != null) {
+            writer.destroy();
+        }
+    }
+
+    @Test
+    @DisplayName("Should group concurrent writes into shared insertMany calls")
+    void shouldGroupConcurrentWrites() throws Exception {
+        List<Integer> batchSizes = Collections.synchronizedList(new ArrayList<>());
+        doAnswer(invocation -> {
+            List<Document> documents = invocation.getArgument(0);
+            batchSizes.add(documents.size());
+            Thread.sleep(5);
+            return null;
+        }).when(collection).insertMany(anyList(), any(InsertManyOptions.class));
+        writer = newWriter(16, Duration.ofMillis(2), 1000, Duration.ofMillis(100));
+
+        int writes = 200;
+        List<Future<CurrencyConversionDocument>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < writes; i++) {
+                String transactionId = "tx-" + i;
+                results.add(executor.submit(() -> writer.write(document(transactionId))));
+            }
+            for (int i = 0; i < writes; i++) {
+                CurrencyConversionDocument saved = results.get(i).get(5, TimeUnit.SECONDS);
+                assertThat(saved.getId()).isNotNull();
+                assertThat(saved.getTransactionId()).isEqualTo("tx-" + i);
+                assertThat(saved.getTargetAmount()).isEqualByComparingTo("85.00");
+            }
+        }
+
+        assertThat(batchSizes.stream().mapToInt(Integer::intValue).sum()).isEqualTo(writes);
+        assertThat(batchSizes).allSatisfy(size -> assertThat(size).isLessThanOrEqualTo(16));
+        assertThat(batchSizes.size()).isLessThan(writes);
+
+        DistributionSummary batchSize = meterRegistry.find("conversion.write.group_commit.batch.size").summary();
+        assertThat(batchSize).isNotNull();
+        assertThat((long) batchSize.totalAmount()).isEqualTo(writes);
+        assertThat(meterRegistry.find("conversion.write.group_commit.flush").timer().count()).isEqualTo(batchSizes.size());
+    }
+
+    @Test
+    @DisplayName("Should fail only the documents rejected by the bulk write")
+    void shouldFailOnlyRejectedDocuments() throws Exception {
+        doAnswer(invocation -> {
+            List<Document> documents = invocation.getArgument(0);
+            List<BulkWriteError> errors = new ArrayList<>();
+            for (int i = 0; i < documents.size(); i++) {
+                if ("tx-bad".equals(documents.get(i).get("transaction_id"))) {
+                    errors.add(new BulkWriteError(11000, "duplicate key", new BsonDocument(), i));
+                }
+            }
+            if (!errors.isEmpty()) {
+                throw new MongoBulkWriteException(BulkWriteResult.unacknowledged(), errors, null,
+                        new ServerAddress(), Set.of());
+            }
+            return null;
+        }).when(collection).insertMany(anyList(), any(InsertManyOptions.class));
+        writer = newWriter(16, Duration.ofMillis(50), 100, Duration.ofMillis(100));
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<CurrencyConversionDocument> good = executor.submit(() -> writer.write(document("tx-good")));
+            Future<CurrencyConversionDocument> bad = executor.submit(() -> writer.write(document("tx-bad")));
+
+            assertThat(good.get(5, TimeUnit.SECONDS).getTransactionId()).isEqualTo("tx-good");
+            assertThatThrownBy(() -> bad.get(5, TimeUnit.SECONDS))
+                    .hasCauseInstanceOf(IllegalStateException.class)
+                    .hasRootCauseInstanceOf(MongoBulkWriteException.class);
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject writes when the queue stays full")
+    void shouldRejectWhenQueueIsFull() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch flushing = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            flushing.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return null;
+        }).when(collection).insertMany(anyList(), any(InsertManyOptions.class));
+        writer = newWriter(1, Duration.ofMillis(1), 1, Duration.ofMillis(20));
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<CurrencyConversionDocument> inFlight = executor.submit(() -> writer.write(document("tx-1")));
+            assertThat(flushing.await(5, TimeUnit.SECONDS)).isTrue();
+            Future<CurrencyConversionDocument> queued = executor.submit(() -> writer.write(document("tx-2")));
+            Thread.sleep(50);
+
+            assertThatThrownBy(() -> writer.write(document("tx-3")))
+                    .isInstanceOf(BusinessException.class)
+                    .hasMessageContaining("queue is full");
+
+            release.countDown();
+            assertThat(inFlight.get(5, TimeUnit.SECONDS).getTransactionId()).isEqualTo("tx-1");
+            assertThat(queued.get(5, TimeUnit.SECONDS).getTransactionId()).isEqualTo("tx-2");
+        }
+    }
+
+    @Test
+    @DisplayName("Should not store a queued conversion whose deadline passed before it was flushed")
+    void shouldWithdrawWriteWhenConversionTimesOut() throws Exception {
+        List<String> inserted = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch flushing = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            List<Document> documents = invocation.getArgument(0);
+            documents.forEach(document -> inserted.add(document.getString("transaction_id")));
+            flushing.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return null;
+        }).when(collection).insertMany(anyList(), any(InsertManyOptions.class));
+        writer = newWriter(1, Duration.ofMillis(1), 10, Duration.ofMillis(100));
+        ExchangeRateProvider rateProvider = mock(ExchangeRateProvider.class);
+        when(rateProvider.getExchangeRate(Currency.USD, Currency.EUR)).thenReturn(ExchangeRateResponse.builder()
+                .sourceCurrency(Currency.USD)
+                .targetCurrency(Currency.EUR)
+                .rate(new BigDecimal("0.85"))
+                .lastUpdated(LocalDateTime.now())
+                .build());
+        ConversionCommandService commandService = new ConversionCommandServiceImpl(rateProvider, mock(QuoteService.class),
+                writer, meterRegistry, Duration.ofMillis(200));
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<CurrencyConversionDocument> inFlight = executor.submit(() -> writer.write(document("tx-1")));
+            assertThat(flushing.await(5, TimeUnit.SECONDS)).isTrue();
+
+            assertThatThrownBy(() -> commandService.processConversionWithEvents(ConversionRequest.builder()
+                    .sourceAmount(new BigDecimal("100.00"))
+                    .sourceCurrency(Currency.USD)
+                    .targetCurrency(Currency.EUR)
+                    .build()))
+                    .isInstanceOfSatisfying(BusinessException.class,
+                            e -> assertThat(e.getErrorCode()).isEqualTo("CONVERSION_TIMEOUT"));
+
+            release.countDown();
+            assertThat(inFlight.get(5, TimeUnit.SECONDS).getTransactionId()).isEqualTo("tx-1");
+            // Flushed in queue order, so once tx-2 is stored the withdrawn write has been passed over.
+            assertThat(writer.write(document("tx-2")).getTransactionId()).isEqualTo("tx-2");
+        }
+
+        assertThat(inserted).containsExactly("tx-1", "tx-2");
+    }
+
+    private GroupCommitConversionDocumentWriter newWriter(int maxBatchSize, Duration maxDelay, int queueCapacity, Duration enqueueTimeout) {
+        return new GroupCommitConversionDocumentWriter(mongoTemplate, meterRegistry, maxBatchSize, maxDelay,
+                queueCapacity, enqueueTimeout, Duration.ofSeconds(5));
+    }
+
+    private CurrencyConversionDocument document(String transactionId) {
+        return CurrencyConversionDocument.builder()
+                .transactionId(transactionId)
+                .sourceCurrency("USD")
+                .targetCurrency("EUR")
+                .sourceAmount(new BigDecimal("100.00"))
+                .targetAmount(new BigDecimal("85.00"))
+                .exchangeRate(new BigDecimal("0.85"))
+                .timestamp(LocalDateTime.now())
+                .status("COMPLETED")
+                .build();
+    }
+}
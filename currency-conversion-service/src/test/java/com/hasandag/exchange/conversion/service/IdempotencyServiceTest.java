@@ -0,0 +1,164 @@
+package com.hasandag.exchange.conversion.service;
+
+import com.hasandag.exchange.common.dto.ConversionRequest;
+import com.hasandag.exchange.common.dto.ConversionResponse;
+import com.hasandag.exchange.common.enums.Currency;
+import com.hasandag.exchange.common.exception.BusinessException;
+import com.hasandag.exchange.common.exception.RateServiceException;
+import com.hasandag.exchange.conversion.model.IdempotencyRecord;
+import com.hasandag.exchange.conversion.service.impl.IdempotencyServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.http.HttpStatus;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("IdempotencyService Tests")
+class IdempotencyServiceTest {
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    private IdempotencyService idempotencyService;
+
+    @BeforeEach
+    void setUp() {
+        idempotencyService = new IdempotencyServiceImpl(mongoTemplate, new SimpleMeterRegistry(), 100,
+                Duration.ofHours(1), Duration.ofMinutes(1), Duration.ofSeconds(2), Duration.ofMillis(10));
+    }
+
+    @Test
+    @DisplayName("Should run concurrent duplicates once and share the response")
+    void shouldRunConcurrentDuplicatesOnce() throws Exception {
+        AtomicInteger executions = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+
+        List<Future<ConversionResponse>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < 10; i++) {
+                results.add(executor.submit(() -> idempotencyService.execute("key-1", request("100.00"), () -> {
+                    executions.incrementAndGet();
+                    await(release);
+                    return response("tx-1");
+                })));
+            }
+            Thread.sleep(50);
+            release.countDown();
+            for (Future<ConversionResponse> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS).getTransactionId()).isEqualTo("tx-1");
+            }
+        }
+
+        assertThat(executions).hasValue(1);
+        verify(mongoTemplate, times(1)).insert(any(IdempotencyRecord.class));
+        verify(mongoTemplate, times(1)).updateFirst(any(Query.class), any(Update.class), eq(IdempotencyRecord.class));
+    }
+
+    @Test
+    @DisplayName("Should replay a response completed by another instance")
+    void shouldReplayRemoteResponse() {
+        AtomicReference<String> requestHash = new AtomicReference<>();
+        when(mongoTemplate.insert(any(IdempotencyRecord.class))).thenAnswer(invocation -> {
+            requestHash.set(invocation.<IdempotencyRecord>getArgument(0).getRequestHash());
+            throw new DuplicateKeyException("duplicate");
+        });
+        when(mongoTemplate.findById("key-2", IdempotencyRecord.class)).thenAnswer(invocation -> IdempotencyRecord.builder()
+                .key("key-2")
+                .requestHash(requestHash.get())
+                .status(IdempotencyRecord.COMPLETED)
+                .response(response("tx-remote"))
+                .expiresAt(Instant.now().plusSeconds(60))
+                .build());
+
+        ConversionResponse response = idempotencyService.execute("key-2", request("100"), () -> {
+            throw new AssertionError("conversion must not run again");
+        });
+
+        assertThat(response.getTransactionId()).isEqualTo("tx-remote");
+    }
+
+    @Test
+    @DisplayName("Should reject a key reused for a different request")
+    void shouldRejectReusedKey() {
+        idempotencyService.execute("key-3", request("100.00"), () -> response("tx-3"));
+
+        assertThatThrownBy(() -> idempotencyService.execute("key-3", request("250.00"), () -> response("tx-other")))
+                .isInstanceOfSatisfying(BusinessException.class, e -> {
+                    assertThat(e.getErrorCode()).isEqualTo("IDEMPOTENCY_KEY_REUSED");
+                    assertThat(e.getHttpStatus()).isEqualTo(HttpStatus.UNPROCESSABLE_ENTITY);
+                });
+    }
+
+    @Test
+    @DisplayName("Should release the key when the conversion fails so a retry runs again")
+    void shouldReleaseKeyOnFailure() {
+        assertThatThrownBy(() -> idempotencyService.execute("key-4", request("100.00"), () -> {
+            throw new RateServiceException("Rate unavailable");
+        })).isInstanceOf(RateServiceException.class);
+        verify(mongoTemplate).remove(any(Query.class), eq(IdempotencyRecord.class));
+        verify(mongoTemplate, never()).updateFirst(any(Query.class), any(Update.class), eq(IdempotencyRecord.class));
+
+        ConversionResponse retried = idempotencyService.execute("key-4", request("100.00"), () -> response("tx-4"));
+
+        assertThat(retried.getTransactionId()).isEqualTo("tx-4");
+    }
+
+    private ConversionRequest request(String amount) {
+        return ConversionRequest.builder()
+                .sourceAmount(new BigDecimal(amount))
+                .sourceCurrency(Currency.USD)
+                .targetCurrency(Currency.EUR)
+                .build();
+    }
+
+    private ConversionResponse response(String transactionId) {
+        return ConversionResponse.builder()
+                .transactionId(transactionId)
+                .sourceCurrency(Currency.USD)
+                .targetCurrency(Currency.EUR)
+                .sourceAmount(new BigDecimal("100.00"))
+                .targetAmount(new BigDecimal("85.00"))
+                .exchangeRate(new BigDecimal("0.85"))
+                .timestamp(LocalDateTime.now())
+                .build();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
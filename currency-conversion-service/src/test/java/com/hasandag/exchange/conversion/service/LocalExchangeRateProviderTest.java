@@ -0,0 +1,111 @@
+package com.hasandag.exchange.conversion.service;
+
+import com.hasandag.exchange.common.dto.ExchangeRateResponse;
+import com.hasandag.exchange.common.enums.Currency;
+import com.hasandag.exchange.conversion.service.impl.FeignExchangeRateProvider;
+import com.hasandag.exchange.conversion.service.impl.LocalExchangeRateProvider;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LocalExchangeRateProvider Tests")
+class LocalExchangeRateProviderTest {
+
+    @Mock
+    private FeignExchangeRateProvider fallbackProvider;
+
+    private LocalExchangeRateStore rateStore;
+    private LocalExchangeRateProvider provider;
+
+    @BeforeEach
+    void setUp() {
+        rateStore = new LocalExchangeRateStore(Duration.ofSeconds(30));
+        provider = new LocalExchangeRateProvider(rateStore, fallbackProvider);
+    }
+
+    @Test
+    @DisplayName("Should serve a fresh local rate without calling the client")
+    void shouldServeLocalRate() {
+        rateStore.update(rate(Currency.EUR, "0.85", LocalDateTime.now()));
+
+        ExchangeRateResponse result = provider.getExchangeRate(Currency.USD, Currency.EUR);
+
+        assertThat(result.getRate()).isEqualByComparingTo("0.85");
+        verify(fallbackProvider, never()).getExchangeRate(Currency.USD, Currency.EUR);
+    }
+
+    @Test
+    @DisplayName("Should fall back to the client for a stale rate and store the answer")
+    void shouldFallBackForStaleRate() {
+        rateStore.update(rate(Currency.EUR, "0.80", LocalDateTime.now().minusMinutes(5)));
+        when(fallbackProvider.getExchangeRate(Currency.USD, Currency.EUR)).thenReturn(rate(Currency.EUR, "0.85", LocalDateTime.now()));
+
+        assertThat(provider.getExchangeRate(Currency.USD, Currency.EUR).getRate()).isEqualByComparingTo("0.85");
+        assertThat(provider.getExchangeRate(Currency.USD, Currency.EUR).getRate()).isEqualByComparingTo("0.85");
+
+        verify(fallbackProvider).getExchangeRate(Currency.USD, Currency.EUR);
+    }
+
+    @Test
+    @DisplayName("Should take multi-target snapshots from the client and store every rate")
+    void shouldStoreSnapshot() {
+        List<Currency> targets = List.of(Currency.EUR, Currency.GBP);
+        when(fallbackProvider.getExchangeRateSnapshot(Currency.USD, targets)).thenReturn(List.of(
+                rate(Currency.EUR, "0.85", LocalDateTime.now()), rate(Currency.GBP, "0.75", LocalDateTime.now())));
+
+        assertThat(provider.getExchangeRateSnapshot(Currency.USD, targets)).hasSize(2);
+
+        assertThat(rateStore.findFresh(Currency.USD, Currency.GBP))
+                .hasValueSatisfying(rate -> assertThat(rate.getRate()).isEqualByComparingTo("0.75"));
+    }
+
+    @Test
+    @DisplayName("Should serve a snapshot locally when every target is fresh from the same quote")
+    void shouldServeLocalSnapshot() {
+        LocalDateTime fetchedAt = LocalDateTime.now();
+        rateStore.update(rate(Currency.EUR, "0.85", fetchedAt));
+        rateStore.update(rate(Currency.GBP, "0.75", fetchedAt));
+
+        List<ExchangeRateResponse> snapshot = provider.getExchangeRateSnapshot(Currency.USD, List.of(Currency.GBP, Currency.EUR));
+
+        assertThat(snapshot).extracting(ExchangeRateResponse::getTargetCurrency).containsExactly(Currency.GBP, Currency.EUR);
+        verify(fallbackProvider, never()).getExchangeRateSnapshot(Currency.USD, List.of(Currency.GBP, Currency.EUR));
+    }
+
+    @Test
+    @DisplayName("Should fetch a snapshot when local rates come from different quotes")
+    void shouldFetchSnapshotForMixedQuotes() {
+        List<Currency> targets = List.of(Currency.EUR, Currency.GBP);
+        rateStore.update(rate(Currency.EUR, "0.85", LocalDateTime.now().minusSeconds(5)));
+        rateStore.update(rate(Currency.GBP, "0.75", LocalDateTime.now()));
+        when(fallbackProvider.getExchangeRateSnapshot(Currency.USD, targets)).thenReturn(List.of(
+                rate(Currency.EUR, "0.86", LocalDateTime.now()), rate(Currency.GBP, "0.76", LocalDateTime.now())));
+
+        assertThat(provider.getExchangeRateSnapshot(Currency.USD, targets))
+                .extracting(ExchangeRateResponse::getRate)
+                .containsExactly(new BigDecimal("0.86"), new BigDecimal("0.76"));
+    }
+
+    private ExchangeRateResponse rate(Currency target, String rate, LocalDateTime lastUpdated) {
+        return ExchangeRateResponse.builder()
+                .sourceCurrency(Currency.USD)
+                .targetCurrency(target)
+                .rate(new BigDecimal(rate))
+                .lastUpdated(lastUpdated)
+                .build();
+    }
+}
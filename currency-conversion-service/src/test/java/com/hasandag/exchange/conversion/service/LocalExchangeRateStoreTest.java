@@ -0,0 +1,71 @@
+package com.hasandag.exchange.conversion.service;
+
+import com.hasandag.exchange.common.dto.ExchangeRateResponse;
+import com.hasandag.exchange.common.enums.Currency;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("LocalExchangeRateStore Tests")
+class LocalExchangeRateStoreTest {
+
+    private final LocalExchangeRateStore store = new LocalExchangeRateStore(Duration.ofSeconds(30));
+
+    @Test
+    @DisplayName("Should serve a rate fetched within the max age")
+    void shouldServeFreshRate() {
+        store.update(rate("0.85", LocalDateTime.now().minusSeconds(5)));
+
+        assertThat(store.findFresh(Currency.USD, Currency.EUR))
+                .hasValueSatisfying(rate -> assertThat(rate.getRate()).isEqualByComparingTo("0.85"));
+        assertThat(store.findFresh(Currency.USD, Currency.GBP)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should judge age by when the rate was fetched, not when it arrived")
+    void shouldTreatReplayedSnapshotAsStale() {
+        store.update(rate("0.85", LocalDateTime.now().minusMinutes(10)));
+
+        assertThat(store.size()).isEqualTo(1);
+        assertThat(store.findFresh(Currency.USD, Currency.EUR)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should keep the newer rate when snapshots arrive out of order")
+    void shouldKeepNewestRate() {
+        LocalDateTime now = LocalDateTime.now();
+        store.update(rate("0.86", now.minusSeconds(1)));
+        store.update(rate("0.85", now.minusSeconds(10)));
+
+        assertThat(store.findFresh(Currency.USD, Currency.EUR))
+                .hasValueSatisfying(rate -> assertThat(rate.getRate()).isEqualByComparingTo("0.86"));
+
+        store.update(rate("0.87", now));
+
+        assertThat(store.findFresh(Currency.USD, Currency.EUR))
+                .hasValueSatisfying(rate -> assertThat(rate.getRate()).isEqualByComparingTo("0.87"));
+    }
+
+    @Test
+    @DisplayName("Should ignore snapshots without a fetch time")
+    void shouldIgnoreIncompleteSnapshot() {
+        store.update(rate("0.85", null));
+        store.update(null);
+
+        assertThat(store.size()).isZero();
+    }
+
+    private ExchangeRateResponse rate(String rate, LocalDateTime lastUpdated) {
+        return ExchangeRateResponse.builder()
+                .sourceCurrency(Currency.USD)
+                .targetCurrency(Currency.EUR)
+                .rate(new BigDecimal(rate))
+                .lastUpdated(lastUpdated)
+                .build();
+    }
+}
@@ -0,0 +1,113 @@
+package com.hasandag.exchange.conversion.service;
+
+import com.hasandag.exchange.common.dto.ExchangeRateResponse;
+import com.hasandag.exchange.common.enums.Currency;
+import com.hasandag.exchange.common.exception.BusinessException;
+import com.hasandag.exchange.common.exception.RateServiceException;
+import com.hasandag.exchange.conversion.dto.MultiConversionRequest;
+import com.hasandag.exchange.conversion.dto.MultiConversionResponse;
+import com.hasandag.exchange.conversion.model.CurrencyConversionDocument;
+import com.hasandag.exchange.conversion.service.impl.MultiConversionServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MultiConversionService Tests")
+class MultiConversionServiceTest {
+
+    @Mock
+    private ExchangeRateProvider exchangeRateProvider;
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    private MultiConversionServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        service = new MultiConversionServiceImpl(exchangeRateProvider, mongoTemplate);
+    }
+
+    @Test
+    @DisplayName("Should convert every target from one snapshot and insert all legs together")
+    @SuppressWarnings("unchecked")
+    void shouldConvertAllTargetsFromOneSnapshot() {
+        when(exchangeRateProvider.getExchangeRateSnapshot(Currency.USD, List.of(Currency.EUR, Currency.GBP)))
+                .thenReturn(List.of(rate(Currency.EUR, "0.85"), rate(Currency.GBP, "0.75")));
+
+        MultiConversionResponse response = service.convert(request(Currency.EUR, Currency.GBP, Currency.EUR));
+
+        assertThat(response.getCorrelationId()).isNotBlank();
+        assertThat(response.getConversions()).hasSize(2);
+        assertThat(response.getConversions().get(0).getTargetCurrency()).isEqualTo(Currency.EUR);
+        assertThat(response.getConversions().get(0).getTargetAmount()).isEqualByComparingTo("85.00");
+        assertThat(response.getConversions().get(1).getTargetCurrency()).isEqualTo(Currency.GBP);
+        assertThat(response.getConversions().get(1).getTargetAmount()).isEqualByComparingTo("75.00");
+
+        ArgumentCaptor<List<CurrencyConversionDocument>> documents = ArgumentCaptor.forClass(List.class);
+        verify(mongoTemplate).insert(documents.capture(), eq(CurrencyConversionDocument.class));
+        assertThat(documents.getValue()).hasSize(2).allSatisfy(document -> {
+            assertThat(document.getCorrelationId()).isEqualTo(response.getCorrelationId());
+            assertThat(document.getEventId()).isNotBlank();
+            assertThat(document.getEventStatus()).isEqualTo(CurrencyConversionDocument.EVENT_PENDING);
+            assertThat(document.getTimestamp()).isEqualTo(response.getTimestamp());
+        });
+    }
+
+    @Test
+    @DisplayName("Should fail without writing when the snapshot misses a target")
+    void shouldFailWhenSnapshotMissesTarget() {
+        when(exchangeRateProvider.getExchangeRateSnapshot(Currency.USD, List.of(Currency.EUR, Currency.GBP)))
+                .thenReturn(List.of(rate(Currency.EUR, "0.85")));
+
+        assertThatThrownBy(() -> service.convert(request(Currency.EUR, Currency.GBP)))
+                .isInstanceOf(RateServiceException.class)
+                .hasMessageContaining("GBP");
+        verify(mongoTemplate, never()).insert(anyList(), any(Class.class));
+    }
+
+    @Test
+    @DisplayName("Should reject the source currency as a target")
+    void shouldRejectSourceAsTarget() {
+        assertThatThrownBy(() -> service.convert(request(Currency.EUR, Currency.USD)))
+                .isInstanceOf(BusinessException.class);
+        verifyNoInteractions(exchangeRateProvider, mongoTemplate);
+    }
+
+    private MultiConversionRequest request(Currency... targets) {
+        return MultiConversionRequest.builder()
+                .sourceAmount(new BigDecimal("100.00"))
+                .sourceCurrency(Currency.USD)
+                .targetCurrencies(List.of(targets))
+                .build();
+    }
+
+    private ExchangeRateResponse rate(Currency target, String rate) {
+        return ExchangeRateResponse.builder()
+                .sourceCurrency(Currency.USD)
+                .targetCurrency(target)
+                .rate(new BigDecimal(rate))
+                .lastUpdated(LocalDateTime.now())
+                .build();
+    }
+}
@@ -0,0 +1,128 @@
+package com.hasandag.exchange.conversion.service;
+
+import com.hasandag.exchange.common.dto.ConversionRequest;
+import com.hasandag.exchange.common.dto.ExchangeRateResponse;
+import com.hasandag.exchange.common.enums.Currency;
+import com.hasandag.exchange.common.exception.BusinessException;
+import com.hasandag.exchange.conversion.dto.QuoteRequest;
+import com.hasandag.exchange.conversion.dto.QuoteResponse;
+import com.hasandag.exchange.conversion.service.impl.QuoteServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("QuoteService Tests")
+class QuoteServiceTest {
+
+    @Mock
+    private ExchangeRateProvider exchangeRateProvider;
+
+    private QuoteServiceImpl quoteService;
+
+    @BeforeEach
+    void setUp() {
+        quoteService = new QuoteServiceImpl(exchangeRateProvider, new SimpleMeterRegistry(), 100, Duration.ofSeconds(30));
+    }
+
+    @Test
+    @DisplayName("Should lock the rate and redeem it exactly once")
+    void shouldRedeemQuoteOnce() {
+        when(exchangeRateProvider.getExchangeRate(Currency.USD, Currency.EUR)).thenReturn(rate("0.85"));
+
+        QuoteResponse quote = quoteService.createQuote(QuoteRequest.builder()
+                .sourceCurrency(Currency.USD)
+                .targetCurrency(Currency.EUR)
+                .sourceAmount(new BigDecimal("100.00"))
+                .build());
+
+        assertThat(quote.getQuoteId()).isNotBlank();
+        assertThat(quote.getTargetAmount()).isEqualByComparingTo("85.00");
+        assertThat(quote.getExpiresAt()).isAfter(LocalDateTime.now());
+
+        ExchangeRateResponse locked = quoteService.redeem(conversion(quote.getQuoteId(), Currency.EUR));
+        assertThat(locked.getRate()).isEqualByComparingTo("0.85");
+
+        assertThatThrownBy(() -> quoteService.redeem(conversion(quote.getQuoteId(), Currency.EUR)))
+                .isInstanceOfSatisfying(BusinessException.class, e -> {
+                    assertThat(e.getErrorCode()).isEqualTo("QUOTE_ALREADY_USED");
+                    assertThat(e.getHttpStatus()).isEqualTo(HttpStatus.CONFLICT);
+                });
+    }
+
+    @Test
+    @DisplayName("Should make a released quote redeemable again")
+    void shouldRedeemReleasedQuote() {
+        when(exchangeRateProvider.getExchangeRate(Currency.USD, Currency.EUR)).thenReturn(rate("0.85"));
+        QuoteResponse quote = quoteService.createQuote(QuoteRequest.builder()
+                .sourceCurrency(Currency.USD)
+                .targetCurrency(Currency.EUR)
+                .build());
+        quoteService.redeem(conversion(quote.getQuoteId(), Currency.EUR));
+
+        quoteService.release(quote.getQuoteId());
+        quoteService.release("missing");
+
+        assertThat(quoteService.redeem(conversion(quote.getQuoteId(), Currency.EUR)).getRate()).isEqualByComparingTo("0.85");
+        assertThatThrownBy(() -> quoteService.redeem(conversion(quote.getQuoteId(), Currency.EUR)))
+                .isInstanceOfSatisfying(BusinessException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo("QUOTE_ALREADY_USED"));
+    }
+
+    @Test
+    @DisplayName("Should reject a quote used for a different currency pair and keep it redeemable")
+    void shouldRejectMismatchedPair() {
+        when(exchangeRateProvider.getExchangeRate(Currency.USD, Currency.EUR)).thenReturn(rate("0.85"));
+        QuoteResponse quote = quoteService.createQuote(QuoteRequest.builder()
+                .sourceCurrency(Currency.USD)
+                .targetCurrency(Currency.EUR)
+                .build());
+
+        assertThatThrownBy(() -> quoteService.redeem(conversion(quote.getQuoteId(), Currency.GBP)))
+                .isInstanceOfSatisfying(BusinessException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo("QUOTE_MISMATCH"));
+        assertThat(quoteService.redeem(conversion(quote.getQuoteId(), Currency.EUR)).getRate()).isEqualByComparingTo("0.85");
+    }
+
+    @Test
+    @DisplayName("Should reject unknown quotes")
+    void shouldRejectUnknownQuote() {
+        assertThatThrownBy(() -> quoteService.redeem(conversion("missing", Currency.EUR)))
+                .isInstanceOfSatisfying(BusinessException.class, e -> {
+                    assertThat(e.getErrorCode()).isEqualTo("QUOTE_EXPIRED");
+                    assertThat(e.getHttpStatus()).isEqualTo(HttpStatus.GONE);
+                })
+                .hasMessageContaining("missing");
+    }
+
+    private ConversionRequest conversion(String quoteId, Currency target) {
+        return ConversionRequest.builder()
+                .sourceAmount(new BigDecimal("100.00"))
+                .sourceCurrency(Currency.USD)
+                .targetCurrency(target)
+                .quoteId(quoteId)
+                .build();
+    }
+
+    private ExchangeRateResponse rate(String rate) {
+        return ExchangeRateResponse.builder()
+                .sourceCurrency(Currency.USD)
+                .targetCurrency(Currency.EUR)
+                .rate(new BigDecimal(rate))
+                .lastUpdated(LocalDateTime.now())
+                .build();
+    }
+}
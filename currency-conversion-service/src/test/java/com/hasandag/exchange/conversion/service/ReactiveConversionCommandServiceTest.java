@@ -0,0 +1,106 @@
+package com.hasandag.exchange.conversion.service;
+
+import com.hasandag.exchange.common.dto.ConversionRequest;
+import com.hasandag.exchange.common.dto.ConversionResponse;
+import com.hasandag.exchange.common.dto.ExchangeRateResponse;
+import com.hasandag.exchange.common.enums.Currency;
+import com.hasandag.exchange.conversion.client.ReactiveExchangeRateClient;
+import com.hasandag.exchange.conversion.model.CurrencyConversionDocument;
+import com.hasandag.exchange.conversion.service.impl.FeignExchangeRateProvider;
+import com.hasandag.exchange.conversion.service.impl.LocalExchangeRateProvider;
+import com.hasandag.exchange.conversion.service.impl.ReactiveConversionCommandServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReactiveConversionCommandService Tests")
+class ReactiveConversionCommandServiceTest {
+
+    @Mock
+    private ObjectProvider<ReactiveExchangeRateClient> clientProvider;
+
+    @Mock
+    private ReactiveExchangeRateClient rateClient;
+
+    @Mock
+    private FeignExchangeRateProvider feignProvider;
+
+    @Mock
+    private QuoteService quoteService;
+
+    @Mock
+    private ReactiveMongoTemplate reactiveMongoTemplate;
+
+    private LocalExchangeRateStore rateStore;
+    private ReactiveConversionCommandService commandService;
+
+    @BeforeEach
+    void setUp() {
+        rateStore = new LocalExchangeRateStore(Duration.ofSeconds(30));
+        when(clientProvider.getIfAvailable()).thenReturn(rateClient);
+        when(reactiveMongoTemplate.insert(any(CurrencyConversionDocument.class)))
+                .thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+        commandService = new ReactiveConversionCommandServiceImpl(clientProvider,
+                new LocalExchangeRateProvider(rateStore, feignProvider), quoteService, reactiveMongoTemplate);
+    }
+
+    @Test
+    @DisplayName("Should use the provider's in-memory rate without calling the client")
+    void shouldUseProviderRate() {
+        rateStore.update(rate("0.85"));
+
+        ConversionResponse response = commandService.processConversion(request()).block();
+
+        assertThat(response.getTargetAmount()).isEqualByComparingTo("85.00");
+        verifyNoInteractions(rateClient, feignProvider);
+    }
+
+    @Test
+    @DisplayName("Should fetch a missing rate through the reactive client and hand it to the provider")
+    void shouldFallBackToClient() {
+        when(rateClient.fetchExchangeRate(Currency.USD, Currency.EUR)).thenReturn(Mono.just(rate("0.90")));
+
+        assertThat(commandService.processConversion(request()).block().getExchangeRate()).isEqualByComparingTo("0.90");
+        assertThat(commandService.processConversion(request()).block().getExchangeRate()).isEqualByComparingTo("0.90");
+
+        verify(rateClient, times(1)).fetchExchangeRate(Currency.USD, Currency.EUR);
+        verify(feignProvider, never()).getExchangeRate(any(), any());
+        assertThat(rateStore.findFresh(Currency.USD, Currency.EUR)).isPresent();
+    }
+
+    private ConversionRequest request() {
+        return ConversionRequest.builder()
+                .sourceAmount(new BigDecimal("100.00"))
+                .sourceCurrency(Currency.USD)
+                .targetCurrency(Currency.EUR)
+                .build();
+    }
+
+    private ExchangeRateResponse rate(String rate) {
+        return ExchangeRateResponse.builder()
+                .sourceCurrency(Currency.USD)
+                .targetCurrency(Currency.EUR)
+                .rate(new BigDecimal(rate))
+                .lastUpdated(LocalDateTime.now())
+                .build();
+    }
+}
@@ -3,9 +3,11 @@ package com.hasandag.exchange.rate;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
 @EnableCaching
+@EnableScheduling
 public class ExchangeRateServiceApplication {
 
     public static void main(String[] args) {
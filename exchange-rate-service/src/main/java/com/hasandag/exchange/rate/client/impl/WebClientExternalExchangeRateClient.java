@@ -4,6 +4,7 @@ import com.hasandag.exchange.common.client.ExternalExchangeRateClient;
 import com.hasandag.exchange.common.dto.ExchangeRateResponse;
 import com.hasandag.exchange.common.enums.Currency;
 import com.hasandag.exchange.common.exception.RateServiceException;
+import com.hasandag.exchange.common.id.TimeOrderedIds;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
 import io.github.resilience4j.retry.annotation.Retry;
 import lombok.extern.slf4j.Slf4j;
@@ -16,9 +17,10 @@ import org.springframework.web.reactive.function.client.WebClientResponseExcepti
 import reactor.core.publisher.Mono;
 
 import java.math.BigDecimal;
+import java.math.MathContext;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Map;
-import java.util.UUID;
 
 @Slf4j
 @Component
@@ -42,12 +44,48 @@ public class WebClientExternalExchangeRateClient implements ExternalExchangeRate
         throw new RateServiceException("Exchange rate service temporarily unavailable", ex);
     }
 
+    @Override
+    @Retry(name = "exchange-rate-api")
+    @CircuitBreaker(name = "exchange-rate-api", fallbackMethod = "fallbackExchangeRateSnapshot")
+    public List<ExchangeRateResponse> getExchangeRateSnapshot(Currency sourceCurrency, List<Currency> targetCurrencies) {
+        Map<String, Object> responseBody = fetchRatesFromApi();
+        LocalDateTime fetchedAt = LocalDateTime.now();
+        return targetCurrencies.stream()
+                .map(targetCurrency -> parseResponse(responseBody, sourceCurrency, targetCurrency, fetchedAt))
+                .toList();
+    }
+
+    public List<ExchangeRateResponse> fallbackExchangeRateSnapshot(Currency sourceCurrency, List<Currency> targetCurrencies, Exception ex) {
+        throw new RateServiceException("Exchange rate service temporarily unavailable", ex);
+    }
+
+    @Override
+    @Retry(name = "exchange-rate-api")
+    @CircuitBreaker(name = "exchange-rate-api", fallbackMethod = "fallbackExchangeRateMatrix")
+    public List<ExchangeRateResponse> getExchangeRateMatrix(List<Currency> currencies) {
+        Map<String, Object> responseBody = fetchRatesFromApi();
+        LocalDateTime fetchedAt = LocalDateTime.now();
+        return currencies.stream()
+                .flatMap(sourceCurrency -> currencies.stream()
+                        .filter(targetCurrency -> targetCurrency != sourceCurrency)
+                        .map(targetCurrency -> parseResponse(responseBody, sourceCurrency, targetCurrency, fetchedAt)))
+                .toList();
+    }
+
+    public List<ExchangeRateResponse> fallbackExchangeRateMatrix(List<Currency> currencies, Exception ex) {
+        throw new RateServiceException("Exchange rate service temporarily unavailable", ex);
+    }
+
     private ExchangeRateResponse fetchExchangeRateFromApi(Currency sourceCurrency, Currency targetCurrency) {
+        return parseResponse(fetchRatesFromApi(), sourceCurrency, targetCurrency, LocalDateTime.now());
+    }
+
+    private Map<String, Object> fetchRatesFromApi() {
         try {
             Mono<Map> responseMono = webClient
                     .get()
                     .uri("")
-                    .header("X-Request-ID", UUID.randomUUID().toString())
+                    .header("X-Request-ID", TimeOrderedIds.nextString())
                     .retrieve()
                     .onStatus(status -> status.value() == 429,
                             clientResponse -> Mono.error(new RateServiceException("External API rate limit exceeded")))
@@ -59,8 +97,7 @@ public class WebClientExternalExchangeRateClient implements ExternalExchangeRate
                                     .flatMap(body -> Mono.error(new RateServiceException("Server error: " + clientResponse.statusCode() + " - " + body))))
                     .bodyToMono(Map.class);
 
-            Map<String, Object> responseBody = responseMono.block();
-            return parseResponse(responseBody, sourceCurrency, targetCurrency);
+            return responseMono.block();
             
         } catch (WebClientResponseException e) {
             throw new RateServiceException("WebClient error: " + e.getStatusCode() + " - " + e.getResponseBodyAsString(), e);
@@ -71,38 +108,51 @@ public class WebClientExternalExchangeRateClient implements ExternalExchangeRate
         }
     }
 
-    private ExchangeRateResponse parseResponse(Map<String, Object> body, Currency sourceCurrency, Currency targetCurrency) {
+    /**
+     * The API quotes every currency against its base, so a pair whose source is not the base is the
+     * cross rate {@code rates[target] / rates[source]}.
+     */
+    private ExchangeRateResponse parseResponse(Map<String, Object> body, Currency sourceCurrency, Currency targetCurrency,
+                                               LocalDateTime fetchedAt) {
         if (body == null) {
             throw new RateServiceException("Empty response from API");
         }
         
         Map<String, Object> rates = extractRates(body);
-        
-        if (rates == null || !rates.containsKey(targetCurrency.getCode())) {
-            throw new RateServiceException("Exchange rate not found for " + targetCurrency);
+        BigDecimal rate = rateOf(rates, targetCurrency);
+        if (!sourceCurrency.getCode().equals(baseOf(body))) {
+            rate = rate.divide(rateOf(rates, sourceCurrency), MathContext.DECIMAL64);
         }
         
-        Object rateValue = rates.get(targetCurrency.getCode());
-        BigDecimal rate;
+        return ExchangeRateResponse.builder()
+                .sourceCurrency(sourceCurrency)
+                .targetCurrency(targetCurrency)
+                .rate(rate)
+                .lastUpdated(fetchedAt)
+                .build();
+    }
+
+    private BigDecimal rateOf(Map<String, Object> rates, Currency currency) {
+        if (rates == null || !rates.containsKey(currency.getCode())) {
+            throw new RateServiceException("Exchange rate not found for " + currency);
+        }
         
+        Object rateValue = rates.get(currency.getCode());
         try {
             if (rateValue instanceof String) {
-                rate = new BigDecimal((String) rateValue);
+                return new BigDecimal((String) rateValue);
             } else if (rateValue instanceof Number) {
-                rate = new BigDecimal(rateValue.toString());
+                return new BigDecimal(rateValue.toString());
             } else {
                 throw new RateServiceException("Invalid rate format: " + rateValue);
             }
         } catch (NumberFormatException e) {
             throw new RateServiceException("Cannot parse exchange rate: " + rateValue, e);
         }
-        
-        return ExchangeRateResponse.builder()
-                .sourceCurrency(sourceCurrency)
-                .targetCurrency(targetCurrency)
-                .rate(rate)
-                .lastUpdated(LocalDateTime.now())
-                .build();
+    }
+
+    private Object baseOf(Map<String, Object> body) {
+        return body.containsKey("base_code") ? body.get("base_code") : body.get("base");
     }
     
     private Map<String, Object> extractRates(Map<String, Object> body) {
@@ -0,0 +1,78 @@
+package com.hasandag.exchange.rate.config;
+
+import com.hasandag.exchange.common.constants.KafkaConstants;
+import com.hasandag.exchange.common.dto.ExchangeRateResponse;
+import org.apache.kafka.clients.admin.AdminClientConfig;
+import org.apache.kafka.clients.admin.NewTopic;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.TopicBuilder;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaAdmin;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.ProducerFactory;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@Configuration
+public class KafkaConfig {
+
+    private final String bootstrapServers;
+
+    public KafkaConfig(@Value("${spring.kafka.bootstrap-servers:localhost:9092}") String bootstrapServers) {
+        this.bootstrapServers = bootstrapServers;
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "kafka.admin.enabled", havingValue = "true", matchIfMissing = true)
+    public KafkaAdmin kafkaAdmin() {
+        Map<String, Object> configs = new HashMap<>();
+        configs.put(AdminClientConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        configs.put(AdminClientConfig.REQUEST_TIMEOUT_MS_CONFIG, 5000);
+        configs.put(AdminClientConfig.CONNECTIONS_MAX_IDLE_MS_CONFIG, 10000);
+        configs.put(AdminClientConfig.RECONNECT_BACKOFF_MS_CONFIG, 1000);
+        configs.put(AdminClientConfig.RETRY_BACKOFF_MS_CONFIG, 1000);
+
+        KafkaAdmin admin = new KafkaAdmin(configs);
+        admin.setFatalIfBrokerNotAvailable(false);
+        return admin;
+    }
+
+    @Bean
+    public NewTopic exchangeRateSnapshotTopic(
+            @Value("${kafka.topics.rate-snapshot.partitions:3}") int partitions,
+            @Value("${kafka.topics.rate-snapshot.replicas:1}") int replicas) {
+        return TopicBuilder.name(KafkaConstants.EXCHANGE_RATE_SNAPSHOT_TOPIC)
+                .partitions(partitions)
+                .replicas(replicas)
+                .compact()
+                .build();
+    }
+
+    @Bean
+    public ProducerFactory<String, ExchangeRateResponse> rateSnapshotProducerFactory() {
+        Map<String, Object> configProps = new HashMap<>();
+        configProps.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        configProps.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        configProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class);
+        configProps.put(JsonSerializer.ADD_TYPE_INFO_HEADERS, false);
+        configProps.put(ProducerConfig.REQUEST_TIMEOUT_MS_CONFIG, 5000);
+        configProps.put(ProducerConfig.DELIVERY_TIMEOUT_MS_CONFIG, 10000);
+        configProps.put(ProducerConfig.MAX_BLOCK_MS_CONFIG, 2000);
+        configProps.put(ProducerConfig.CONNECTIONS_MAX_IDLE_MS_CONFIG, 10000);
+        configProps.put(ProducerConfig.RECONNECT_BACKOFF_MS_CONFIG, 1000);
+        configProps.put(ProducerConfig.RETRY_BACKOFF_MS_CONFIG, 1000);
+        return new DefaultKafkaProducerFactory<>(configProps);
+    }
+
+    @Bean
+    public KafkaTemplate<String, ExchangeRateResponse> rateSnapshotKafkaTemplate() {
+        return new KafkaTemplate<>(rateSnapshotProducerFactory());
+    }
+}
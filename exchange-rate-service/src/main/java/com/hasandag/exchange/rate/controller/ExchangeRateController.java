@@ -11,6 +11,8 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.List;
+
 @RestController
 @RequestMapping("/api/v1/exchange-rates")
 @RequiredArgsConstructor
@@ -28,4 +30,13 @@ public class ExchangeRateController {
         ExchangeRateResponse response = exchangeRateService.getExchangeRate(sourceCurrency, targetCurrency);
         return ResponseEntity.ok(response);
     }
+
+    @GetMapping("/snapshot")
+    public ResponseEntity<List<ExchangeRateResponse>> getExchangeRateSnapshot(
+            @RequestParam Currency sourceCurrency,
+            @RequestParam List<Currency> targetCurrencies) {
+
+        log.debug("Exchange rate snapshot request: {} -> {}", sourceCurrency, targetCurrencies);
+        return ResponseEntity.ok(exchangeRateService.getExchangeRateSnapshot(sourceCurrency, targetCurrencies));
+    }
 }
\ No newline at end of file
@@ -0,0 +1,65 @@
+package com.hasandag.exchange.rate.controller;
+
+import com.hasandag.exchange.common.constants.ExchangeRateRoutes;
+import com.hasandag.exchange.common.dto.ExchangeRateRequest;
+import com.hasandag.exchange.common.dto.ExchangeRateResponse;
+import com.hasandag.exchange.rate.service.ExchangeRateService;
+import com.hasandag.exchange.rate.service.ExchangeRateSnapshotBroadcaster;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.handler.annotation.MessageMapping;
+import org.springframework.stereotype.Controller;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Controller
+@RequiredArgsConstructor
+@Slf4j
+public class ExchangeRateRSocketController {
+
+    private final ExchangeRateService exchangeRateService;
+    private final ExchangeRateSnapshotBroadcaster snapshotBroadcaster;
+
+    @MessageMapping(ExchangeRateRoutes.RATE)
+    public Mono<ExchangeRateResponse> getExchangeRate(ExchangeRateRequest request) {
+        log.debug("RSocket exchange rate request: {} -> {}", request.getSourceCurrency(), request.getTargetCurrency());
+        return lookup(request);
+    }
+
+    @MessageMapping(ExchangeRateRoutes.RATE_BATCH)
+    public Mono<List<ExchangeRateResponse>> getExchangeRates(List<ExchangeRateRequest> requests) {
+        log.debug("RSocket batch exchange rate request for {} pairs", requests.size());
+        return Flux.fromIterable(requests)
+                .flatMapSequential(this::lookup)
+                .collectList();
+    }
+
+    @MessageMapping(ExchangeRateRoutes.RATE_STREAM)
+    public Flux<ExchangeRateResponse> streamExchangeRates(List<ExchangeRateRequest> requests) {
+        Set<String> pairKeys = requests.stream()
+                .map(request -> pairKey(request.getSourceCurrency().getCode(), request.getTargetCurrency().getCode()))
+                .collect(Collectors.toSet());
+        log.debug("RSocket rate stream subscription for {}", pairKeys.isEmpty() ? "all pairs" : pairKeys);
+
+        Flux<ExchangeRateResponse> updates = snapshotBroadcaster.updates()
+                .filter(rate -> pairKeys.isEmpty()
+                        || pairKeys.contains(pairKey(rate.getSourceCurrency().getCode(), rate.getTargetCurrency().getCode())))
+                .onBackpressureLatest();
+
+        return Flux.merge(Flux.fromIterable(requests).flatMap(this::lookup), updates);
+    }
+
+    private Mono<ExchangeRateResponse> lookup(ExchangeRateRequest request) {
+        return Mono.fromCallable(() -> exchangeRateService.getExchangeRate(request.getSourceCurrency(), request.getTargetCurrency()))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    private static String pairKey(String sourceCode, String targetCode) {
+        return sourceCode + "-" + targetCode;
+    }
+}
@@ -0,0 +1,46 @@
+package com.hasandag.exchange.rate.kafka.producer;
+
+import com.hasandag.exchange.common.constants.KafkaConstants;
+import com.hasandag.exchange.common.dto.ExchangeRateResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+
+@Component
+@Slf4j
+public class ExchangeRateSnapshotProducer {
+
+    private final KafkaTemplate<String, ExchangeRateResponse> kafkaTemplate;
+    private final boolean enabled;
+
+    public ExchangeRateSnapshotProducer(KafkaTemplate<String, ExchangeRateResponse> kafkaTemplate,
+                                        @Value("${exchange.rates.snapshot.publish-enabled:true}") boolean enabled) {
+        this.kafkaTemplate = kafkaTemplate;
+        this.enabled = enabled;
+    }
+
+    public static String snapshotKey(ExchangeRateResponse rate) {
+        return rate.getSourceCurrency().getCode() + "-" + rate.getTargetCurrency().getCode();
+    }
+
+    public void publishSnapshot(ExchangeRateResponse rate) {
+        if (!enabled || rate == null) {
+            return;
+        }
+
+        String key = snapshotKey(rate);
+        try {
+            kafkaTemplate.send(KafkaConstants.EXCHANGE_RATE_SNAPSHOT_TOPIC, key, rate)
+                    .whenComplete((result, ex) -> {
+                        if (ex != null) {
+                            log.warn("Failed to publish rate snapshot {}: {}", key, ex.getMessage());
+                        } else {
+                            log.debug("Published rate snapshot {} = {}", key, rate.getRate());
+                        }
+                    });
+        } catch (Exception e) {
+            log.warn("Failed to publish rate snapshot {}: {}", key, e.getMessage());
+        }
+    }
+}
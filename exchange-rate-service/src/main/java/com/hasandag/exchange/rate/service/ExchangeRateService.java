@@ -3,6 +3,12 @@ package com.hasandag.exchange.rate.service;
 import com.hasandag.exchange.common.dto.ExchangeRateResponse;
 import com.hasandag.exchange.common.enums.Currency;
 
+import java.util.List;
+
 public interface ExchangeRateService {
     ExchangeRateResponse getExchangeRate(Currency sourceCurrency, Currency targetCurrency);
+
+    List<ExchangeRateResponse> getExchangeRateSnapshot(Currency sourceCurrency, List<Currency> targetCurrencies);
+
+    List<ExchangeRateResponse> getExchangeRateMatrix(List<Currency> currencies);
 }
\ No newline at end of file
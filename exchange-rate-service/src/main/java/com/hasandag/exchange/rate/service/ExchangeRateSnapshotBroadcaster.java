@@ -0,0 +1,31 @@
+package com.hasandag.exchange.rate.service;
+
+import com.hasandag.exchange.common.dto.ExchangeRateResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+
+@Component
+@Slf4j
+public class ExchangeRateSnapshotBroadcaster {
+
+    private final Sinks.Many<ExchangeRateResponse> sink = Sinks.many().multicast().directBestEffort();
+
+    public void broadcast(ExchangeRateResponse rate) {
+        if (rate == null) {
+            return;
+        }
+        sink.emitNext(rate, Sinks.EmitFailureHandler.busyLooping(Duration.ofMillis(50)));
+    }
+
+    public Flux<ExchangeRateResponse> updates() {
+        return sink.asFlux();
+    }
+
+    public int subscriberCount() {
+        return sink.currentSubscriberCount();
+    }
+}
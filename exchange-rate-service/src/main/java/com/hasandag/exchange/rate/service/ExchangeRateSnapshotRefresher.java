@@ -0,0 +1,37 @@
+package com.hasandag.exchange.rate.service;
+
+import com.hasandag.exchange.common.enums.Currency;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Republishes every pair on a fixed delay. Lookups only reach the external API (and so the snapshot
+ * topic) on a cache miss, which leaves pairs nobody asks for to age out of the conversion service's
+ * local rate table; the interval must stay below its {@code conversion.rates.local.max-age}. Each round
+ * is one upstream request, with the cross rates derived from that single quote.
+ */
+@Component
+@Slf4j
+@ConditionalOnProperty(name = "exchange.rates.snapshot.publish-enabled", havingValue = "true", matchIfMissing = true)
+public class ExchangeRateSnapshotRefresher {
+
+    private final ExchangeRateService exchangeRateService;
+
+    public ExchangeRateSnapshotRefresher(ExchangeRateService exchangeRateService) {
+        this.exchangeRateService = exchangeRateService;
+    }
+
+    @Scheduled(fixedDelayString = "${exchange.rates.snapshot.refresh-interval:20s}",
+            initialDelayString = "${exchange.rates.snapshot.refresh-initial-delay:5s}")
+    public void refresh() {
+        try {
+            exchangeRateService.getExchangeRateMatrix(List.of(Currency.values()));
+        } catch (Exception e) {
+            log.warn("Failed to refresh rate snapshots: {}", e.getMessage());
+        }
+    }
+}
@@ -3,24 +3,56 @@ package com.hasandag.exchange.rate.service.impl;
 import com.hasandag.exchange.common.dto.ExchangeRateResponse;
 import com.hasandag.exchange.common.client.ExternalExchangeRateClient;
 import com.hasandag.exchange.common.enums.Currency;
+import com.hasandag.exchange.rate.kafka.producer.ExchangeRateSnapshotProducer;
 import com.hasandag.exchange.rate.service.ExchangeRateService;
+import com.hasandag.exchange.rate.service.ExchangeRateSnapshotBroadcaster;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class ExchangeRateServiceImpl implements ExchangeRateService {
     
     private final ExternalExchangeRateClient externalExchangeRateClient;
+    private final ExchangeRateSnapshotProducer snapshotProducer;
+    private final ExchangeRateSnapshotBroadcaster snapshotBroadcaster;
 
     @Override
     @Cacheable(value = "exchangeRates", key = "#sourceCurrency.code + '-' + #targetCurrency.code")
     public ExchangeRateResponse getExchangeRate(Currency sourceCurrency, Currency targetCurrency) {
         log.info("Fetching exchange rate for {} -> {}", sourceCurrency, targetCurrency);
         
-        return externalExchangeRateClient.getExchangeRate(sourceCurrency, targetCurrency);
+        ExchangeRateResponse response = externalExchangeRateClient.getExchangeRate(sourceCurrency, targetCurrency);
+        snapshotProducer.publishSnapshot(response);
+        snapshotBroadcaster.broadcast(response);
+        return response;
+    }
+
+    @Override
+    public List<ExchangeRateResponse> getExchangeRateSnapshot(Currency sourceCurrency, List<Currency> targetCurrencies) {
+        log.info("Fetching exchange rate snapshot for {} -> {}", sourceCurrency, targetCurrencies);
+
+        List<ExchangeRateResponse> responses = externalExchangeRateClient.getExchangeRateSnapshot(sourceCurrency, targetCurrencies);
+        responses.forEach(this::publish);
+        return responses;
+    }
+
+    @Override
+    public List<ExchangeRateResponse> getExchangeRateMatrix(List<Currency> currencies) {
+        log.info("Fetching exchange rate matrix for {}", currencies);
+
+        List<ExchangeRateResponse> responses = externalExchangeRateClient.getExchangeRateMatrix(currencies);
+        responses.forEach(this::publish);
+        return responses;
+    }
+
+    private void publish(ExchangeRateResponse response) {
+        snapshotProducer.publishSnapshot(response);
+        snapshotBroadcaster.broadcast(response);
     }
 } 
\ No newline at end of file
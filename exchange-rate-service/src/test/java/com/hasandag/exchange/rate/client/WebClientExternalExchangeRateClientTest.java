@@ -0,0 +1,77 @@
+package com.hasandag.exchange.rate.client;
+
+import com.hasandag.exchange.common.dto.ExchangeRateResponse;
+import com.hasandag.exchange.common.enums.Currency;
+import com.hasandag.exchange.rate.client.impl.WebClientExternalExchangeRateClient;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WebClientExternalExchangeRateClientTest {
+
+    private static final String BODY = """
+            {"result": "success", "base_code": "USD", "rates": {"USD": 1, "EUR": 0.8, "GBP": 0.5}}
+            """;
+
+    private final AtomicInteger requests = new AtomicInteger();
+
+    private WebClientExternalExchangeRateClient client;
+
+    @BeforeEach
+    void setUp() {
+        WebClient webClient = WebClient.builder()
+                .exchangeFunction(request -> {
+                    requests.incrementAndGet();
+                    return Mono.just(ClientResponse.create(HttpStatus.OK)
+                            .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                            .body(BODY)
+                            .build());
+                })
+                .build();
+        client = new WebClientExternalExchangeRateClient(webClient);
+    }
+
+    @Test
+    @DisplayName("Test a base currency source uses the quoted rate")
+    void testBaseCurrencyRate() {
+        ExchangeRateResponse response = client.getExchangeRate(Currency.USD, Currency.EUR);
+
+        assertEquals(0, new BigDecimal("0.8").compareTo(response.getRate()));
+    }
+
+    @Test
+    @DisplayName("Test a non-base source gets the cross rate")
+    void testCrossRate() {
+        ExchangeRateResponse response = client.getExchangeRate(Currency.EUR, Currency.GBP);
+
+        assertEquals(Currency.EUR, response.getSourceCurrency());
+        assertEquals(0, new BigDecimal("0.625").compareTo(response.getRate()));
+    }
+
+    @Test
+    @DisplayName("Test the matrix covers every pair from a single request")
+    void testMatrixFromOneRequest() {
+        List<ExchangeRateResponse> matrix = client.getExchangeRateMatrix(List.of(Currency.USD, Currency.EUR, Currency.GBP));
+
+        assertEquals(6, matrix.size());
+        assertEquals(1, requests.get());
+        ExchangeRateResponse gbpToUsd = matrix.stream()
+                .filter(rate -> rate.getSourceCurrency() == Currency.GBP && rate.getTargetCurrency() == Currency.USD)
+                .findFirst()
+                .orElseThrow();
+        assertEquals(0, new BigDecimal("2").compareTo(gbpToUsd.getRate()));
+        assertTrue(matrix.stream().allMatch(rate -> rate.getLastUpdated().equals(gbpToUsd.getLastUpdated())));
+    }
+}
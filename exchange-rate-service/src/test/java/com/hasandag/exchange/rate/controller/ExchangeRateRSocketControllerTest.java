@@ -0,0 +1,139 @@
+package com.hasandag.exchange.rate.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.hasandag.exchange.common.constants.ExchangeRateRoutes;
+import com.hasandag.exchange.common.dto.ExchangeRateRequest;
+import com.hasandag.exchange.common.dto.ExchangeRateResponse;
+import com.hasandag.exchange.common.enums.Currency;
+import com.hasandag.exchange.rate.service.ExchangeRateService;
+import com.hasandag.exchange.rate.service.ExchangeRateSnapshotBroadcaster;
+import io.rsocket.core.RSocketServer;
+import io.rsocket.transport.netty.server.CloseableChannel;
+import io.rsocket.transport.netty.server.TcpServerTransport;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.context.support.StaticApplicationContext;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.codec.cbor.Jackson2CborDecoder;
+import org.springframework.http.codec.cbor.Jackson2CborEncoder;
+import org.springframework.messaging.rsocket.RSocketRequester;
+import org.springframework.messaging.rsocket.RSocketStrategies;
+import org.springframework.messaging.rsocket.annotation.support.RSocketMessageHandler;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.mockito.Mockito.when;
+
+class ExchangeRateRSocketControllerTest {
+
+    @Mock
+    private ExchangeRateService exchangeRateService;
+
+    private ExchangeRateSnapshotBroadcaster snapshotBroadcaster;
+    private CloseableChannel server;
+    private RSocketRequester requester;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        MockitoAnnotations.openMocks(this);
+        snapshotBroadcaster = new ExchangeRateSnapshotBroadcaster();
+
+        ObjectMapper cborMapper = CBORMapper.builder().addModule(new JavaTimeModule()).build();
+        RSocketStrategies strategies = RSocketStrategies.builder()
+                .encoder(new Jackson2CborEncoder(cborMapper))
+                .decoder(new Jackson2CborDecoder(cborMapper))
+                .build();
+
+        StaticApplicationContext context = new StaticApplicationContext();
+        context.registerBean(ExchangeRateRSocketController.class,
+                () -> new ExchangeRateRSocketController(exchangeRateService, snapshotBroadcaster));
+        context.refresh();
+
+        RSocketMessageHandler handler = new RSocketMessageHandler();
+        handler.setRSocketStrategies(strategies);
+        handler.setApplicationContext(context);
+        handler.afterPropertiesSet();
+
+        server = RSocketServer.create(handler.responder())
+                .bind(TcpServerTransport.create("localhost", 0))
+                .block();
+        requester = RSocketRequester.builder()
+                .rsocketStrategies(strategies)
+                .tcp("localhost", server.address().getPort());
+    }
+
+    @AfterEach
+    void tearDown() {
+        requester.dispose();
+        server.dispose();
+    }
+
+    @Test
+    void testGetExchangeRate() {
+        when(exchangeRateService.getExchangeRate(Currency.USD, Currency.EUR)).thenReturn(rate(Currency.USD, Currency.EUR, "0.85"));
+
+        ExchangeRateResponse response = requester.route(ExchangeRateRoutes.RATE)
+                .data(ExchangeRateRequest.of(Currency.USD, Currency.EUR))
+                .retrieveMono(ExchangeRateResponse.class)
+                .block(Duration.ofSeconds(5));
+
+        assertNotNull(response);
+        assertEquals(Currency.USD, response.getSourceCurrency());
+        assertEquals(Currency.EUR, response.getTargetCurrency());
+        assertEquals(new BigDecimal("0.85"), response.getRate());
+        assertNotNull(response.getLastUpdated());
+    }
+
+    @Test
+    void testGetExchangeRatesInBatch() {
+        when(exchangeRateService.getExchangeRate(Currency.USD, Currency.EUR)).thenReturn(rate(Currency.USD, Currency.EUR, "0.85"));
+        when(exchangeRateService.getExchangeRate(Currency.USD, Currency.GBP)).thenReturn(rate(Currency.USD, Currency.GBP, "0.74"));
+
+        List<ExchangeRateResponse> responses = requester.route(ExchangeRateRoutes.RATE_BATCH)
+                .data(List.of(ExchangeRateRequest.of(Currency.USD, Currency.EUR), ExchangeRateRequest.of(Currency.USD, Currency.GBP)))
+                .retrieveMono(new ParameterizedTypeReference<List<ExchangeRateResponse>>() {})
+                .block(Duration.ofSeconds(5));
+
+        assertNotNull(responses);
+        assertEquals(2, responses.size());
+        assertEquals(Currency.EUR, responses.get(0).getTargetCurrency());
+        assertEquals(Currency.GBP, responses.get(1).getTargetCurrency());
+    }
+
+    @Test
+    void testStreamExchangeRates() {
+        when(exchangeRateService.getExchangeRate(Currency.USD, Currency.EUR)).thenReturn(rate(Currency.USD, Currency.EUR, "0.85"));
+
+        StepVerifier.create(requester.route(ExchangeRateRoutes.RATE_STREAM)
+                        .data(List.of(ExchangeRateRequest.of(Currency.USD, Currency.EUR)))
+                        .retrieveFlux(ExchangeRateResponse.class))
+                .assertNext(first -> assertEquals(new BigDecimal("0.85"), first.getRate()))
+                .then(() -> {
+                    snapshotBroadcaster.broadcast(rate(Currency.USD, Currency.GBP, "0.74"));
+                    snapshotBroadcaster.broadcast(rate(Currency.USD, Currency.EUR, "0.86"));
+                })
+                .assertNext(update -> assertEquals(new BigDecimal("0.86"), update.getRate()))
+                .thenCancel()
+                .verify(Duration.ofSeconds(5));
+    }
+
+    private ExchangeRateResponse rate(Currency source, Currency target, String rate) {
+        return ExchangeRateResponse.builder()
+                .sourceCurrency(source)
+                .targetCurrency(target)
+                .rate(new BigDecimal(rate))
+                .lastUpdated(LocalDateTime.now())
+                .build();
+    }
+}
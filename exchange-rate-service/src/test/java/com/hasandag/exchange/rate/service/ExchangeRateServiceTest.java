@@ -3,6 +3,7 @@ package com.hasandag.exchange.rate.service;
 import com.hasandag.exchange.common.client.ExternalExchangeRateClient;
 import com.hasandag.exchange.common.dto.ExchangeRateResponse;
 import com.hasandag.exchange.common.enums.Currency;
+import com.hasandag.exchange.rate.kafka.producer.ExchangeRateSnapshotProducer;
 import com.hasandag.exchange.rate.service.impl.ExchangeRateServiceImpl;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -14,6 +15,7 @@ import org.springframework.test.context.ActiveProfiles;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -24,6 +26,12 @@ class ExchangeRateServiceTest {
     @Mock
     private ExternalExchangeRateClient externalExchangeRateClient;
 
+    @Mock
+    private ExchangeRateSnapshotProducer snapshotProducer;
+
+    @Mock
+    private ExchangeRateSnapshotBroadcaster snapshotBroadcaster;
+
     @InjectMocks
     private ExchangeRateServiceImpl exchangeRateService;
 
@@ -55,6 +63,8 @@ class ExchangeRateServiceTest {
         assertEquals(BigDecimal.valueOf(0.85), result.getRate());
         verify(externalExchangeRateClient, times(1))
             .getExchangeRate(sourceCurrency, targetCurrency);
+        verify(snapshotProducer, times(1)).publishSnapshot(mockResponse);
+        verify(snapshotBroadcaster, times(1)).broadcast(mockResponse);
     }
 
     @Test
@@ -78,4 +88,46 @@ class ExchangeRateServiceTest {
         verify(externalExchangeRateClient, times(1))
             .getExchangeRate(sourceCurrency, targetCurrency);
     }
-} 
\ No newline at end of file
+
+    @Test
+    @DisplayName("Test getting a multi-target snapshot from one external call")
+    void testGetExchangeRateSnapshot() {
+        LocalDateTime fetchedAt = LocalDateTime.now();
+        List<Currency> targets = List.of(Currency.EUR, Currency.GBP);
+        List<ExchangeRateResponse> mockResponses = List.of(
+                ExchangeRateResponse.builder().sourceCurrency(Currency.USD).targetCurrency(Currency.EUR)
+                        .rate(BigDecimal.valueOf(0.85)).lastUpdated(fetchedAt).build(),
+                ExchangeRateResponse.builder().sourceCurrency(Currency.USD).targetCurrency(Currency.GBP)
+                        .rate(BigDecimal.valueOf(0.75)).lastUpdated(fetchedAt).build());
+
+        when(externalExchangeRateClient.getExchangeRateSnapshot(Currency.USD, targets))
+                .thenReturn(mockResponses);
+
+        List<ExchangeRateResponse> result = exchangeRateService.getExchangeRateSnapshot(Currency.USD, targets);
+
+        assertEquals(mockResponses, result);
+        verify(externalExchangeRateClient, times(1)).getExchangeRateSnapshot(Currency.USD, targets);
+        verify(externalExchangeRateClient, never()).getExchangeRate(any(), any());
+        verify(snapshotProducer, times(2)).publishSnapshot(any());
+        verify(snapshotBroadcaster, times(2)).broadcast(any());
+    }
+
+    @Test
+    @DisplayName("Test publishing every rate of the matrix")
+    void testGetExchangeRateMatrix() {
+        List<Currency> currencies = List.of(Currency.USD, Currency.EUR);
+        List<ExchangeRateResponse> mockResponses = List.of(
+                ExchangeRateResponse.builder().sourceCurrency(Currency.USD).targetCurrency(Currency.EUR)
+                        .rate(new BigDecimal("0.85")).lastUpdated(LocalDateTime.now()).build(),
+                ExchangeRateResponse.builder().sourceCurrency(Currency.EUR).targetCurrency(Currency.USD)
+                        .rate(new BigDecimal("1.176470588235294")).lastUpdated(LocalDateTime.now()).build());
+        when(externalExchangeRateClient.getExchangeRateMatrix(currencies)).thenReturn(mockResponses);
+
+        List<ExchangeRateResponse> result = exchangeRateService.getExchangeRateMatrix(currencies);
+
+        assertEquals(mockResponses, result);
+        verify(externalExchangeRateClient, times(1)).getExchangeRateMatrix(currencies);
+        verify(snapshotProducer, times(2)).publishSnapshot(any());
+        verify(snapshotBroadcaster, times(2)).broadcast(any());
+    }
+}
@@ -0,0 +1,46 @@
+package com.hasandag.exchange.rate.service;
+
+import com.hasandag.exchange.common.enums.Currency;
+import com.hasandag.exchange.common.exception.RateServiceException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ExchangeRateSnapshotRefresherTest {
+
+    @Mock
+    private ExchangeRateService exchangeRateService;
+
+    private ExchangeRateSnapshotRefresher refresher;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        refresher = new ExchangeRateSnapshotRefresher(exchangeRateService);
+    }
+
+    @Test
+    @DisplayName("Test refreshing every pair from one matrix lookup")
+    void testRefreshEveryPairOnce() {
+        refresher.refresh();
+
+        verify(exchangeRateService, times(1)).getExchangeRateMatrix(List.of(Currency.values()));
+        verify(exchangeRateService, never()).getExchangeRateSnapshot(any(), anyList());
+    }
+
+    @Test
+    @DisplayName("Test a failing round does not propagate")
+    void testSwallowFailure() {
+        when(exchangeRateService.getExchangeRateMatrix(anyList()))
+                .thenThrow(new RateServiceException("API down"));
+
+        assertDoesNotThrow(() -> refresher.refresh());
+    }
+}